@@ -1,5 +1,6 @@
 package com.MicroServices.JobApp.Configrations;
 
+import com.MicroServices.JobApp.Constant.EmploymentType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -14,7 +15,13 @@ public class AppConfig {
     // ✅ Used for mapping DTOs ↔ Entities (very useful in layered architecture)
     @Bean
     public ModelMapper modelMapper() {
-        return new ModelMapper();
+        ModelMapper modelMapper = new ModelMapper();
+        // Job.employmentType is an enum, the DTOs carry its label
+        modelMapper.addConverter(context -> context.getSource() == null ? null : EmploymentType.fromLabel(context.getSource()),
+                String.class, EmploymentType.class);
+        modelMapper.addConverter(context -> context.getSource() == null ? null : context.getSource().name(),
+                EmploymentType.class, String.class);
+        return modelMapper;
     }
 
     // ✅ Global ObjectMapper configuration for JSON serialization/deserialization
@@ -0,0 +1,50 @@
+package com.MicroServices.JobApp.Configrations;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * In-process caches backed by Caffeine (W-TinyLFU admission and eviction).
+ * <p>
+ * Every cache records statistics, so hits, misses and evictions show up under the
+ * actuator {@code cache.*} metrics (e.g. {@code /actuator/metrics/cache.gets?tag=name:jobById}).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Mapped JobDTOs by job id, invalidated on every job write
+    public static final String JOB_BY_ID_CACHE = "jobById";
+
+    // Filter results keyed by generation + canonical JobFilter (see JobFilterResultCache)
+    public static final String JOB_FILTER_CACHE = "jobFilterResults";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.job-by-id.maximum-size:10000}") long jobByIdMaximumSize,
+                                     @Value("${app.cache.job-by-id.ttl:10m}") Duration jobByIdTtl,
+                                     @Value("${app.cache.job-filter.maximum-jobs:50000}") long jobFilterMaximumJobs,
+                                     @Value("${app.cache.job-filter.ttl:30s}") Duration jobFilterTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(JOB_BY_ID_CACHE, Caffeine.newBuilder()
+                .maximumSize(jobByIdMaximumSize)
+                .expireAfterWrite(jobByIdTtl)
+                .recordStats()
+                .build());
+        // Weighed by result size, so the bound is on cached jobs rather than on filter combinations
+        cacheManager.registerCustomCache(JOB_FILTER_CACHE, Caffeine.newBuilder()
+                .maximumWeight(jobFilterMaximumJobs)
+                .weigher((Object key, Object value) -> value instanceof List<?> list ? list.size() + 1 : 1)
+                .expireAfterWrite(jobFilterTtl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
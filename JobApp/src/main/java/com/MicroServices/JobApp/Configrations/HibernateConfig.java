@@ -0,0 +1,28 @@
+package com.MicroServices.JobApp.Configrations;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate settings that are part of the application rather than the environment.
+ * <p>
+ * Inserts and updates are sent as JDBC batches, ordered by entity so that a chunk of jobs becomes
+ * one batched statement. Ids come from the per-entity sequences (allocation size 50) through the
+ * pooled optimizer, so a batch of 50 new rows costs a single {@code nextval} round-trip.
+ */
+@Configuration
+public class HibernateConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateBatchingCustomizer(@Value("${app.jobs.bulk.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled");
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.MicroServices.JobApp.Configrations;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (e.g. job expiry).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
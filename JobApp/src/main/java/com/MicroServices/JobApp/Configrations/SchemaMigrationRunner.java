@@ -0,0 +1,91 @@
+package com.MicroServices.JobApp.Configrations;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Applies the versioned SQL scripts under {@code classpath:db/migration} ({@code V<n>__<name>.sql}).
+ * <p>
+ * Tables are still created by Hibernate ({@code ddl-auto=update}); these scripts cover what
+ * Hibernate cannot express (extensions, GIN/expression indexes, data backfills, triggers).
+ * They run after the JPA schema update, in version order, each one in its own transaction,
+ * and are recorded in {@code schema_migration_history} so they are applied only once.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SchemaMigrationRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrationRunner.class);
+    private static final Pattern SCRIPT_NAME = Pattern.compile("^V(\\d+)__.+\\.sql$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ResourcePatternResolver resourcePatternResolver;
+
+    public SchemaMigrationRunner(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 ResourcePatternResolver resourcePatternResolver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.resourcePatternResolver = resourcePatternResolver;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_migration_history ("
+                + "script VARCHAR(255) PRIMARY KEY, applied_at TIMESTAMP NOT NULL DEFAULT now())");
+        Set<String> appliedScripts = new HashSet<>(
+                jdbcTemplate.queryForList("SELECT script FROM schema_migration_history", String.class));
+
+        Resource[] scripts = resourcePatternResolver.getResources("classpath*:db/migration/*.sql");
+        Arrays.sort(scripts, Comparator.comparingInt(SchemaMigrationRunner::version));
+        for (Resource script : scripts) {
+            String scriptName = script.getFilename();
+            if (appliedScripts.contains(scriptName)) {
+                continue;
+            }
+            log.info("Applying schema migration {}", scriptName);
+            String sql = readScript(script);
+            transactionTemplate.executeWithoutResult(status -> {
+                // The PostgreSQL driver runs multi-statement scripts (including $$ blocks) in one call
+                jdbcTemplate.execute(sql);
+                jdbcTemplate.update("INSERT INTO schema_migration_history (script) VALUES (?)", scriptName);
+            });
+        }
+    }
+
+    private static int version(Resource script) {
+        Matcher matcher = SCRIPT_NAME.matcher(String.valueOf(script.getFilename()));
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Migration script must be named V<version>__<name>.sql: " + script.getFilename());
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static String readScript(Resource script) {
+        try {
+            return script.getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read migration script " + script.getFilename(), e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.MicroServices.JobApp.Configrations;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Timeout of async requests that do not set their own, notably the NDJSON job export (StreamingResponseBody).
+ * <p>
+ * Without it the export is cut off at the servlet container's default or never times out, depending on the
+ * environment. Same property as Spring Boot's, with a default long enough for a full export; SSE streams keep
+ * their own timeout ({@code app.jobs.feed.timeout}).
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final Duration requestTimeout;
+
+    public WebAsyncConfig(@Value("${spring.mvc.async.request-timeout:PT30M}") Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(requestTimeout.toMillis());
+    }
+}
@@ -1,7 +1,87 @@
 package com.MicroServices.JobApp.Constant;
 
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Employment type of a job, stored as a smallint {@link #getCode() code} (see {@code EmploymentTypeConverter}).
+ * <p>
+ * Codes are persisted, so existing ones must never change; new types get the next free code.
+ * Labels are normalised on input, so "Full-Time", "full time" and "FULL_TIME" are the same type.
+ */
 public enum EmploymentType {
-    FULL_TIME,
-    PART_TIME,
-    CONTRACT
+    OTHER(0),
+    FULL_TIME(1),
+    PART_TIME(2),
+    CONTRACT(3),
+    INTERNSHIP(4),
+    TEMPORARY(5);
+
+    // Separator between values of a multi-select filter, e.g. "FULL_TIME|CONTRACT"
+    public static final String SELECTION_SEPARATOR = "|";
+
+    private static final EmploymentType[] BY_CODE = new EmploymentType[values().length];
+
+    static {
+        for (EmploymentType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final short code;
+
+    EmploymentType(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    // Bit of this type in a selection mask
+    public int getMask() {
+        return 1 << code;
+    }
+
+    public static EmploymentType fromCode(short code) {
+        if (code < 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalArgumentException("Unknown employment type code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    public static EmploymentType fromLabel(String label) {
+        if (label == null || label.isBlank()) {
+            throw new IllegalArgumentException("Employment type is required");
+        }
+        String normalized = label.trim().toUpperCase(Locale.ROOT).replaceAll("[\\s\\-]+", "_");
+        for (EmploymentType type : values()) {
+            if (type.name().equals(normalized) || type.name().replace("_", "").equals(normalized)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown employment type: " + label
+                + " (expected one of FULL_TIME, PART_TIME, CONTRACT, INTERNSHIP, TEMPORARY, OTHER)");
+    }
+
+    /**
+     * Parses a single type or a multi-select such as "FULL_TIME|CONTRACT".
+     */
+    public static Set<EmploymentType> parseSelection(String selection) {
+        Set<EmploymentType> types = EnumSet.noneOf(EmploymentType.class);
+        // -1 keeps trailing empty labels, so "FULL_TIME|" is rejected like "|FULL_TIME"
+        for (String label : selection.split("\\" + SELECTION_SEPARATOR, -1)) {
+            types.add(fromLabel(label));
+        }
+        return types;
+    }
+
+    public static int toMask(Set<EmploymentType> types) {
+        int mask = 0;
+        for (EmploymentType type : types) {
+            mask |= type.getMask();
+        }
+        return mask;
+    }
 }
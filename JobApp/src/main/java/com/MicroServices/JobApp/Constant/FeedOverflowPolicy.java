@@ -0,0 +1,34 @@
+package com.MicroServices.JobApp.Constant;
+
+/**
+ * What the live job feed does when a subscriber falls so far behind that its send buffer is full.
+ */
+public enum FeedOverflowPolicy {
+    /**
+     * Discard the oldest buffered events; the subscriber is told how many it missed with a {@code dropped} event.
+     */
+    DROP_OLDEST("drop"),
+    /**
+     * Close the stream; the client reconnects and resynchronizes (e.g. from the change feed).
+     */
+    DISCONNECT("disconnect");
+
+    private final String paramName;
+
+    FeedOverflowPolicy(String paramName) {
+        this.paramName = paramName;
+    }
+
+    public String getParamName() {
+        return paramName;
+    }
+
+    public static FeedOverflowPolicy fromParamName(String paramName) {
+        for (FeedOverflowPolicy policy : values()) {
+            if (policy.paramName.equalsIgnoreCase(paramName) || policy.name().equalsIgnoreCase(paramName)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown overflow policy: " + paramName + " (expected drop or disconnect)");
+    }
+}
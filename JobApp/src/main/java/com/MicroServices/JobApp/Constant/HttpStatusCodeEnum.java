@@ -12,6 +12,7 @@ public enum HttpStatusCodeEnum {
     NOT_FOUND(HttpStatus.NOT_FOUND),
     FOUND(HttpStatus.FOUND),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED),
+    PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR),
     SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE);
 
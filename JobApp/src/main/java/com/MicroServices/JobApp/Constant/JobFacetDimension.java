@@ -0,0 +1,29 @@
+package com.MicroServices.JobApp.Constant;
+
+/**
+ * Dimensions the job facet endpoint can count by; {@link #getParamName()} is the name used in requests and responses.
+ */
+public enum JobFacetDimension {
+    EMPLOYMENT_TYPE("employmentType"),
+    LOCATION("location"),
+    EXPERIENCE("experience");
+
+    private final String paramName;
+
+    JobFacetDimension(String paramName) {
+        this.paramName = paramName;
+    }
+
+    public String getParamName() {
+        return paramName;
+    }
+
+    public static JobFacetDimension fromParamName(String paramName) {
+        for (JobFacetDimension dimension : values()) {
+            if (dimension.paramName.equalsIgnoreCase(paramName) || dimension.name().equalsIgnoreCase(paramName)) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("Unknown facet: " + paramName + " (expected employmentType, location or experience)");
+    }
+}
@@ -0,0 +1,39 @@
+package com.MicroServices.JobApp.Constant;
+
+/**
+ * Orders the paginated review listing can use; {@link #getParamName()} is the name used in requests. Every order ends
+ * with the review id, so it is total and a cursor always resumes at the right row.
+ */
+public enum ReviewSort {
+    /**
+     * Newest first (id descending).
+     */
+    RECENT("recent"),
+    /**
+     * Highest rating first, newest first within a rating.
+     */
+    RATING_DESC("rating_desc"),
+    /**
+     * Lowest rating first, oldest first within a rating (the same index read forwards).
+     */
+    RATING_ASC("rating_asc");
+
+    private final String paramName;
+
+    ReviewSort(String paramName) {
+        this.paramName = paramName;
+    }
+
+    public String getParamName() {
+        return paramName;
+    }
+
+    public static ReviewSort fromParamName(String paramName) {
+        for (ReviewSort sort : values()) {
+            if (sort.paramName.equalsIgnoreCase(paramName) || sort.name().equalsIgnoreCase(paramName)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unknown review sort: " + paramName + " (expected recent, rating_desc or rating_asc)");
+    }
+}
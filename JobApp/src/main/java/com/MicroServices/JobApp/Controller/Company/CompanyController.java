@@ -2,19 +2,31 @@ package com.MicroServices.JobApp.Controller.Company;
 
 import com.MicroServices.JobApp.Constant.HttpStatusCodeEnum;
 import com.MicroServices.JobApp.Dto.Company.CompanyDTO;
+import com.MicroServices.JobApp.Dto.Company.CompanyFilter;
+import com.MicroServices.JobApp.Dto.Company.CompanyStatsDTO;
+import com.MicroServices.JobApp.Dto.Company.CompanyWithJobsDTO;
+import com.MicroServices.JobApp.Helper.CursorPage;
+import com.MicroServices.JobApp.Helper.ResourceVersion;
 import com.MicroServices.JobApp.Helper.SuccessResponse;
 import com.MicroServices.JobApp.Services.Impl.Company.CompanyServices;
+import com.MicroServices.JobApp.Services.Impl.Company.CompanyStatsServices;
+import com.MicroServices.JobApp.Utils.VersionETag;
 import jakarta.validation.constraints.Min;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.slf4j.Logger;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Controller for managing company-related operations such as creation, updating, fetching, and deletion.
@@ -26,10 +38,13 @@ import java.util.List;
  * <p>
  * Endpoints:
  * - POST /addcompany: Creates a new company (ADMIN role required).
- * - GET /getCompany/{companyId}: Fetches a company by its ID (MANAGER role required).
- * - GET /getallCompany: Fetches all companies (MANAGER role required).
- * - PUT /updatecompany/{companyId}: Updates an existing company by ID (ADMIN role required).
- * - PATCH /updateCompanySomefileds/{companyId}: Partially updates a company (ADMIN role required).
+ * - GET /getCompany/{companyId}: Fetches a company by its ID, honouring If-None-Match / If-Modified-Since; ?include=jobs adds its jobs (MANAGER role required).
+ * - GET /getallCompany: Fetches all companies without their jobs; ?include=jobs adds them (MANAGER role required).
+ * - GET /stats/{companyId}: Fetches a company's open job count, review count and average rating (MANAGER role required).
+ * - GET /stats?ids=1,2: Fetches the stats of up to 100 companies in one request (MANAGER role required).
+ * - GET /search: Filters companies, keyset paged by default or offset paged with page (MANAGER role required).
+ * - PUT /updatecompany/{companyId}: Updates an existing company by ID, conditional on If-Match (ADMIN role required).
+ * - PATCH /updateCompanySomefileds/{companyId}: Partially updates a company, conditional on If-Match (ADMIN role required).
  * - DELETE /delete/{companyId}: Deletes a company by ID (ADMIN role required).
  */
 @RestController
@@ -37,11 +52,13 @@ import java.util.List;
 public class CompanyController {
 
     private final CompanyServices companyServices;
+    private final CompanyStatsServices companyStatsServices;
     private static final Logger log = LoggerFactory.getLogger(CompanyController.class);
 
     @Autowired
-    public CompanyController(CompanyServices companyServices) {
+    public CompanyController(CompanyServices companyServices, CompanyStatsServices companyStatsServices) {
         this.companyServices = companyServices;
+        this.companyStatsServices = companyStatsServices;
     }
 
     /**
@@ -68,17 +85,38 @@ public class CompanyController {
     }
 
     /**
-     * Fetches a company by its ID.
+     * Fetches a company by its ID. The company's version is returned as the ETag, with Last-Modified; a matching
+     * If-None-Match / If-Modified-Since is answered with 304 from a version-only query. With include=jobs the
+     * company's jobs are fetched in the same query and returned as listings; that response is not conditional,
+     * since job writes do not change the company's version.
      *
-     * @param companyId The company ID to search for.
-     * @return ResponseEntity containing the company details.
+     * @param companyId  The company ID to search for.
+     * @param include    Optional related data to include; only "jobs" is supported.
+     * @param webRequest The request, for its conditional headers.
+     * @return ResponseEntity containing the company details, or 304 Not Modified.
      * <p>
      * Role Required: MANAGER
      */
     @PreAuthorize("hasRole('MANAGER')")
     @GetMapping("/getCompany/{companyId}")
-    private ResponseEntity<Object> getCompanyByCompanyId(@PathVariable @Min(1) Integer companyId) {
+    private ResponseEntity<Object> getCompanyByCompanyId(@PathVariable @Min(1) Integer companyId, @RequestParam(required = false) String include,
+                                                         WebRequest webRequest) {
         log.info("GetByCompanyId is calling and CompanyId is :-{}", companyId);
+        if (includesJobs(include)) {
+            CompanyWithJobsDTO companyWithJobsDTO = companyServices.getCompanyWithJobsByCompanyId(companyId);
+            SuccessResponse<CompanyWithJobsDTO> successResponse = new SuccessResponse<>(
+                    HttpStatusCodeEnum.FOUND,
+                    "Fetched the Company Based on CompanyId",
+                    companyWithJobsDTO,
+                    LocalDateTime.now()
+            );
+            return ResponseEntity.ok(successResponse);
+        }
+        ResourceVersion resourceVersion = companyServices.getCompanyVersion(companyId);
+        if (webRequest.checkNotModified(resourceVersion.getETag(), resourceVersion.getLastModifiedMillis())) {
+            log.debug("Company {} not modified", companyId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         log.debug("Calling Services layer to get the company based on company Id...");
         CompanyDTO companyDTO = companyServices.getCompanyByCompanyId(companyId);
         SuccessResponse<CompanyDTO> successResponse = new SuccessResponse<>(
@@ -87,21 +125,33 @@ public class CompanyController {
                 companyDTO,
                 LocalDateTime.now()
         );
-        return ResponseEntity.ok(successResponse);
+        return withValidators(ResponseEntity.ok(), companyDTO).body(successResponse);
     }
 
     /**
-     * Fetches all companies.
+     * Fetches all companies. By default only the company columns are read, in a single query; include=jobs also
+     * returns each company's jobs as listings, fetched in the same query.
      *
+     * @param include Optional related data to include; only "jobs" is supported.
      * @return ResponseEntity containing a list of all companies.
      * <p>
      * Role Required: MANAGER
      */
     @PreAuthorize("hasRole('MANAGER')")
     @GetMapping("/getallCompany")
-    private ResponseEntity<Object> getAllCompany() {
+    private ResponseEntity<Object> getAllCompany(@RequestParam(required = false) String include) {
         log.info("GetAllCompany is calling...");
         log.debug("Calling Services layer to get all companies...");
+        if (includesJobs(include)) {
+            List<CompanyWithJobsDTO> companyWithJobsDTOS = companyServices.getAllCompanyWithJobs();
+            SuccessResponse<List<CompanyWithJobsDTO>> successResponse = new SuccessResponse<>(
+                    HttpStatusCodeEnum.FOUND,
+                    "Fetched all the companies",
+                    companyWithJobsDTOS,
+                    LocalDateTime.now()
+            );
+            return ResponseEntity.ok(successResponse);
+        }
         List<CompanyDTO> companyDTOS = companyServices.getAllCompany();
         SuccessResponse<List<CompanyDTO>> successResponse = new SuccessResponse<>(
                 HttpStatusCodeEnum.FOUND,
@@ -112,51 +162,117 @@ public class CompanyController {
         return ResponseEntity.ok(successResponse);
     }
 
+    /**
+     * Fetches a company's summary for company cards: open job count, review count and average rating, read from
+     * the precomputed stats with a single lookup.
+     *
+     * @param companyId The company ID.
+     * @return ResponseEntity containing the company stats.
+     * <p>
+     * Role Required: MANAGER
+     */
+    @PreAuthorize("hasRole('MANAGER')")
+    @GetMapping("/stats/{companyId}")
+    public ResponseEntity<Object> getCompanyStats(@PathVariable @Min(1) Long companyId) {
+        CompanyStatsDTO companyStatsDTO = companyStatsServices.getCompanyStats(companyId);
+        SuccessResponse<CompanyStatsDTO> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Company stats fetched successfully", companyStatsDTO, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Fetches the summaries of several companies in one query, e.g. for a page of company cards. Unknown ids are
+     * left out of the result.
+     *
+     * @param ids The company IDs, comma-separated (at most 100).
+     * @return ResponseEntity containing the stats of the companies found, by company ID.
+     * <p>
+     * Role Required: MANAGER
+     */
+    @PreAuthorize("hasRole('MANAGER')")
+    @GetMapping("/stats")
+    public ResponseEntity<Object> getCompanyStatsBatch(@RequestParam List<Long> ids) {
+        List<CompanyStatsDTO> companyStatsDTOS = companyStatsServices.getCompanyStats(ids);
+        SuccessResponse<List<CompanyStatsDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Company stats fetched successfully", companyStatsDTOS, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Searches the company directory by industry, name prefix, founded year and employee count ranges and active
+     * flag, in id order.
+     * <p>
+     * By default the result is keyset paged: pass the returned nextCursor as after to get the next page, at the
+     * same cost however deep. With page set the response is a Page with the total count instead.
+     *
+     * @param filter The filter criteria and paging (after, size, page).
+     * @return ResponseEntity containing a cursor page, or a page with totals.
+     * <p>
+     * Role Required: MANAGER
+     */
+    @PreAuthorize("hasRole('MANAGER')")
+    @GetMapping("/search")
+    public ResponseEntity<Object> searchCompanies(CompanyFilter filter) {
+        log.info("Searching companies...");
+        if (filter.isPaged()) {
+            Page<CompanyDTO> companyDTOPage = companyServices.getCompaniesPage(filter);
+            SuccessResponse<Page<CompanyDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Companies fetched successfully", companyDTOPage, LocalDateTime.now());
+            return ResponseEntity.ok(successResponse);
+        }
+        CursorPage<CompanyDTO> companyDTOCursorPage = companyServices.searchCompanies(filter);
+        SuccessResponse<CursorPage<CompanyDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Companies fetched successfully", companyDTOCursorPage, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
     /**
      * Updates an existing company by its ID.
+     * <p>
+     * With If-Match the update only succeeds if the company still has that version (ETag), otherwise 412.
      *
      * @param companyId  The company ID to update.
      * @param companyDTO The new company data.
+     * @param ifMatch    The ETag the update is conditional on (optional).
      * @return ResponseEntity with the updated company details.
      * <p>
      * Role Required: ADMIN
      */
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/updatecompany/{companyId}")
-    private ResponseEntity<Object> updateCompanyBasedOnId(@PathVariable @Min(1) Integer companyId, @RequestBody CompanyDTO companyDTO) {
+    private ResponseEntity<Object> updateCompanyBasedOnId(@PathVariable @Min(1) Integer companyId, @RequestBody CompanyDTO companyDTO,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating the Company with companyId: {}", companyId);
         log.debug("Calling Services layer for company update...");
-        CompanyDTO updatedCompanyDTO = companyServices.updateTheCompanyById(companyId, companyDTO);
+        CompanyDTO updatedCompanyDTO = companyServices.updateTheCompanyById(companyId, companyDTO, VersionETag.parseIfMatch(ifMatch));
         SuccessResponse<CompanyDTO> successResponse = new SuccessResponse<>(
                 HttpStatusCodeEnum.OK,
                 "Company updated successfully",
                 updatedCompanyDTO,
                 LocalDateTime.now()
         );
-        return ResponseEntity.ok(successResponse);
+        return withValidators(ResponseEntity.ok(), updatedCompanyDTO).body(successResponse);
     }
 
     /**
-     * Partially updates a company.
+     * Partially updates a company, conditionally on If-Match like PUT.
      *
      * @param companyId             The company ID to update.
      * @param updatedCompanyDetails The fields to be updated.
+     * @param ifMatch               The ETag the update is conditional on (optional).
      * @return ResponseEntity with the updated company data.
      * <p>
      * Role Required: ADMIN
      */
     @PreAuthorize("hasRole('ADMIN')")
     @PatchMapping("/updateCompanySomefileds/{companyId}")
-    private ResponseEntity<Object> partiallyUpdateCompany(@PathVariable int companyId, @RequestBody HashMap<String, Object> updatedCompanyDetails) {
+    private ResponseEntity<Object> partiallyUpdateCompany(@PathVariable int companyId, @RequestBody HashMap<String, Object> updatedCompanyDetails,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Patch Request to partially update company with ID:-{}", companyId);
-        CompanyDTO companyDTO = companyServices.partialUpdateCompany(companyId, updatedCompanyDetails);
+        CompanyDTO companyDTO = companyServices.partialUpdateCompany(companyId, updatedCompanyDetails, VersionETag.parseIfMatch(ifMatch));
         SuccessResponse<CompanyDTO> successResponse = new SuccessResponse<>(
                 HttpStatusCodeEnum.OK,
                 "Company updated partially",
                 companyDTO,
                 LocalDateTime.now()
         );
-        return ResponseEntity.ok(successResponse);
+        return withValidators(ResponseEntity.ok(), companyDTO).body(successResponse);
     }
 
     /**
@@ -179,4 +295,26 @@ public class CompanyController {
         );
         return ResponseEntity.ok(successResponse);
     }
+
+    // ETag (version) and Last-Modified of a company response
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, CompanyDTO companyDTO) {
+        builder.eTag(VersionETag.of(companyDTO.getVersion()));
+        if (companyDTO.getUpdatedAt() != null) {
+            builder.lastModified(companyDTO.getUpdatedAt());
+        }
+        return builder;
+    }
+
+    // Comma-separated ?include values; unknown ones are rejected (400) rather than silently ignored
+    private static boolean includesJobs(String include) {
+        if (include == null || include.isBlank()) {
+            return false;
+        }
+        for (String value : include.split(",")) {
+            if (!"jobs".equals(value.trim().toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Unknown include: " + value.trim() + " (expected jobs)");
+            }
+        }
+        return true;
+    }
 }
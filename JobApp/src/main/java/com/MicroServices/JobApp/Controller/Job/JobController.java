@@ -1,23 +1,52 @@
 package com.MicroServices.JobApp.Controller.Job;
 
 import com.MicroServices.JobApp.Constant.HttpStatusCodeEnum;
+import com.MicroServices.JobApp.Constant.JobFacetDimension;
+import com.MicroServices.JobApp.Dto.Company.CompanyDTO;
+import com.MicroServices.JobApp.Dto.Job.BulkJobResponse;
+import com.MicroServices.JobApp.Dto.Job.FacetCount;
+import com.MicroServices.JobApp.Dto.Job.JobChangePage;
 import com.MicroServices.JobApp.Dto.Job.JobDTO;
 import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Dto.Job.JobListingDTO;
+import com.MicroServices.JobApp.Dto.Job.JobSearchHit;
+import com.MicroServices.JobApp.Helper.CollectionVersion;
+import com.MicroServices.JobApp.Helper.CursorPage;
+import com.MicroServices.JobApp.Helper.ResourceVersion;
 import com.MicroServices.JobApp.Helper.SuccessResponse;
+import com.MicroServices.JobApp.Services.Impl.Job.JobBulkServices;
+import com.MicroServices.JobApp.Services.Impl.Job.JobChangeServices;
+import com.MicroServices.JobApp.Services.Impl.Job.JobExportServices;
+import com.MicroServices.JobApp.Services.Impl.Job.JobFacetServices;
+import com.MicroServices.JobApp.Services.Impl.Job.JobLiveFeedServices;
+import com.MicroServices.JobApp.Services.Impl.Job.JobSearchServices;
 import com.MicroServices.JobApp.Services.Impl.Job.JobServicesImpl;
+import com.MicroServices.JobApp.Utils.VersionETag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * JobController handles job-related operations such as creation, retrieval, update, deletion, and filtering.
@@ -29,24 +58,54 @@ import java.util.List;
  * <p>
  * Endpoints:
  * - POST /addjob: Creates a new job (ADMIN role required).
- * - GET /getJob/{jobId}: Fetches a job by its ID (USER role required).
+ * - POST /addjobs/bulk: Creates jobs in bulk from a JSON array or an NDJSON stream (ADMIN role required).
+ * - GET /getJob/{jobId}: Fetches a job by its ID, honouring If-None-Match / If-Modified-Since (USER role required).
  * - GET /getAlljobs: Fetches all jobs (USER role required).
- * - PUT /updatejob/{jobId}: Updates an existing job by ID (ADMIN role required).
- * - PATCH /updatejobsomefilds/{jobId}: Partially updates a job (ADMIN role required).
+ * - GET /changes: Job inserts, updates and deletes after a watermark, paged, for delta sync (USER role required).
+ * - GET /stream: Server-Sent Events of created, updated and expired jobs matching a filter (USER role required).
+ * - GET /export: Streams all jobs as NDJSON with constant memory (USER role required).
+ * - PUT /updatejob/{jobId}: Updates an existing job by ID, conditional on If-Match (ADMIN role required).
+ * - PATCH /updatejobsomefilds/{jobId}: Partially updates a job, conditional on If-Match (ADMIN role required).
  * - DELETE /deletejobById/{jobId}: Deletes a job by ID (ADMIN role required).
- * - GET /: Fetches a paginated list of jobs (USER role required).
- * - GET /filter: Filters jobs based on given criteria (USER role required).
+ * - GET /: Fetches a paginated list of jobs, honouring If-None-Match / If-Modified-Since (USER role required).
+ * - GET /scroll: Fetches jobs with keyset (cursor) pagination, newest first (USER role required).
+ * - GET /filter: Filters jobs based on given criteria, optionally paged and sorted (USER role required).
+ * - GET /listings: Fetches a paginated list of flat job listings (USER role required).
+ * - GET /listings/all: Fetches all jobs as flat listings (USER role required).
+ * - GET /listings/filter: Filters jobs and returns flat listings (USER role required).
+ * - GET /facets: Counts the filtered jobs per employment type, location and experience bucket (USER role required).
+ * - GET /closest: Fuzzy, similarity-ranked matches on location or title (USER role required).
+ * - GET /search: Ranked full-text search with the same filters (USER role required).
+ * - POST /admin/reindex: Rebuilds the job search index from the database (ADMIN role required).
  */
 @RestController
 @RequestMapping("/api/jobs")
 public class JobController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    // Set on an unpaged /filter response that was cut at the server-side cap
+    private static final String RESULT_TRUNCATED_HEADER = "X-Result-Truncated";
+
     private final JobServicesImpl jobServices;
+    private final JobExportServices jobExportServices;
+    private final JobSearchServices jobSearchServices;
+    private final JobBulkServices jobBulkServices;
+    private final JobFacetServices jobFacetServices;
+    private final JobChangeServices jobChangeServices;
+    private final JobLiveFeedServices jobLiveFeedServices;
     private static final Logger log = LoggerFactory.getLogger(JobController.class);
 
     @Autowired
-    public JobController(JobServicesImpl jobServices) {
+    public JobController(JobServicesImpl jobServices, JobExportServices jobExportServices, JobSearchServices jobSearchServices,
+                         JobBulkServices jobBulkServices, JobFacetServices jobFacetServices, JobChangeServices jobChangeServices,
+                         JobLiveFeedServices jobLiveFeedServices) {
         this.jobServices = jobServices;
+        this.jobExportServices = jobExportServices;
+        this.jobSearchServices = jobSearchServices;
+        this.jobBulkServices = jobBulkServices;
+        this.jobFacetServices = jobFacetServices;
+        this.jobChangeServices = jobChangeServices;
+        this.jobLiveFeedServices = jobLiveFeedServices;
     }
 
     /**
@@ -69,23 +128,72 @@ public class JobController {
         return ResponseEntity.status(HttpStatus.CREATED).body(successResponse);
     }
 
+    /**
+     * Creates jobs in bulk from a JSON array.
+     * <p>
+     * Items are validated individually and inserted in JDBC batches; invalid or rejected items are
+     * reported in the response without failing the rest of the request.
+     *
+     * @param jobDTOList The jobs to be created.
+     * @return ResponseEntity containing the per-item results.
+     * <p>
+     * Role Required: ADMIN
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/addjobs/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Object> createJobsInBulk(@RequestBody List<JobDTO> jobDTOList) {
+        log.info("Bulk job creation requested:- {} items", jobDTOList.size());
+        BulkJobResponse bulkJobResponse = jobBulkServices.saveJobs(jobDTOList);
+        SuccessResponse<BulkJobResponse> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Bulk job creation completed", bulkJobResponse, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Creates jobs in bulk from an NDJSON stream (one JobDTO per line).
+     * <p>
+     * The body is read incrementally, so feeds of any size are ingested without buffering the whole request.
+     *
+     * @param request The HTTP request whose body is the NDJSON stream.
+     * @return ResponseEntity containing the per-item results.
+     * <p>
+     * Role Required: ADMIN
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/addjobs/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<Object> createJobsInBulkFromStream(HttpServletRequest request) throws IOException {
+        log.info("Bulk job creation requested from NDJSON stream");
+        BulkJobResponse bulkJobResponse = jobBulkServices.saveJobs(request.getInputStream());
+        SuccessResponse<BulkJobResponse> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Bulk job creation completed", bulkJobResponse, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
     /**
      * Fetches a job by its ID.
      *
-     * @param jobId The ID of the job to fetch.
-     * @return ResponseEntity containing the job data.
+     * The job's version is returned as the ETag, to be sent back as If-Match on PUT/PATCH, together with
+     * Last-Modified. A matching If-None-Match / If-Modified-Since is answered with 304 from a version-only query,
+     * without loading or mapping the job.
+     *
+     * @param jobId      The ID of the job to fetch.
+     * @param webRequest The request, for its conditional headers.
+     * @return ResponseEntity containing the job data, or 304 Not Modified.
      * <p>
      * Role Required: USER
      */
     @PreAuthorize("hasRole('USER')")
     @GetMapping("/getJob/{jobId}")
-    public ResponseEntity<Object> getJobByJobId(@PathVariable @Min(1) Integer jobId) {
+    public ResponseEntity<Object> getJobByJobId(@PathVariable @Min(1) Integer jobId, WebRequest webRequest) {
         log.info("GetByJobId is calling and JobId is :- {}", jobId);
+        ResourceVersion resourceVersion = jobServices.getJobVersion(jobId);
+        if (webRequest.checkNotModified(resourceVersion.getETag(), resourceVersion.getLastModifiedMillis())) {
+            log.debug("Job {} not modified", jobId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         log.debug("Calling services layer to get the job based on job id...");
         JobDTO jobDTO = jobServices.getJobByJobId(jobId);
         SuccessResponse<JobDTO> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Job Found Successfully", jobDTO, LocalDateTime.now());
         log.debug("Returning success response...");
-        return ResponseEntity.ok(successResponse);
+        return withValidators(ResponseEntity.ok(), jobDTO).body(successResponse);
     }
 
     /**
@@ -106,6 +214,61 @@ public class JobController {
         return ResponseEntity.status(HttpStatus.OK).body(successResponse);
     }
 
+    /**
+     * Returns the job inserts, updates and deletes after a watermark, in change order, for incremental mirroring.
+     * Start with after=0 (a full copy), then pass the returned watermark back; hasMore=true means the next page can
+     * be fetched right away.
+     *
+     * @param after The watermark of the last page applied (default: 0, from the beginning).
+     * @param limit The maximum number of changes per page.
+     * @return ResponseEntity containing the changes, the new watermark and whether more follow.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/changes")
+    public ResponseEntity<Object> getJobChanges(@RequestParam(defaultValue = "0") long after, @RequestParam(defaultValue = "500") int limit) {
+        log.info("Fetching job changes after watermark:-{}", after);
+        JobChangePage jobChangePage = jobChangeServices.getChangesAfter(after, limit);
+        SuccessResponse<JobChangePage> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Job changes fetched successfully", jobChangePage, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Opens a Server-Sent Events stream of jobs as they are created, updated or expired, limited to the jobs that
+     * match the filter. Each event is named created, updated or expired and carries the job; a dropped event
+     * carries the number of events skipped because the client fell behind.
+     *
+     * @param filter   The filter criteria a job must match to be sent (paging and sort are ignored).
+     * @param overflow What to do when the client falls behind: drop (oldest events) or disconnect (default: drop).
+     * @return SseEmitter the events are written to.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJobs(JobFilter filter, @RequestParam(required = false) String overflow) {
+        log.info("Opening live job feed...");
+        return jobLiveFeedServices.subscribe(filter, overflow);
+    }
+
+    /**
+     * Streams all jobs as newline-delimited JSON, one job per line.
+     * Rows are written while they are read from the database, so the response size does not affect heap usage.
+     * The stream is cut off after {@code spring.mvc.async.request-timeout} (default 30 minutes, see WebAsyncConfig).
+     *
+     * @return ResponseEntity whose body writes the NDJSON stream.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportAllJobs() {
+        log.info("Export all jobs as NDJSON...");
+        StreamingResponseBody responseBody = jobExportServices::exportAllJobs;
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(responseBody);
+    }
+
     /**
      * Deletes a job by its ID.
      *
@@ -126,71 +289,261 @@ public class JobController {
 
     /**
      * Updates a job by its ID.
+     * <p>
+     * With If-Match the update only succeeds if the job still has that version (ETag), otherwise 412; a concurrent
+     * update that commits first also ends in 412.
      *
-     * @param jobDTO The updated job data.
-     * @param jobId  The ID of the job to update.
+     * @param jobDTO  The updated job data.
+     * @param jobId   The ID of the job to update.
+     * @param ifMatch The ETag the update is conditional on (optional).
      * @return ResponseEntity containing the updated job data.
      * <p>
      * Role Required: ADMIN
      */
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/updatejob/{jobId}")
-    public ResponseEntity<Object> updateJobByJobId(@RequestBody JobDTO jobDTO, @PathVariable @Min(1) int jobId) {
+    public ResponseEntity<Object> updateJobByJobId(@RequestBody JobDTO jobDTO, @PathVariable @Min(1) int jobId,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Update The Job By JobId...");
         log.debug("Calling Services layer for update the job by jobId....");
-        JobDTO updatedJobByJobId = jobServices.updateJobByJobId(jobDTO, jobId);
+        JobDTO updatedJobByJobId = jobServices.updateJobByJobId(jobDTO, jobId, VersionETag.parseIfMatch(ifMatch));
         SuccessResponse<JobDTO> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Job updated successfully", updatedJobByJobId, LocalDateTime.now());
-        return ResponseEntity.ok(successResponse);
+        return withValidators(ResponseEntity.ok(), updatedJobByJobId).body(successResponse);
     }
 
     /**
-     * Partially updates a job.
+     * Partially updates a job, conditionally on If-Match like PUT.
      *
      * @param jobId             The ID of the job to update.
      * @param updatedJobDetails The fields to be updated.
+     * @param ifMatch           The ETag the update is conditional on (optional).
      * @return ResponseEntity containing the updated job data.
      * <p>
      * Role Required: ADMIN
      */
     @PreAuthorize("hasRole('ADMIN')")
     @PatchMapping("/updatejobsomefilds/{jobId}")
-    public ResponseEntity<Object> partiallyUpdateJob(@PathVariable int jobId, @RequestBody HashMap<String, Object> updatedJobDetails) {
+    public ResponseEntity<Object> partiallyUpdateJob(@PathVariable int jobId, @RequestBody HashMap<String, Object> updatedJobDetails,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Patch request to partially update job with ID :-{}", jobId);
-        JobDTO updateJobDto = jobServices.partialUpdateJob(jobId, updatedJobDetails);
+        JobDTO updateJobDto = jobServices.partialUpdateJob(jobId, updatedJobDetails, VersionETag.parseIfMatch(ifMatch));
         SuccessResponse<JobDTO> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Job partially updated successfully", updateJobDto, LocalDateTime.now());
-        return ResponseEntity.ok(successResponse);
+        return withValidators(ResponseEntity.ok(), updateJobDto).body(successResponse);
     }
 
     /**
      * Fetches a paginated list of jobs.
      *
-     * @param pageNo   The page number to retrieve.
-     * @param pageSize The number of jobs per page.
-     * @return ResponseEntity containing a paginated list of jobs.
+     * The page carries a weak ETag and Last-Modified from the job collection version, a single row bumped by every
+     * job or company write, so an unchanged page is answered with 304 after one primary key lookup.
+     *
+     * @param pageNo     The page number to retrieve.
+     * @param pageSize   The number of jobs per page.
+     * @param webRequest The request, for its conditional headers.
+     * @return ResponseEntity containing a paginated list of jobs, or 304 Not Modified.
      * <p>
      * Role Required: USER
      */
     @PreAuthorize("hasRole('USER')")
     @GetMapping()
-    public ResponseEntity<SuccessResponse<Page<JobDTO>>> getJobs(@RequestParam(defaultValue = "0") int pageNo, @RequestParam(defaultValue = "10") int pageSize) {
+    public ResponseEntity<SuccessResponse<Page<JobDTO>>> getJobs(@RequestParam(defaultValue = "0") int pageNo, @RequestParam(defaultValue = "10") int pageSize,
+                                                                 WebRequest webRequest) {
+        CollectionVersion collectionVersion = jobServices.getJobsVersion();
+        String eTag = collectionVersion.getETag("p" + pageNo, "s" + pageSize);
+        if (webRequest.checkNotModified(eTag, collectionVersion.getLastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         Page<JobDTO> jobDTOPage = jobServices.getJobs(pageNo, pageSize);
         SuccessResponse<Page<JobDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Jobs fetched successfully", jobDTOPage, LocalDateTime.now());
+        return ResponseEntity.ok().eTag(eTag).lastModified(collectionVersion.getLastModifiedMillis()).body(successResponse);
+    }
+
+    /**
+     * Fetches jobs with keyset (cursor) pagination ordered by posted date, newest first.
+     * Deep pages cost the same as the first one because no OFFSET or count query is executed.
+     *
+     * @param after    The opaque cursor returned as nextCursor by the previous call; omit for the first page.
+     * @param pageSize The number of jobs per page.
+     * @return ResponseEntity containing the jobs and the cursor of the next page.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/scroll")
+    public ResponseEntity<SuccessResponse<CursorPage<JobDTO>>> getJobsByCursor(@RequestParam(required = false) String after, @RequestParam(defaultValue = "10") int pageSize) {
+        CursorPage<JobDTO> jobDTOPage = jobServices.getJobsAfter(after, pageSize);
+        SuccessResponse<CursorPage<JobDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Jobs fetched successfully", jobDTOPage, LocalDateTime.now());
         return ResponseEntity.ok(successResponse);
     }
 
     /**
      * Fetches jobs based on provided filters.
+     * <p>
+     * Without page or size the result list is returned in full up to a server-side cap (app.jobs.filter.max-results,
+     * default 1000). A broader filter gets the first jobs up to the cap in sort order, with the response header
+     * X-Result-Truncated: true; page through it with page/size to get the rest. With page/size the response is a Page, or a Slice without the count query
+     * when withCount=false. sort takes "field[:asc|desc]" entries separated by commas over postedDate,
+     * deadline and experienceRequired (default postedDate:desc). employmentType accepts several types
+     * separated by "|", e.g. FULL_TIME|CONTRACT.
      *
-     * @param filter The filter criteria.
-     * @return ResponseEntity containing the filtered job list.
+     * @param filter The filter criteria, paging and sort.
+     * @return ResponseEntity containing the filtered job list, page or slice.
      * <p>
      * Role Required: USER
      */
     @PreAuthorize("hasRole('USER')")
     @GetMapping("/filter")
-    public ResponseEntity<List<JobDTO>> getJobsBasedOnFilters(JobFilter filter) {
-        List<JobDTO> jobDTOList = jobServices.getJobsBasedOnFilter(filter);
-        SuccessResponse<List<JobDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Found jobs based on filters", jobDTOList, LocalDateTime.now());
+    public ResponseEntity<Object> getJobsBasedOnFilters(JobFilter filter) {
+        if (filter.isPaged()) {
+            Slice<JobDTO> jobDTOSlice = jobServices.getJobsPageBasedOnFilter(filter);
+            return ResponseEntity.ok(jobDTOSlice);
+        }
+        Slice<JobDTO> jobDTOSlice = jobServices.getJobsBasedOnFilter(filter);
+        SuccessResponse<List<JobDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Found jobs based on filters", jobDTOSlice.getContent(), LocalDateTime.now());
+        if (jobDTOSlice.hasNext()) {
+            return ResponseEntity.ok()
+                    .header(RESULT_TRUNCATED_HEADER, "true")
+                    .body(successResponse.getData());
+        }
         return ResponseEntity.ok(successResponse.getData());
     }
+
+    /**
+     * Fetches a paginated list of flat job listings (job columns plus company id and name).
+     *
+     * @param pageNo   The page number to retrieve.
+     * @param pageSize The number of jobs per page.
+     * @return ResponseEntity containing a paginated list of job listings.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/listings")
+    public ResponseEntity<SuccessResponse<Page<JobListingDTO>>> getJobListings(@RequestParam(defaultValue = "0") int pageNo, @RequestParam(defaultValue = "10") int pageSize) {
+        Page<JobListingDTO> jobListingPage = jobServices.getJobListings(pageNo, pageSize);
+        SuccessResponse<Page<JobListingDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Jobs fetched successfully", jobListingPage, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Fetches all jobs as flat listings.
+     *
+     * @return ResponseEntity containing all job listings.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/listings/all")
+    public ResponseEntity<Object> getAllJobListings() {
+        List<JobListingDTO> jobListingDTOList = jobServices.getAllJobListings();
+        SuccessResponse<List<JobListingDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Jobs Found Successfully", jobListingDTOList, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Fetches flat job listings based on provided filters.
+     *
+     * @param filter The filter criteria.
+     * @return ResponseEntity containing the filtered job listings.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/listings/filter")
+    public ResponseEntity<Object> getJobListingsBasedOnFilters(JobFilter filter) {
+        List<JobListingDTO> jobListingDTOList = jobServices.getJobListingsBasedOnFilter(filter);
+        SuccessResponse<List<JobListingDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Found jobs based on filters", jobListingDTOList, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Counts the jobs matching the filter per facet value, in one request.
+     * <p>
+     * Experience is reported in the buckets 0-1, 2-4, 5-9 and 10+ years; the other facets return their
+     * most frequent values first.
+     *
+     * @param filter The filter criteria, same as /filter.
+     * @param facets The dimensions to count: employmentType, location, experience (default: all).
+     * @param limit  The maximum number of values per facet (max 100).
+     * @return ResponseEntity containing the counts per facet.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/facets")
+    public ResponseEntity<Object> getJobFacets(JobFilter filter,
+                                               @RequestParam(defaultValue = "employmentType,location,experience") List<String> facets,
+                                               @RequestParam(defaultValue = "20") int limit) {
+        Set<JobFacetDimension> dimensions = new LinkedHashSet<>();
+        for (String facet : facets) {
+            dimensions.add(JobFacetDimension.fromParamName(facet.trim()));
+        }
+        Map<String, List<FacetCount>> facetCounts = jobFacetServices.getFacets(filter, dimensions, limit);
+        SuccessResponse<Map<String, List<FacetCount>>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Facets counted successfully", facetCounts, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Fetches the jobs whose location (or title) is most similar to the given text, tolerating typos.
+     *
+     * @param location The location text typed by the user.
+     * @param title    The title text typed by the user; used when no location is given.
+     * @param limit    The maximum number of matches to return.
+     * @return ResponseEntity containing the closest matches, most similar first.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/closest")
+    public ResponseEntity<Object> getClosestMatches(@RequestParam(required = false) String location, @RequestParam(required = false) String title, @RequestParam(defaultValue = "10") int limit) {
+        List<JobDTO> jobDTOList = jobServices.getClosestMatches(location, title, limit);
+        SuccessResponse<List<JobDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Found closest matching jobs", jobDTOList, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Ranked full-text search over job title, company name and location.
+     *
+     * @param q      The free-text query (Lucene query syntax); omit to list the newest matching jobs.
+     * @param filter The filter criteria applied on top of the query.
+     * @param limit  The maximum number of hits to return.
+     * @return ResponseEntity containing the hits ordered by relevance.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/search")
+    public ResponseEntity<Object> searchJobs(@RequestParam(required = false) String q, JobFilter filter, @RequestParam(defaultValue = "20") int limit) {
+        log.info("Search jobs with query :-{}", q);
+        List<JobSearchHit> jobSearchHits = jobSearchServices.search(q, filter, limit);
+        SuccessResponse<List<JobSearchHit>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Found jobs matching the search", jobSearchHits, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Rebuilds the job search index from the database.
+     *
+     * @return ResponseEntity containing the number of indexed jobs.
+     * <p>
+     * Role Required: ADMIN
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/admin/reindex")
+    public ResponseEntity<Object> reindexJobs() {
+        log.info("Rebuilding the job search index...");
+        long indexedJobs = jobSearchServices.reindex();
+        SuccessResponse<Long> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Job search index rebuilt", indexedJobs, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    // ETag (job version + company version) and Last-Modified of a job response
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, JobDTO jobDTO) {
+        CompanyDTO company = jobDTO.getCompany();
+        builder.eTag(VersionETag.of(jobDTO.getVersion(), company == null ? null : company.getVersion()));
+        Instant lastModified = ResourceVersion.latest(jobDTO.getUpdatedAt(), company == null ? null : company.getUpdatedAt());
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
+    }
 }
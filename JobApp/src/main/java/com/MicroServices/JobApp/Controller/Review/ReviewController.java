@@ -2,6 +2,8 @@ package com.MicroServices.JobApp.Controller.Review;
 
 import com.MicroServices.JobApp.Constant.HttpStatusCodeEnum;
 import com.MicroServices.JobApp.Dto.Review.ReviewDTO;
+import com.MicroServices.JobApp.Dto.Review.ReviewStatsDTO;
+import com.MicroServices.JobApp.Helper.CursorPage;
 import com.MicroServices.JobApp.Helper.SuccessResponse;
 import com.MicroServices.JobApp.Services.Impl.Review.ReviewServices;
 import org.slf4j.Logger;
@@ -19,8 +21,9 @@ import java.util.List;
  * <p>
  * Endpoints:
  * - POST /company/{companyId}/addreview: Adds a new review for a company.
- * - GET /company/{companyId}/review: Fetches all reviews for a company.
+ * - GET /company/{companyId}/review: Fetches the reviews of a company, one cursor page at a time.
  * - GET /company/{companyId}/review/{reviewId}: Fetches a specific review for a company by review ID.
+ * - GET /company/{companyId}/stats: Fetches the rating aggregates (count, sum, average, histogram) of a company.
  * - PUT /company/{companyId}/review/{reviewId}: Updates a specific review for a company by review ID.
  * - DELETE /company/{companyId}/review/{reviewId}: Deletes a specific review for a company by review ID.
  */
@@ -54,16 +57,24 @@ public class ReviewController {
     }
 
     /**
-     * Fetches all reviews for a company.
+     * Fetches the reviews of a company with keyset (cursor) pagination, newest first or by rating.
+     * Deep pages cost the same as the first one because no OFFSET or count query is executed.
      *
      * @param companyId The ID of the company whose reviews are being fetched.
-     * @return ResponseEntity containing a list of reviews for the company.
+     * @param after     The opaque cursor returned as nextCursor by the previous call; omit for the first page.
+     *                  A cursor is only valid with the sort it was returned for.
+     * @param pageSize  The number of reviews per page (at most 100).
+     * @param sort      recent (default), rating_desc or rating_asc.
+     * @return ResponseEntity containing the reviews and the cursor of the next page.
      */
     @GetMapping("/company/{companyId}/review")
-    public ResponseEntity<Object> getReviewsBasedOnCompanyId(@PathVariable Integer companyId) {
+    public ResponseEntity<Object> getReviewsBasedOnCompanyId(@PathVariable Integer companyId,
+                                                             @RequestParam(required = false) String after,
+                                                             @RequestParam(defaultValue = "20") int pageSize,
+                                                             @RequestParam(required = false) String sort) {
         log.info("📤 Fetching reviews for company with ID: {}", companyId);
-        List<ReviewDTO> reviewDTOList = reviewServices.getAllReviewsBasedOnCompanyId(companyId);
-        SuccessResponse<List<ReviewDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.FOUND, "Reviews fetched successfully", reviewDTOList, LocalDateTime.now());
+        CursorPage<ReviewDTO> reviewDTOPage = reviewServices.getAllReviewsBasedOnCompanyId(companyId, after, pageSize, sort);
+        SuccessResponse<CursorPage<ReviewDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.FOUND, "Reviews fetched successfully", reviewDTOPage, LocalDateTime.now());
         return ResponseEntity.ok(successResponse);
     }
 
@@ -82,6 +93,21 @@ public class ReviewController {
         return ResponseEntity.ok(successResponse);
     }
 
+    /**
+     * Fetches the rating aggregates of a company: review count, rating sum, average rating and the number of
+     * reviews per star. Read from the precomputed company stats, so the cost does not grow with the reviews.
+     *
+     * @param companyId The ID of the company.
+     * @return ResponseEntity containing the rating aggregates.
+     */
+    @GetMapping("/company/{companyId}/stats")
+    public ResponseEntity<Object> getReviewStatsBasedOnCompanyId(@PathVariable Integer companyId) {
+        log.info("📤 Fetching review stats for company with ID: {}", companyId);
+        ReviewStatsDTO reviewStatsDTO = reviewServices.getReviewStatsBasedOnCompanyId(companyId);
+        SuccessResponse<ReviewStatsDTO> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.FOUND, "Review stats fetched successfully", reviewStatsDTO, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
     /**
      * Updates a specific review for a company by review ID.
      *
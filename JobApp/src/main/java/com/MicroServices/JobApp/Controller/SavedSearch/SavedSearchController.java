@@ -0,0 +1,138 @@
+package com.MicroServices.JobApp.Controller.SavedSearch;
+
+import com.MicroServices.JobApp.Constant.HttpStatusCodeEnum;
+import com.MicroServices.JobApp.Dto.SavedSearch.JobAlertDTO;
+import com.MicroServices.JobApp.Dto.SavedSearch.SavedSearchDTO;
+import com.MicroServices.JobApp.Helper.SuccessResponse;
+import com.MicroServices.JobApp.Services.Impl.SavedSearch.SavedSearchServices;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SavedSearchController manages the current user's saved job searches and the alerts they raise.
+ * <p>
+ * Every newly posted job that matches a saved search is queued as an alert for its owner. Clients read the queue
+ * in order and acknowledge, by id, the alerts they have processed.
+ * <p>
+ * Endpoints:
+ * - POST /: Saves a search with job filter criteria (USER role required).
+ * - GET /: Fetches the user's saved searches (USER role required).
+ * - DELETE /{savedSearchId}: Deletes a saved search and its queued alerts (USER role required).
+ * - GET /alerts: Fetches the user's queued alerts after a position, oldest first (USER role required).
+ * - DELETE /alerts: Acknowledges (removes) the listed alerts of the user (USER role required).
+ */
+@RestController
+@RequestMapping("/api/saved-searches")
+public class SavedSearchController {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchController.class);
+
+    private final SavedSearchServices savedSearchServices;
+
+    @Autowired
+    public SavedSearchController(SavedSearchServices savedSearchServices) {
+        this.savedSearchServices = savedSearchServices;
+    }
+
+    /**
+     * Saves a search for the current user.
+     *
+     * @param savedSearchDTO The name and the job filter criteria.
+     * @param principal      The authenticated user.
+     * @return ResponseEntity containing the saved search.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @PostMapping
+    public ResponseEntity<Object> saveSearch(@Valid @RequestBody SavedSearchDTO savedSearchDTO, Principal principal) {
+        log.info("Saving search for user:-{}", principal.getName());
+        SavedSearchDTO saved = savedSearchServices.saveSearch(principal.getName(), savedSearchDTO);
+        SuccessResponse<SavedSearchDTO> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.CREATED, "Search saved successfully", saved, LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.CREATED).body(successResponse);
+    }
+
+    /**
+     * Fetches the current user's saved searches.
+     *
+     * @param principal The authenticated user.
+     * @return ResponseEntity containing the saved searches.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping
+    public ResponseEntity<Object> getSavedSearches(Principal principal) {
+        List<SavedSearchDTO> savedSearches = savedSearchServices.getSavedSearches(principal.getName());
+        SuccessResponse<List<SavedSearchDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Saved searches fetched successfully", savedSearches, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Deletes one of the current user's saved searches, together with its queued alerts.
+     *
+     * @param savedSearchId The ID of the saved search.
+     * @param principal     The authenticated user.
+     * @return ResponseEntity indicating the deletion was successful.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @DeleteMapping("/{savedSearchId}")
+    public ResponseEntity<Object> deleteSavedSearch(@PathVariable Long savedSearchId, Principal principal) {
+        log.info("Deleting saved search Id :-{}", savedSearchId);
+        savedSearchServices.deleteSavedSearch(principal.getName(), savedSearchId);
+        SuccessResponse<String> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Saved search deleted", null, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Fetches the current user's queued alerts after a position, oldest first. Pass the id of the last alert
+     * received as {@code after} to page on, and acknowledge the alerts processed to shrink the queue.
+     * Alert ids are not in commit order, so an alert can appear behind a position already read; reading again
+     * from the start (the default) after acknowledging always returns it.
+     *
+     * @param after     The position to read after (default: 0, from the start of the queue).
+     * @param limit     The maximum number of alerts to return.
+     * @param principal The authenticated user.
+     * @return ResponseEntity containing the alerts.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/alerts")
+    public ResponseEntity<Object> getAlerts(@RequestParam(defaultValue = "0") long after, @RequestParam(defaultValue = "50") int limit,
+                                            Principal principal) {
+        List<JobAlertDTO> alerts = savedSearchServices.getAlerts(principal.getName(), after, limit);
+        SuccessResponse<List<JobAlertDTO>> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Alerts fetched successfully", alerts, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+
+    /**
+     * Acknowledges the listed alerts of the current user; they are removed from the queue. Ids that are not
+     * queued for the user are ignored.
+     *
+     * @param ids       The ids of the alerts processed (at most 500).
+     * @param principal The authenticated user.
+     * @return ResponseEntity containing the number of alerts removed.
+     * <p>
+     * Role Required: USER
+     */
+    @PreAuthorize("hasRole('USER')")
+    @DeleteMapping("/alerts")
+    public ResponseEntity<Object> acknowledgeAlerts(@RequestParam List<Long> ids, Principal principal) {
+        int removed = savedSearchServices.acknowledgeAlerts(principal.getName(), ids);
+        SuccessResponse<Integer> successResponse = new SuccessResponse<>(HttpStatusCodeEnum.OK, "Alerts acknowledged", removed, LocalDateTime.now());
+        return ResponseEntity.ok(successResponse);
+    }
+}
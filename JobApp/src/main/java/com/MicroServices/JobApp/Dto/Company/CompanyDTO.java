@@ -1,17 +1,21 @@
 package com.MicroServices.JobApp.Dto.Company;
 
-import com.MicroServices.JobApp.Dto.Job.JobDTO;
 import com.MicroServices.JobApp.Utils.Annotation.ValidEmail;
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
-import java.util.List;
+import java.time.Instant;
 
 public class CompanyDTO {
     private Long id;
 
+    // Optimistic-locking version, read-only: also sent as the ETag, conditional writes use If-Match
+    private Long version;
+
+    // Read-only, sent as Last-Modified
+    private Instant updatedAt;
+
     @NotBlank(message = "Company name is mandatory")
     private String name;
 
@@ -40,8 +44,6 @@ public class CompanyDTO {
     private Integer employeeCount;
 
     private boolean isActive;
-    @JsonIgnore
-    private List<JobDTO> jobList;
 
     public Long getId() {
         return id;
@@ -51,6 +53,22 @@ public class CompanyDTO {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public @NotBlank(message = "Company name is mandatory") String getName() {
         return name;
     }
@@ -144,21 +162,33 @@ public class CompanyDTO {
         isActive = active;
     }
 
-    public List<JobDTO> getJobList() {
-        return jobList;
-    }
-
-    public void setJobList(List<JobDTO> jobList) {
-        this.jobList = jobList;
+    public CompanyDTO() {
     }
 
-    public CompanyDTO() {
+    // Projection constructor for the company listing query (no jobs)
+    public CompanyDTO(Long id, Long version, Instant updatedAt, String name, String description, String websiteUrl,
+                      String email, String phoneNumber, String address, String industry, Integer foundedYear,
+                      Integer employeeCount, boolean isActive) {
+        this.id = id;
+        this.version = version;
+        this.updatedAt = updatedAt;
+        this.name = name;
+        this.description = description;
+        this.websiteUrl = websiteUrl;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.address = address;
+        this.industry = industry;
+        this.foundedYear = foundedYear;
+        this.employeeCount = employeeCount;
+        this.isActive = isActive;
     }
 
     @Override
     public String toString() {
         return "CompanyDTO{" +
                 "id=" + id +
+                ", version=" + version +
                 ", name='" + name + '\'' +
                 ", description='" + description + '\'' +
                 ", websiteUrl='" + websiteUrl + '\'' +
@@ -169,11 +199,10 @@ public class CompanyDTO {
                 ", foundedYear=" + foundedYear +
                 ", employeeCount=" + employeeCount +
                 ", isActive=" + isActive +
-                ", jobList=" + jobList +
                 '}';
     }
 
-    public CompanyDTO(Long id, String name, String description, String websiteUrl, String email, String phoneNumber, String address, String industry, Integer foundedYear, Integer employeeCount, boolean isActive, List<JobDTO> jobList) {
+    public CompanyDTO(Long id, String name, String description, String websiteUrl, String email, String phoneNumber, String address, String industry, Integer foundedYear, Integer employeeCount, boolean isActive) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -185,6 +214,5 @@ public class CompanyDTO {
         this.foundedYear = foundedYear;
         this.employeeCount = employeeCount;
         this.isActive = isActive;
-        this.jobList = jobList;
     }
 }
@@ -0,0 +1,110 @@
+package com.MicroServices.JobApp.Dto.Company;
+
+/**
+ * Criteria of the company directory search; every criterion that is set must match (AND).
+ */
+public class CompanyFilter {
+
+    // Case-insensitive exact match
+    private String industry;
+    // Case-insensitive name prefix
+    private String nameStartsWith;
+    private Integer foundedYearGte;
+    private Integer foundedYearLte;
+    private Integer employeeCountGte;
+    private Integer employeeCountLte;
+    private Boolean active;
+
+    // Keyset paging (default): cursor of the last company seen, from the previous page's nextCursor
+    private String after;
+    private Integer size;
+    // Offset paging instead, with a total count: set page
+    private Integer page;
+
+    public String getIndustry() {
+        return industry;
+    }
+
+    public void setIndustry(String industry) {
+        this.industry = industry;
+    }
+
+    public String getNameStartsWith() {
+        return nameStartsWith;
+    }
+
+    public void setNameStartsWith(String nameStartsWith) {
+        this.nameStartsWith = nameStartsWith;
+    }
+
+    public Integer getFoundedYearGte() {
+        return foundedYearGte;
+    }
+
+    public void setFoundedYearGte(Integer foundedYearGte) {
+        this.foundedYearGte = foundedYearGte;
+    }
+
+    public Integer getFoundedYearLte() {
+        return foundedYearLte;
+    }
+
+    public void setFoundedYearLte(Integer foundedYearLte) {
+        this.foundedYearLte = foundedYearLte;
+    }
+
+    public Integer getEmployeeCountGte() {
+        return employeeCountGte;
+    }
+
+    public void setEmployeeCountGte(Integer employeeCountGte) {
+        this.employeeCountGte = employeeCountGte;
+    }
+
+    public Integer getEmployeeCountLte() {
+        return employeeCountLte;
+    }
+
+    public void setEmployeeCountLte(Integer employeeCountLte) {
+        this.employeeCountLte = employeeCountLte;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    public boolean isPaged() {
+        return page != null;
+    }
+
+    public CompanyFilter() {
+    }
+}
@@ -0,0 +1,69 @@
+package com.MicroServices.JobApp.Dto.Company;
+
+import java.time.Instant;
+
+/**
+ * Summary of a company for company cards. {@code averageRating} is null while the company has no reviews.
+ * <p>
+ * Filled directly from a constructor projection of {@code company_stats}.
+ */
+public class CompanyStatsDTO {
+
+    private Long companyId;
+    private long openJobCount;
+    private long reviewCount;
+    private Double averageRating;
+    private Instant updatedAt;
+
+    public CompanyStatsDTO() {
+    }
+
+    public CompanyStatsDTO(Long companyId, long openJobCount, long reviewCount, long ratingSum, Instant updatedAt) {
+        this.companyId = companyId;
+        this.openJobCount = openJobCount;
+        this.reviewCount = reviewCount;
+        // Two decimals, e.g. 4.33
+        this.averageRating = reviewCount == 0 ? null : Math.round(ratingSum * 100.0 / reviewCount) / 100.0;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    public void setCompanyId(Long companyId) {
+        this.companyId = companyId;
+    }
+
+    public long getOpenJobCount() {
+        return openJobCount;
+    }
+
+    public void setOpenJobCount(long openJobCount) {
+        this.openJobCount = openJobCount;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(Double averageRating) {
+        this.averageRating = averageRating;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
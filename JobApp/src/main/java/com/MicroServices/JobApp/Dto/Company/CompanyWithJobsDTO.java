@@ -0,0 +1,25 @@
+package com.MicroServices.JobApp.Dto.Company;
+
+import com.MicroServices.JobApp.Dto.Job.JobListingDTO;
+
+import java.util.List;
+
+/**
+ * A company together with its jobs, returned for {@code ?include=jobs}. The jobs are flat listings (carrying the
+ * company id and name rather than the company), so the response has no cycle and no repeated company.
+ */
+public class CompanyWithJobsDTO extends CompanyDTO {
+
+    private List<JobListingDTO> jobs;
+
+    public List<JobListingDTO> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<JobListingDTO> jobs) {
+        this.jobs = jobs;
+    }
+
+    public CompanyWithJobsDTO() {
+    }
+}
@@ -0,0 +1,72 @@
+package com.MicroServices.JobApp.Dto.Job;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a bulk job ingestion, identified by its position in the request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkJobItemResult {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    private int index;
+    private Status status;
+    private Long id;
+    private List<String> errors;
+
+    public BulkJobItemResult() {
+    }
+
+    public BulkJobItemResult(int index, Status status, Long id, List<String> errors) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.errors = errors;
+    }
+
+    public static BulkJobItemResult created(int index, Long id) {
+        return new BulkJobItemResult(index, Status.CREATED, id, null);
+    }
+
+    public static BulkJobItemResult failed(int index, List<String> errors) {
+        return new BulkJobItemResult(index, Status.FAILED, null, errors);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
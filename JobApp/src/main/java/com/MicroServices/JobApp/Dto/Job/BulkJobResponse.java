@@ -0,0 +1,56 @@
+package com.MicroServices.JobApp.Dto.Job;
+
+import java.util.List;
+
+/**
+ * Summary of a bulk job ingestion with the per-item results in request order.
+ */
+public class BulkJobResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BulkJobItemResult> results;
+
+    public BulkJobResponse() {
+    }
+
+    public BulkJobResponse(List<BulkJobItemResult> results) {
+        this.results = results;
+        this.total = results.size();
+        this.succeeded = (int) results.stream().filter(result -> result.getStatus() == BulkJobItemResult.Status.CREATED).count();
+        this.failed = total - succeeded;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkJobItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkJobItemResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,34 @@
+package com.MicroServices.JobApp.Dto.Job;
+
+/**
+ * Number of jobs matching a filter for one value of a facet dimension.
+ */
+public class FacetCount {
+
+    private String value;
+    private long count;
+
+    public FacetCount() {
+    }
+
+    public FacetCount(String value, long count) {
+        this.value = value;
+        this.count = count;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
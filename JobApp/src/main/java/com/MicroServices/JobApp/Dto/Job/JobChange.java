@@ -0,0 +1,70 @@
+package com.MicroServices.JobApp.Dto.Job;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One entry of the job change feed: the current state of an inserted/updated job, or the id of a deleted one.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobChange {
+
+    public enum Type {
+        UPSERT,
+        DELETE
+    }
+
+    private long changeSeq;
+    private Type type;
+    private Long jobId;
+    private JobDTO job;
+
+    public JobChange() {
+    }
+
+    public JobChange(long changeSeq, Type type, Long jobId, JobDTO job) {
+        this.changeSeq = changeSeq;
+        this.type = type;
+        this.jobId = jobId;
+        this.job = job;
+    }
+
+    public static JobChange upsert(long changeSeq, JobDTO job) {
+        return new JobChange(changeSeq, Type.UPSERT, job.getId(), job);
+    }
+
+    public static JobChange delete(long changeSeq, Long jobId) {
+        return new JobChange(changeSeq, Type.DELETE, jobId, null);
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public JobDTO getJob() {
+        return job;
+    }
+
+    public void setJob(JobDTO job) {
+        this.job = job;
+    }
+}
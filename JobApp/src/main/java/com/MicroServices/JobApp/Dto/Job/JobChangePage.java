@@ -0,0 +1,47 @@
+package com.MicroServices.JobApp.Dto.Job;
+
+import java.util.List;
+
+/**
+ * A page of the job change feed. Clients store {@code watermark} and pass it back as {@code after}; while
+ * {@code hasMore} is true the next page is already available.
+ */
+public class JobChangePage {
+
+    private List<JobChange> changes;
+    private long watermark;
+    private boolean hasMore;
+
+    public JobChangePage() {
+    }
+
+    public JobChangePage(List<JobChange> changes, long watermark, boolean hasMore) {
+        this.changes = changes;
+        this.watermark = watermark;
+        this.hasMore = hasMore;
+    }
+
+    public List<JobChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<JobChange> changes) {
+        this.changes = changes;
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(long watermark) {
+        this.watermark = watermark;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
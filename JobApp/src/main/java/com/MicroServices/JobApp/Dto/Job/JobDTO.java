@@ -2,19 +2,44 @@ package com.MicroServices.JobApp.Dto.Job;
 
 import com.MicroServices.JobApp.Dto.Company.CompanyDTO;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 public class JobDTO {
 
     private Long id;
+
+    // Optimistic-locking version, read-only: also sent as the ETag, conditional writes use If-Match
+    private Long version;
+
+    // Read-only, sent as Last-Modified
+    private Instant updatedAt;
+
+    @NotBlank(message = "Title is required")
     private String title;
+
+    @NotBlank(message = "Employment type is required")
     private String employmentType;
+
+    @NotNull(message = "Experience is required")
+    @Min(value = 0, message = "Experience must not be negative")
     private Integer experienceRequired;
+
+    @NotBlank(message = "Location is required")
     private String location;
+
+    @NotNull(message = "Posted date is required")
     private LocalDate postedDate;
+
     private LocalDate deadline;
     private String contactName;
+
+    @Email(message = "Contact email must be a valid email address")
     private String contactEmail;
 
     @JsonProperty("isActive")
@@ -51,6 +76,22 @@ public class JobDTO {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -135,6 +176,7 @@ public class JobDTO {
     public String toString() {
         return "JobDTO{" +
                 "id=" + id +
+                ", version=" + version +
                 ", title='" + title + '\'' +
                 ", employmentType='" + employmentType + '\'' +
                 ", experienceRequired=" + experienceRequired +
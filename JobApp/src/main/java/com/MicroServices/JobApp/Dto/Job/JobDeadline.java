@@ -0,0 +1,36 @@
+package com.MicroServices.JobApp.Dto.Job;
+
+import java.time.LocalDate;
+
+/**
+ * Id and deadline of an active job, as read by the expiry scheduler.
+ */
+public class JobDeadline {
+
+    private Long id;
+    private LocalDate deadline;
+
+    public JobDeadline() {
+    }
+
+    public JobDeadline(Long id, LocalDate deadline) {
+        this.id = id;
+        this.deadline = deadline;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(LocalDate deadline) {
+        this.deadline = deadline;
+    }
+}
@@ -7,12 +7,22 @@ import java.time.LocalDate;
 public class JobFilter {
 
     private String title;
+    private String titleContains;
     private String employmentType;
     private String location;
     private Integer experienceRequiredGte;
     private Integer experienceRequiredLte;
     private LocalDate postedDateAfter;
     private LocalDate deadlineBefore;
+    private Boolean active;
+
+    // Paging: when page or size is set the result is paged, otherwise the full (capped) list is returned
+    private Integer page;
+    private Integer size;
+    // Comma-separated sort orders, e.g. "postedDate:desc,experienceRequired"; fields: postedDate, deadline, experienceRequired
+    private String sort;
+    // false returns a Slice (no count query), true or absent a Page with totals
+    private Boolean withCount;
 
     // Getters and Setters
 
@@ -24,6 +34,14 @@ public class JobFilter {
         this.title = title;
     }
 
+    public String getTitleContains() {
+        return titleContains;
+    }
+
+    public void setTitleContains(String titleContains) {
+        this.titleContains = titleContains;
+    }
+
     public String getEmploymentType() {
         return employmentType;
     }
@@ -72,6 +90,50 @@ public class JobFilter {
         this.deadlineBefore = deadlineBefore;
     }
 
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public Boolean getWithCount() {
+        return withCount;
+    }
+
+    public void setWithCount(Boolean withCount) {
+        this.withCount = withCount;
+    }
+
+    public boolean isPaged() {
+        return page != null || size != null;
+    }
+
     public JobFilter() {
     }
 
@@ -0,0 +1,143 @@
+package com.MicroServices.JobApp.Dto.Job;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+
+/**
+ * Flat, read-only view of a job for listings.
+ * <p>
+ * Filled directly from a constructor projection query, so listing a job never
+ * hydrates the {@code Job}/{@code Company} entity graph.
+ */
+public class JobListingDTO {
+
+    private Long id;
+    private String title;
+    private String employmentType;
+    private Integer experienceRequired;
+    private String location;
+    private LocalDate postedDate;
+    private LocalDate deadline;
+
+    @JsonProperty("isActive")
+    private boolean isActive;
+
+    private Long companyId;
+    private String companyName;
+
+    public JobListingDTO() {
+    }
+
+    public JobListingDTO(Long id, String title, EmploymentType employmentType, Integer experienceRequired,
+                         String location, LocalDate postedDate, LocalDate deadline, boolean isActive,
+                         Long companyId, String companyName) {
+        this.id = id;
+        this.title = title;
+        this.employmentType = employmentType == null ? null : employmentType.name();
+        this.experienceRequired = experienceRequired;
+        this.location = location;
+        this.postedDate = postedDate;
+        this.deadline = deadline;
+        this.isActive = isActive;
+        this.companyId = companyId;
+        this.companyName = companyName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getEmploymentType() {
+        return employmentType;
+    }
+
+    public void setEmploymentType(String employmentType) {
+        this.employmentType = employmentType;
+    }
+
+    public Integer getExperienceRequired() {
+        return experienceRequired;
+    }
+
+    public void setExperienceRequired(Integer experienceRequired) {
+        this.experienceRequired = experienceRequired;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public LocalDate getPostedDate() {
+        return postedDate;
+    }
+
+    public void setPostedDate(LocalDate postedDate) {
+        this.postedDate = postedDate;
+    }
+
+    public LocalDate getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(LocalDate deadline) {
+        this.deadline = deadline;
+    }
+
+    public boolean getIsActive() {
+        return isActive;
+    }
+
+    public void setActive(boolean active) {
+        isActive = active;
+    }
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    public void setCompanyId(Long companyId) {
+        this.companyId = companyId;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    @Override
+    public String toString() {
+        return "JobListingDTO{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", employmentType='" + employmentType + '\'' +
+                ", experienceRequired=" + experienceRequired +
+                ", location='" + location + '\'' +
+                ", postedDate=" + postedDate +
+                ", deadline=" + deadline +
+                ", isActive=" + isActive +
+                ", companyId=" + companyId +
+                ", companyName='" + companyName + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,121 @@
+package com.MicroServices.JobApp.Dto.Job;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+
+/**
+ * A ranked full-text search result, built from the fields stored in the search index.
+ */
+public class JobSearchHit {
+
+    private Long id;
+    private float score;
+    private String title;
+    private String employmentType;
+    private Integer experienceRequired;
+    private String location;
+    private LocalDate postedDate;
+    private LocalDate deadline;
+    private String companyName;
+
+    @JsonProperty("isActive")
+    private boolean isActive;
+
+    public JobSearchHit() {
+    }
+
+    public JobSearchHit(Long id, float score, String title, String employmentType, Integer experienceRequired,
+                        String location, LocalDate postedDate, LocalDate deadline, String companyName, boolean isActive) {
+        this.id = id;
+        this.score = score;
+        this.title = title;
+        this.employmentType = employmentType;
+        this.experienceRequired = experienceRequired;
+        this.location = location;
+        this.postedDate = postedDate;
+        this.deadline = deadline;
+        this.companyName = companyName;
+        this.isActive = isActive;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getEmploymentType() {
+        return employmentType;
+    }
+
+    public void setEmploymentType(String employmentType) {
+        this.employmentType = employmentType;
+    }
+
+    public Integer getExperienceRequired() {
+        return experienceRequired;
+    }
+
+    public void setExperienceRequired(Integer experienceRequired) {
+        this.experienceRequired = experienceRequired;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public LocalDate getPostedDate() {
+        return postedDate;
+    }
+
+    public void setPostedDate(LocalDate postedDate) {
+        this.postedDate = postedDate;
+    }
+
+    public LocalDate getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(LocalDate deadline) {
+        this.deadline = deadline;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public boolean getIsActive() {
+        return isActive;
+    }
+
+    public void setActive(boolean active) {
+        isActive = active;
+    }
+}
@@ -24,7 +24,7 @@ public class ReviewDTO {
     public void setReviewerName(String reviewerName) {
         this.reviewerName = reviewerName;
     }
-    public int getRating() {
+    public Integer getRating() {
         return rating;
     }
 
@@ -0,0 +1,88 @@
+package com.MicroServices.JobApp.Dto.Review;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rating aggregates of a company: review count, rating sum, average and the number of reviews per star
+ * ({@code histogram}, keyed 1-5, every star present). {@code averageRating} is null while the company has no reviews.
+ * <p>
+ * Filled directly from a constructor projection of {@code company_stats}.
+ */
+public class ReviewStatsDTO {
+
+    private Long companyId;
+    private long reviewCount;
+    private long ratingSum;
+    private Double averageRating;
+    private Map<Integer, Long> histogram;
+    private Instant updatedAt;
+
+    public ReviewStatsDTO() {
+    }
+
+    public ReviewStatsDTO(Long companyId, long reviewCount, long ratingSum, long rating1Count, long rating2Count,
+                          long rating3Count, long rating4Count, long rating5Count, Instant updatedAt) {
+        this.companyId = companyId;
+        this.reviewCount = reviewCount;
+        this.ratingSum = ratingSum;
+        // Two decimals, e.g. 4.33
+        this.averageRating = reviewCount == 0 ? null : Math.round(ratingSum * 100.0 / reviewCount) / 100.0;
+        this.histogram = new LinkedHashMap<>();
+        this.histogram.put(1, rating1Count);
+        this.histogram.put(2, rating2Count);
+        this.histogram.put(3, rating3Count);
+        this.histogram.put(4, rating4Count);
+        this.histogram.put(5, rating5Count);
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    public void setCompanyId(Long companyId) {
+        this.companyId = companyId;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    public void setRatingSum(long ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(Double averageRating) {
+        this.averageRating = averageRating;
+    }
+
+    public Map<Integer, Long> getHistogram() {
+        return histogram;
+    }
+
+    public void setHistogram(Map<Integer, Long> histogram) {
+        this.histogram = histogram;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,58 @@
+package com.MicroServices.JobApp.Dto.SavedSearch;
+
+import java.time.Instant;
+
+/**
+ * A queued alert: the job {@code jobId} matched the saved search {@code savedSearchId} when it was posted.
+ * Alerts are returned in queue order; {@code id} is the position to acknowledge up to.
+ */
+public class JobAlertDTO {
+    private Long id;
+    private Long savedSearchId;
+    private Long jobId;
+    private String jobTitle;
+    private Instant matchedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getSavedSearchId() {
+        return savedSearchId;
+    }
+
+    public void setSavedSearchId(Long savedSearchId) {
+        this.savedSearchId = savedSearchId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public Instant getMatchedAt() {
+        return matchedAt;
+    }
+
+    public void setMatchedAt(Instant matchedAt) {
+        this.matchedAt = matchedAt;
+    }
+
+    public JobAlertDTO() {
+    }
+}
@@ -0,0 +1,129 @@
+package com.MicroServices.JobApp.Dto.SavedSearch;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A saved search: a name plus the criteria of {@code /api/jobs/filter} (same names and meaning).
+ */
+public class SavedSearchDTO {
+    private Long id;
+
+    // Read-only
+    private Instant updatedAt;
+
+    @NotBlank(message = "Saved search name is mandatory")
+    private String name;
+
+    private String title;
+    private String titleContains;
+    // One or more employment types separated by '|', e.g. "FULL_TIME|CONTRACT"
+    private String employmentType;
+    private String location;
+    private Integer experienceRequiredGte;
+    private Integer experienceRequiredLte;
+    private LocalDate postedDateAfter;
+    private LocalDate deadlineBefore;
+    private Boolean active;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getTitleContains() {
+        return titleContains;
+    }
+
+    public void setTitleContains(String titleContains) {
+        this.titleContains = titleContains;
+    }
+
+    public String getEmploymentType() {
+        return employmentType;
+    }
+
+    public void setEmploymentType(String employmentType) {
+        this.employmentType = employmentType;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Integer getExperienceRequiredGte() {
+        return experienceRequiredGte;
+    }
+
+    public void setExperienceRequiredGte(Integer experienceRequiredGte) {
+        this.experienceRequiredGte = experienceRequiredGte;
+    }
+
+    public Integer getExperienceRequiredLte() {
+        return experienceRequiredLte;
+    }
+
+    public void setExperienceRequiredLte(Integer experienceRequiredLte) {
+        this.experienceRequiredLte = experienceRequiredLte;
+    }
+
+    public LocalDate getPostedDateAfter() {
+        return postedDateAfter;
+    }
+
+    public void setPostedDateAfter(LocalDate postedDateAfter) {
+        this.postedDateAfter = postedDateAfter;
+    }
+
+    public LocalDate getDeadlineBefore() {
+        return deadlineBefore;
+    }
+
+    public void setDeadlineBefore(LocalDate deadlineBefore) {
+        this.deadlineBefore = deadlineBefore;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public SavedSearchDTO() {
+    }
+}
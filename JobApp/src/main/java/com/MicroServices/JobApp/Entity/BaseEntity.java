@@ -1,23 +1,40 @@
 package com.MicroServices.JobApp.Entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 /**
  * Common base entity for all entities.
- * Holds common fields like ID.
+ * Holds common fields like ID, the optimistic-locking version and the last update time.
  */
 @MappedSuperclass
 public abstract class BaseEntity implements Serializable {
 
+    // One sequence per entity with the default allocation size of 50; the pooled optimizer hands out
+    // ids from memory and only calls nextval once per 50 rows (see HibernateConfig)
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
+    // Optimistic locking: every UPDATE is conditional on the version read, so concurrent writers get a conflict
+    // instead of silently overwriting each other. Exposed to clients as the ETag (see VersionETag)
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    // Set by Hibernate on every insert and update; the Last-Modified of conditional GETs
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     public Long getId() {
         return id;
     }
@@ -25,4 +42,20 @@ public abstract class BaseEntity implements Serializable {
     public void setId(Long id) {
         this.id = id;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
@@ -1,6 +1,8 @@
 package com.MicroServices.JobApp.Entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.io.Serializable;
 import java.util.List;
@@ -10,6 +12,7 @@ import java.util.Objects;
  * Company entity representing job posting organization.
  */
 @Entity
+@DynamicUpdate
 public class Company extends BaseEntity implements Serializable {
     @Column(nullable = false, unique = true)
     private String name;
@@ -41,12 +44,15 @@ public class Company extends BaseEntity implements Serializable {
     @Column(name = "is_active", nullable = false)
     private boolean isActive = true; // Used for soft deletion or visibility
 
+    // Loaded only when asked for (?include=jobs fetches it with an entity graph); collections touched outside
+    // that path are initialized for up to 50 companies per query instead of one query each
     @OneToMany(
             mappedBy = "company",
             cascade = CascadeType.ALL,
             orphanRemoval = true,
-            fetch = FetchType.EAGER
+            fetch = FetchType.LAZY
     )
+    @BatchSize(size = 50)
     private List<Job> jobList;
 
     @OneToMany(
@@ -70,21 +76,22 @@ public class Company extends BaseEntity implements Serializable {
                 ", foundedYear=" + foundedYear +
                 ", employeeCount=" + employeeCount +
                 ", isActive=" + isActive +
-                ", jobList=" + jobList +
                 '}';
     }
 
+    // The jobs are left out of toString/equals/hashCode: they would initialize the lazy collection, and each job
+    // refers back to its company
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Company company = (Company) o;
-        return isActive == company.isActive && Objects.equals(name, company.name) && Objects.equals(description, company.description) && Objects.equals(websiteUrl, company.websiteUrl) && Objects.equals(email, company.email) && Objects.equals(phoneNumber, company.phoneNumber) && Objects.equals(address, company.address) && Objects.equals(industry, company.industry) && Objects.equals(foundedYear, company.foundedYear) && Objects.equals(employeeCount, company.employeeCount) && Objects.equals(jobList, company.jobList);
+        return isActive == company.isActive && Objects.equals(name, company.name) && Objects.equals(description, company.description) && Objects.equals(websiteUrl, company.websiteUrl) && Objects.equals(email, company.email) && Objects.equals(phoneNumber, company.phoneNumber) && Objects.equals(address, company.address) && Objects.equals(industry, company.industry) && Objects.equals(foundedYear, company.foundedYear) && Objects.equals(employeeCount, company.employeeCount);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, description, websiteUrl, email, phoneNumber, address, industry, foundedYear, employeeCount, isActive, jobList);
+        return Objects.hash(name, description, websiteUrl, email, phoneNumber, address, industry, foundedYear, employeeCount, isActive);
     }
 
     public String getName() {
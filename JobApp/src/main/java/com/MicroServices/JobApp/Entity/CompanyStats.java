@@ -0,0 +1,107 @@
+package com.MicroServices.JobApp.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Precomputed summary of a company for company cards: open (active) jobs, and review count / rating sum with the
+ * number of reviews per star (1-5) for the rating histogram.
+ * <p>
+ * Kept current by atomic delta upserts from the job and review write paths, in the same transaction as the write,
+ * and corrected by a periodic reconcile (see CompanyStatsServicesImpl); the application only reads it through JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "company_stats")
+public class CompanyStats implements Serializable {
+
+    @Id
+    @Column(name = "company_id")
+    private Long companyId;
+
+    @Column(name = "open_job_count", nullable = false)
+    private long openJobCount;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    // Reviews per star. The column default covers rows inserted by job deltas, which leave the histogram out
+    @Column(name = "rating_1_count", nullable = false, columnDefinition = "bigint default 0")
+    private long rating1Count;
+
+    @Column(name = "rating_2_count", nullable = false, columnDefinition = "bigint default 0")
+    private long rating2Count;
+
+    @Column(name = "rating_3_count", nullable = false, columnDefinition = "bigint default 0")
+    private long rating3Count;
+
+    @Column(name = "rating_4_count", nullable = false, columnDefinition = "bigint default 0")
+    private long rating4Count;
+
+    @Column(name = "rating_5_count", nullable = false, columnDefinition = "bigint default 0")
+    private long rating5Count;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    public long getOpenJobCount() {
+        return openJobCount;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    public long getRating1Count() {
+        return rating1Count;
+    }
+
+    public long getRating2Count() {
+        return rating2Count;
+    }
+
+    public long getRating3Count() {
+        return rating3Count;
+    }
+
+    public long getRating4Count() {
+        return rating4Count;
+    }
+
+    public long getRating5Count() {
+        return rating5Count;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "CompanyStats{" +
+                "companyId=" + companyId +
+                ", openJobCount=" + openJobCount +
+                ", reviewCount=" + reviewCount +
+                ", ratingSum=" + ratingSum +
+                ", ratingCounts=[" + rating1Count + ", " + rating2Count + ", " + rating3Count + ", " + rating4Count + ", " + rating5Count + "]" +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
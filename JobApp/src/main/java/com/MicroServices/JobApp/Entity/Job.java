@@ -1,26 +1,34 @@
 package com.MicroServices.JobApp.Entity;
 
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Utils.EmploymentTypeConverter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Builder;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Objects;
 
 /**
  * Job entity for storing job details.
  */
-@Builder
 @Entity
-@Table(name = "jobs")
+@DynamicUpdate
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_posted_date_id", columnList = "posted_date, id")
+})
 public class Job extends BaseEntity implements Serializable {
 
     @Column(name = "description", nullable = false, columnDefinition = "TEXT")
     private String title;
 
-    @Column(name = "employment_type", nullable = false)
-    private String employmentType;
+    // Stored as a smallint code (see V2 migration)
+    @Convert(converter = EmploymentTypeConverter.class)
+    @Column(name = "employment_type", nullable = false, columnDefinition = "smallint")
+    private EmploymentType employmentType;
 
     @Column(name = "experience_required", nullable = false)
     private Integer experienceRequired;
@@ -47,6 +55,16 @@ public class Job extends BaseEntity implements Serializable {
     @JoinColumn(name = "company_id")
     private Company company;
 
+    // Monotonic change sequence, assigned by a database trigger on every insert and update (see V5 migration);
+    // read-only here and only read back by the delta sync queries, so writes need no extra round trip
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    // Database time at which change_seq was drawn, set by the same trigger (see V11 migration); the delta sync
+    // settle window compares it with the database clock, never with the JVM's
+    @Column(name = "changed_at", insertable = false, updatable = false)
+    private Instant changedAt;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -68,11 +86,11 @@ public class Job extends BaseEntity implements Serializable {
         this.title = title;
     }
 
-    public String getEmploymentType() {
+    public EmploymentType getEmploymentType() {
         return employmentType;
     }
 
-    public void setEmploymentType(String employmentType) {
+    public void setEmploymentType(EmploymentType employmentType) {
         this.employmentType = employmentType;
     }
 
@@ -132,6 +150,14 @@ public class Job extends BaseEntity implements Serializable {
         isActive = active;
     }
 
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
     public Company getCompany() {
         return company;
     }
@@ -143,7 +169,9 @@ public class Job extends BaseEntity implements Serializable {
     public Job() {
     }
 
-    public Job(String title, String employmentType, Integer experienceRequired, String location, LocalDate postedDate, LocalDate deadline, String contactName, String contactEmail, boolean isActive, Company company) {
+    // The builder covers the writable fields only; change_seq and changed_at are set by the database
+    @Builder
+    public Job(String title, EmploymentType employmentType, Integer experienceRequired, String location, LocalDate postedDate, LocalDate deadline, String contactName, String contactEmail, boolean isActive, Company company) {
         this.title = title;
         this.employmentType = employmentType;
         this.experienceRequired = experienceRequired;
@@ -0,0 +1,95 @@
+package com.MicroServices.JobApp.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Entry of a user's notification queue: a newly posted job matched one of the user's {@link SavedSearch}es.
+ * <p>
+ * The user, saved search and job are plain ids rather than associations, so queueing an alert never loads them
+ * and deleting a job does not have to touch the queues; the job title is copied in for display.
+ */
+@Entity
+@Table(name = "job_alerts")
+public class JobAlert extends BaseEntity implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "saved_search_id", nullable = false)
+    private Long savedSearchId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    private String jobTitle;
+
+    @Column(name = "matched_at", nullable = false)
+    private Instant matchedAt;
+
+    @Override
+    public String toString() {
+        return "JobAlert{" +
+                "userId=" + userId +
+                ", savedSearchId=" + savedSearchId +
+                ", jobId=" + jobId +
+                ", jobTitle='" + jobTitle + '\'' +
+                ", matchedAt=" + matchedAt +
+                '}';
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getSavedSearchId() {
+        return savedSearchId;
+    }
+
+    public void setSavedSearchId(Long savedSearchId) {
+        this.savedSearchId = savedSearchId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public Instant getMatchedAt() {
+        return matchedAt;
+    }
+
+    public void setMatchedAt(Instant matchedAt) {
+        this.matchedAt = matchedAt;
+    }
+
+    public JobAlert() {
+    }
+
+    public JobAlert(Long userId, Long savedSearchId, Long jobId, String jobTitle, Instant matchedAt) {
+        this.userId = userId;
+        this.savedSearchId = savedSearchId;
+        this.jobId = jobId;
+        this.jobTitle = jobTitle;
+        this.matchedAt = matchedAt;
+    }
+}
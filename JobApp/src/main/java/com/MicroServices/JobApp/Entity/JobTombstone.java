@@ -0,0 +1,53 @@
+package com.MicroServices.JobApp.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Marker left behind by a deleted job so delta sync clients learn about the delete.
+ * <p>
+ * Rows are written by a database trigger on {@code jobs} (see V5 migration), which also covers jobs removed
+ * together with their company; the application only reads them.
+ */
+@Entity
+@Immutable
+@Table(name = "job_tombstones")
+public class JobTombstone implements Serializable {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "JobTombstone{" +
+                "jobId=" + jobId +
+                ", changeSeq=" + changeSeq +
+                ", deletedAt=" + deletedAt +
+                '}';
+    }
+}
@@ -0,0 +1,154 @@
+package com.MicroServices.JobApp.Entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A user's stored {@code JobFilter}: every newly posted job that matches it is queued as a {@link JobAlert} for
+ * the user. The criteria have the same names and meaning as the job filter; {@code employmentType} is kept in its
+ * canonical form (enum names joined by {@code |}).
+ */
+@Entity
+@Table(name = "saved_searches")
+public class SavedSearch extends BaseEntity implements Serializable {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String title;
+    private String titleContains;
+    private String employmentType;
+    private String location;
+    private Integer experienceRequiredGte;
+    private Integer experienceRequiredLte;
+    private LocalDate postedDateAfter;
+    private LocalDate deadlineBefore;
+    private Boolean active;
+
+    @Override
+    public String toString() {
+        return "SavedSearch{" +
+                "name='" + name + '\'' +
+                ", title='" + title + '\'' +
+                ", titleContains='" + titleContains + '\'' +
+                ", employmentType='" + employmentType + '\'' +
+                ", location='" + location + '\'' +
+                ", experienceRequiredGte=" + experienceRequiredGte +
+                ", experienceRequiredLte=" + experienceRequiredLte +
+                ", postedDateAfter=" + postedDateAfter +
+                ", deadlineBefore=" + deadlineBefore +
+                ", active=" + active +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SavedSearch that = (SavedSearch) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getTitleContains() {
+        return titleContains;
+    }
+
+    public void setTitleContains(String titleContains) {
+        this.titleContains = titleContains;
+    }
+
+    public String getEmploymentType() {
+        return employmentType;
+    }
+
+    public void setEmploymentType(String employmentType) {
+        this.employmentType = employmentType;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Integer getExperienceRequiredGte() {
+        return experienceRequiredGte;
+    }
+
+    public void setExperienceRequiredGte(Integer experienceRequiredGte) {
+        this.experienceRequiredGte = experienceRequiredGte;
+    }
+
+    public Integer getExperienceRequiredLte() {
+        return experienceRequiredLte;
+    }
+
+    public void setExperienceRequiredLte(Integer experienceRequiredLte) {
+        this.experienceRequiredLte = experienceRequiredLte;
+    }
+
+    public LocalDate getPostedDateAfter() {
+        return postedDateAfter;
+    }
+
+    public void setPostedDateAfter(LocalDate postedDateAfter) {
+        this.postedDateAfter = postedDateAfter;
+    }
+
+    public LocalDate getDeadlineBefore() {
+        return deadlineBefore;
+    }
+
+    public void setDeadlineBefore(LocalDate deadlineBefore) {
+        this.deadlineBefore = deadlineBefore;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public SavedSearch() {
+    }
+}
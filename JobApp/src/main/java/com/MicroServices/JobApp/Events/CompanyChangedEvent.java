@@ -0,0 +1,39 @@
+package com.MicroServices.JobApp.Events;
+
+/**
+ * Published by the company write paths after a company has been updated or deleted.
+ * <p>
+ * Job read models embed the company of each job, so they listen to this event (after commit) to drop what they
+ * derived from the previous company state.
+ */
+public class CompanyChangedEvent {
+
+    public enum ChangeType {
+        UPDATED,
+        DELETED
+    }
+
+    private final ChangeType changeType;
+    private final Long companyId;
+
+    public CompanyChangedEvent(ChangeType changeType, Long companyId) {
+        this.changeType = changeType;
+        this.companyId = companyId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    @Override
+    public String toString() {
+        return "CompanyChangedEvent{" +
+                "changeType=" + changeType +
+                ", companyId=" + companyId +
+                '}';
+    }
+}
@@ -0,0 +1,63 @@
+package com.MicroServices.JobApp.Events;
+
+import com.MicroServices.JobApp.Entity.Job;
+
+/**
+ * Published by the job write paths after a job has been created, updated or deleted.
+ * <p>
+ * Derived read models (search index, caches, ...) listen to this event instead of
+ * being called directly from the services, so the write paths stay unaware of them.
+ * For {@link ChangeType#DELETED} the job carries its state just before removal. {@link ChangeType#EXPIRED} is an
+ * update made by the expiry scheduler (the job was deactivated because its deadline passed); listeners that do not
+ * care about the difference treat it like {@link ChangeType#UPDATED}.
+ * <p>
+ * {@link #getPreviouslyActive()} is the job's active flag before an {@link ChangeType#UPDATED} or
+ * {@link ChangeType#EXPIRED} write, when the publisher knows it (null otherwise), for listeners that keep counts.
+ */
+public class JobChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        EXPIRED
+    }
+
+    private final ChangeType changeType;
+    private final Job job;
+    private final Boolean previouslyActive;
+
+    public JobChangedEvent(ChangeType changeType, Job job) {
+        this(changeType, job, null);
+    }
+
+    public JobChangedEvent(ChangeType changeType, Job job, Boolean previouslyActive) {
+        this.changeType = changeType;
+        this.job = job;
+        this.previouslyActive = previouslyActive;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public Boolean getPreviouslyActive() {
+        return previouslyActive;
+    }
+
+    public Long getJobId() {
+        return job.getId();
+    }
+
+    @Override
+    public String toString() {
+        return "JobChangedEvent{" +
+                "changeType=" + changeType +
+                ", jobId=" + job.getId() +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+package com.MicroServices.JobApp.Events;
+
+import com.MicroServices.JobApp.Entity.SavedSearch;
+
+/**
+ * Published by the saved search write paths so the percolator index follows committed changes.
+ */
+public class SavedSearchChangedEvent {
+
+    public enum ChangeType {
+        SAVED,
+        DELETED
+    }
+
+    private final ChangeType changeType;
+    private final SavedSearch savedSearch;
+    private final Long userId;
+
+    public SavedSearchChangedEvent(ChangeType changeType, SavedSearch savedSearch, Long userId) {
+        this.changeType = changeType;
+        this.savedSearch = savedSearch;
+        this.userId = userId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public SavedSearch getSavedSearch() {
+        return savedSearch;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return "SavedSearchChangedEvent{" +
+                "changeType=" + changeType +
+                ", savedSearchId=" + savedSearch.getId() +
+                ", userId=" + userId +
+                '}';
+    }
+}
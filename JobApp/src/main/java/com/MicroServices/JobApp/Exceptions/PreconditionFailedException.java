@@ -0,0 +1,10 @@
+package com.MicroServices.JobApp.Exceptions;
+
+/**
+ * A conditional write (If-Match) whose expected version no longer matches the stored one.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -1,12 +1,14 @@
 package com.MicroServices.JobApp.ExceptionsHandler;
 
 import com.MicroServices.JobApp.Constant.HttpStatusCodeEnum;
+import com.MicroServices.JobApp.Exceptions.PreconditionFailedException;
 import com.MicroServices.JobApp.Exceptions.ResourceNotFoundException;
 import com.MicroServices.JobApp.Helper.ErrorResponse;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.validation.FieldError;
@@ -51,6 +53,42 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatusCodeEnum.NOT_FOUND.getHttpStatus());
     }
 
+    /**
+     * Handles PreconditionFailedException (an If-Match that no longer matches the stored version).
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailed(PreconditionFailedException ex, HttpServletRequest request) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatusCodeEnum.PRECONDITION_FAILED,
+                ex.getMessage(),
+                LocalDateTime.now(),
+                ex.getLocalizedMessage(),
+                request.getRequestURI()
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatusCodeEnum.PRECONDITION_FAILED.getHttpStatus());
+    }
+
+    /**
+     * Handles optimistic locking conflicts, i.e. another write committed between our read and our update.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatusCodeEnum.PRECONDITION_FAILED,
+                "The resource was modified concurrently. Fetch it again and retry with the new ETag.",
+                LocalDateTime.now(),
+                ex.getLocalizedMessage(),
+                request.getRequestURI()
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatusCodeEnum.PRECONDITION_FAILED.getHttpStatus());
+    }
+
     /**
      * Handles generic exceptions not specifically caught by other handlers.
      */
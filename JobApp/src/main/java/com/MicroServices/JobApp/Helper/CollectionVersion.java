@@ -0,0 +1,41 @@
+package com.MicroServices.JobApp.Helper;
+
+import com.MicroServices.JobApp.Utils.VersionETag;
+
+import java.time.Instant;
+
+/**
+ * Version of a whole collection, read from a single maintained row (see V13 migration) so a polled listing can be
+ * answered with 304 after a primary key lookup while nothing in it changed.
+ * <p>
+ * The row is bumped inside every transaction that changes the collection, so each commit moves the version
+ * whatever the commit order. The time of the last bump only serves Last-Modified.
+ */
+public class CollectionVersion {
+
+    private final long version;
+    private final Instant lastModified;
+
+    public CollectionVersion(long version, Instant lastModified) {
+        this.version = version;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Weak ETag of one view (e.g. a page) of the collection; the view parameters become part of the tag.
+     */
+    public String getETag(Object... view) {
+        Object[] parts = new Object[view.length + 1];
+        System.arraycopy(view, 0, parts, 0, view.length);
+        parts[view.length] = version;
+        return VersionETag.weak(parts);
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    public long getLastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+}
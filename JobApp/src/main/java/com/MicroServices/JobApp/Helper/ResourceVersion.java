@@ -0,0 +1,49 @@
+package com.MicroServices.JobApp.Helper;
+
+import com.MicroServices.JobApp.Utils.VersionETag;
+
+import java.time.Instant;
+
+/**
+ * Version and last modification time of a single resource, read with a cheap query so a conditional GET can be
+ * answered with 304 before the resource itself is loaded and mapped.
+ * <p>
+ * A resource that embeds another one (a job and its company) carries the embedded version too, so changing either
+ * changes the ETag.
+ */
+public class ResourceVersion {
+
+    private final Long version;
+    private final Long embeddedVersion;
+    private final Instant lastModified;
+
+    public ResourceVersion(Long version, Instant updatedAt) {
+        this(version, updatedAt, null, null);
+    }
+
+    public ResourceVersion(Long version, Instant updatedAt, Long embeddedVersion, Instant embeddedUpdatedAt) {
+        this.version = version;
+        this.embeddedVersion = embeddedVersion;
+        this.lastModified = latest(updatedAt, embeddedUpdatedAt);
+    }
+
+    public String getETag() {
+        return VersionETag.of(version, embeddedVersion);
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    // -1 when unknown, which conditional request checks ignore
+    public long getLastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+
+    public static Instant latest(Instant first, Instant second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || first.isAfter(second) ? first : second;
+    }
+}
@@ -0,0 +1,121 @@
+package com.MicroServices.JobApp.Mapper;
+
+import com.MicroServices.JobApp.Dto.Company.CompanyDTO;
+import com.MicroServices.JobApp.Dto.Company.CompanyWithJobsDTO;
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import com.MicroServices.JobApp.Dto.Job.JobListingDTO;
+import com.MicroServices.JobApp.Dto.Review.ReviewDTO;
+import com.MicroServices.JobApp.Dto.SavedSearch.JobAlertDTO;
+import com.MicroServices.JobApp.Dto.SavedSearch.SavedSearchDTO;
+import com.MicroServices.JobApp.Entity.Company;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Entity.JobAlert;
+import com.MicroServices.JobApp.Entity.Review;
+import com.MicroServices.JobApp.Entity.SavedSearch;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Entry point for entity ↔ DTO mapping used by the services.
+ * <p>
+ * {@code app.mapper.engine=generated} (default) uses the reflection-free {@link EntityDtoMapper};
+ * {@code app.mapper.engine=modelmapper} falls back to the runtime {@link ModelMapper}. Either way the entity
+ * version is never taken from a DTO.
+ */
+@Component
+public class DtoMapper {
+
+    private static final Logger log = LoggerFactory.getLogger(DtoMapper.class);
+
+    private final EntityDtoMapper entityDtoMapper;
+    private final ModelMapper modelMapper;
+    private final boolean generated;
+
+    public DtoMapper(EntityDtoMapper entityDtoMapper, ModelMapper modelMapper,
+                     @Value("${app.mapper.engine:generated}") String engine) {
+        this.entityDtoMapper = entityDtoMapper;
+        this.modelMapper = modelMapper;
+        if (!"generated".equalsIgnoreCase(engine) && !"modelmapper".equalsIgnoreCase(engine)) {
+            throw new IllegalArgumentException("Unknown app.mapper.engine: " + engine + " (expected generated or modelmapper)");
+        }
+        this.generated = "generated".equalsIgnoreCase(engine);
+        log.info("DTO mapping engine:- {}", generated ? "generated" : "modelmapper");
+    }
+
+    public JobDTO toJobDto(Job job) {
+        return generated ? entityDtoMapper.toJobDto(job) : modelMapper.map(job, JobDTO.class);
+    }
+
+    public Job toJob(JobDTO jobDTO) {
+        if (generated) {
+            return entityDtoMapper.toJob(jobDTO);
+        }
+        Job job = modelMapper.map(jobDTO, Job.class);
+        job.setVersion(null);
+        if (job.getCompany() != null) {
+            job.getCompany().setVersion(null);
+        }
+        return job;
+    }
+
+    public CompanyDTO toCompanyDto(Company company) {
+        return generated ? entityDtoMapper.toCompanyDto(company) : modelMapper.map(company, CompanyDTO.class);
+    }
+
+    /**
+     * Maps a company whose {@code jobList} has been fetched (see {@code CompanyRepository.findAllWithJobs}).
+     */
+    public CompanyWithJobsDTO toCompanyWithJobsDto(Company company) {
+        CompanyWithJobsDTO companyWithJobsDTO;
+        if (generated) {
+            companyWithJobsDTO = entityDtoMapper.toCompanyWithJobsDto(company);
+        } else {
+            companyWithJobsDTO = modelMapper.map(company, CompanyWithJobsDTO.class);
+        }
+        List<Job> jobList = company.getJobList() == null ? List.of() : company.getJobList();
+        companyWithJobsDTO.setJobs(jobList.stream()
+                .map(job -> new JobListingDTO(job.getId(), job.getTitle(), job.getEmploymentType(), job.getExperienceRequired(),
+                        job.getLocation(), job.getPostedDate(), job.getDeadline(), job.isActive(), company.getId(), company.getName()))
+                .toList());
+        return companyWithJobsDTO;
+    }
+
+    public Company toCompany(CompanyDTO companyDTO) {
+        if (generated) {
+            return entityDtoMapper.toCompany(companyDTO);
+        }
+        Company company = modelMapper.map(companyDTO, Company.class);
+        company.setVersion(null);
+        return company;
+    }
+
+    public ReviewDTO toReviewDto(Review review) {
+        return generated ? entityDtoMapper.toReviewDto(review) : modelMapper.map(review, ReviewDTO.class);
+    }
+
+    public Review toReview(ReviewDTO reviewDTO) {
+        return generated ? entityDtoMapper.toReview(reviewDTO) : modelMapper.map(reviewDTO, Review.class);
+    }
+
+    public SavedSearchDTO toSavedSearchDto(SavedSearch savedSearch) {
+        return generated ? entityDtoMapper.toSavedSearchDto(savedSearch) : modelMapper.map(savedSearch, SavedSearchDTO.class);
+    }
+
+    public SavedSearch toSavedSearch(SavedSearchDTO savedSearchDTO) {
+        if (generated) {
+            return entityDtoMapper.toSavedSearch(savedSearchDTO);
+        }
+        SavedSearch savedSearch = modelMapper.map(savedSearchDTO, SavedSearch.class);
+        savedSearch.setVersion(null);
+        return savedSearch;
+    }
+
+    public JobAlertDTO toJobAlertDto(JobAlert jobAlert) {
+        return generated ? entityDtoMapper.toJobAlertDto(jobAlert) : modelMapper.map(jobAlert, JobAlertDTO.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.MicroServices.JobApp.Mapper;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Company.CompanyDTO;
+import com.MicroServices.JobApp.Dto.Company.CompanyWithJobsDTO;
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import com.MicroServices.JobApp.Dto.Review.ReviewDTO;
+import com.MicroServices.JobApp.Dto.SavedSearch.JobAlertDTO;
+import com.MicroServices.JobApp.Dto.SavedSearch.SavedSearchDTO;
+import com.MicroServices.JobApp.Entity.Company;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Entity.JobAlert;
+import com.MicroServices.JobApp.Entity.Review;
+import com.MicroServices.JobApp.Entity.SavedSearch;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Compile-time generated (MapStruct) mappings between entities and DTOs.
+ * <p>
+ * Depth is fixed at one level: a job carries its company, a company never carries its jobs
+ * ({@code CompanyDTO} has no job list and {@code Company.jobList} is ignored), and a review only carries the
+ * company id.
+ * This keeps the mapping free of cycles and never touches lazy collections. The jobs of
+ * {@link CompanyWithJobsDTO} are added by {@link DtoMapper} from a collection the query has already fetched.
+ * <p>
+ * The Lombok builder on {@link Job} is disabled for mapping so the generated code uses the setters.
+ * Employment type travels as its {@link EmploymentType} name in the DTOs. The entity version and update time are
+ * only ever read: a version copied in from a DTO would make Spring Data treat a new entity as existing.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, builder = @Builder(disableBuilder = true))
+public interface EntityDtoMapper {
+
+    JobDTO toJobDto(Job job);
+
+    @Mapping(target = "active", source = "isActive")
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Job toJob(JobDTO jobDTO);
+
+    CompanyDTO toCompanyDto(Company company);
+
+    @Mapping(target = "active", source = "isActive")
+    @Mapping(target = "jobList", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Company toCompany(CompanyDTO companyDTO);
+
+    @Mapping(target = "jobs", ignore = true)
+    CompanyWithJobsDTO toCompanyWithJobsDto(Company company);
+
+    @Mapping(target = "companyId", source = "company.id")
+    ReviewDTO toReviewDto(Review review);
+
+    @Mapping(target = "company", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Review toReview(ReviewDTO reviewDTO);
+
+    SavedSearchDTO toSavedSearchDto(SavedSearch savedSearch);
+
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    SavedSearch toSavedSearch(SavedSearchDTO savedSearchDTO);
+
+    JobAlertDTO toJobAlertDto(JobAlert jobAlert);
+
+    // The API keeps employment type as a label; unknown labels are rejected with IllegalArgumentException (400)
+    default EmploymentType toEmploymentType(String label) {
+        return label == null ? null : EmploymentType.fromLabel(label);
+    }
+
+    default String toEmploymentTypeLabel(EmploymentType employmentType) {
+        return employmentType == null ? null : employmentType.name();
+    }
+}
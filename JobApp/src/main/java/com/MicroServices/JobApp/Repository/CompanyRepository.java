@@ -1,10 +1,42 @@
 package com.MicroServices.JobApp.Repository;
 
+import com.MicroServices.JobApp.Dto.Company.CompanyDTO;
 import com.MicroServices.JobApp.Entity.Company;
+import com.MicroServices.JobApp.Helper.ResourceVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, Integer>, JpaSpecificationExecutor<Company> {
+
+    // Conditional GET: version of a company without loading it
+    @Query("select new com.MicroServices.JobApp.Helper.ResourceVersion(c.version, c.updatedAt) from Company c where c.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    // Company listing: one SELECT of the company columns straight into the DTO, the jobs are not touched
+    @Query("select new com.MicroServices.JobApp.Dto.Company.CompanyDTO(c.id, c.version, c.updatedAt, c.name, c.description, "
+            + "c.websiteUrl, c.email, c.phoneNumber, c.address, c.industry, c.foundedYear, c.employeeCount, c.isActive) "
+            + "from Company c order by c.id")
+    List<CompanyDTO> findAllSummaries();
+
+    // ?include=jobs: companies and their jobs in one joined SELECT
+    @EntityGraph(attributePaths = "jobList")
+    @Query("select c from Company c order by c.id")
+    List<Company> findAllWithJobs();
+
+    @EntityGraph(attributePaths = "jobList")
+    @Query("select c from Company c where c.id = :id")
+    Optional<Company> findWithJobsById(@Param("id") Long id);
+
+    // Batch jobs over all companies: ids in keyset batches
+    @Query("select c.id from Company c where c.id > :afterId order by c.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
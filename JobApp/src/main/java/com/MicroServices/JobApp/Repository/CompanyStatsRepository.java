@@ -0,0 +1,135 @@
+package com.MicroServices.JobApp.Repository;
+
+import com.MicroServices.JobApp.Dto.Company.CompanyStatsDTO;
+import com.MicroServices.JobApp.Dto.Review.ReviewStatsDTO;
+import com.MicroServices.JobApp.Entity.CompanyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CompanyStatsRepository extends JpaRepository<CompanyStats, Long> {
+
+    @Query("select new com.MicroServices.JobApp.Dto.Company.CompanyStatsDTO(s.companyId, s.openJobCount, s.reviewCount, s.ratingSum, s.updatedAt) "
+            + "from CompanyStats s where s.companyId = :companyId")
+    Optional<CompanyStatsDTO> findStatsByCompanyId(@Param("companyId") Long companyId);
+
+    @Query("select new com.MicroServices.JobApp.Dto.Company.CompanyStatsDTO(s.companyId, s.openJobCount, s.reviewCount, s.ratingSum, s.updatedAt) "
+            + "from CompanyStats s where s.companyId in :companyIds order by s.companyId")
+    List<CompanyStatsDTO> findStatsByCompanyIdIn(@Param("companyIds") Collection<Long> companyIds);
+
+    @Query("select new com.MicroServices.JobApp.Dto.Review.ReviewStatsDTO(s.companyId, s.reviewCount, s.ratingSum, "
+            + "s.rating1Count, s.rating2Count, s.rating3Count, s.rating4Count, s.rating5Count, s.updatedAt) "
+            + "from CompanyStats s where s.companyId = :companyId")
+    Optional<ReviewStatsDTO> findReviewStatsByCompanyId(@Param("companyId") Long companyId);
+
+    /**
+     * Adds the open job delta to the company's row. A single statement, so concurrent writers never lose an update.
+     * Never creates the row: job deltas arrive after their commit, possibly after the company (and its row) was
+     * deleted, and a company's row is created with the company (or by the reconcile).
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE company_stats SET open_job_count = open_job_count + :openJobDelta, updated_at = now() "
+            + "WHERE company_id = :companyId", nativeQuery = true)
+    int applyOpenJobDelta(@Param("companyId") Long companyId, @Param("openJobDelta") long openJobDelta);
+
+    // The empty row of a new company
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO company_stats (company_id, open_job_count, review_count, rating_sum, updated_at) "
+            + "VALUES (:companyId, 0, 0, 0, now()) ON CONFLICT (company_id) DO NOTHING", nativeQuery = true)
+    int insertEmpty(@Param("companyId") Long companyId);
+
+    /**
+     * Adds (delta 1) or removes (delta -1) one review with the given rating: count, sum and the rating's histogram
+     * bucket move together in one atomic upsert, in the caller's transaction when there is one. A rating outside
+     * 1-5 counts towards the sum but no bucket.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO company_stats (company_id, open_job_count, review_count, rating_sum,
+                                       rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, updated_at)
+            VALUES (:companyId, 0, :delta, :delta * :rating,
+                    CASE WHEN :rating = 1 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 2 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 3 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 4 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 5 THEN :delta ELSE 0 END,
+                    now())
+            ON CONFLICT (company_id) DO UPDATE SET
+                review_count = company_stats.review_count + EXCLUDED.review_count,
+                rating_sum = company_stats.rating_sum + EXCLUDED.rating_sum,
+                rating_1_count = company_stats.rating_1_count + EXCLUDED.rating_1_count,
+                rating_2_count = company_stats.rating_2_count + EXCLUDED.rating_2_count,
+                rating_3_count = company_stats.rating_3_count + EXCLUDED.rating_3_count,
+                rating_4_count = company_stats.rating_4_count + EXCLUDED.rating_4_count,
+                rating_5_count = company_stats.rating_5_count + EXCLUDED.rating_5_count,
+                updated_at = now()
+            """, nativeQuery = true)
+    int applyReviewDelta(@Param("companyId") Long companyId, @Param("rating") int rating, @Param("delta") int delta);
+
+    /**
+     * Recomputes the rows of the companies with ids in the range from the source tables (set-based, one
+     * statement) and returns the number of rows that were missing or wrong.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO company_stats (company_id, open_job_count, review_count, rating_sum,
+                                       rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, updated_at)
+            SELECT c.id,
+                   (SELECT count(*) FROM jobs j WHERE j.company_id = c.id AND j.is_active),
+                   r.review_count, r.rating_sum,
+                   r.rating_1_count, r.rating_2_count, r.rating_3_count, r.rating_4_count, r.rating_5_count,
+                   now()
+            FROM company c
+            CROSS JOIN LATERAL (
+                SELECT count(*) AS review_count,
+                       coalesce(sum(rv.rating), 0) AS rating_sum,
+                       count(*) FILTER (WHERE rv.rating = 1) AS rating_1_count,
+                       count(*) FILTER (WHERE rv.rating = 2) AS rating_2_count,
+                       count(*) FILTER (WHERE rv.rating = 3) AS rating_3_count,
+                       count(*) FILTER (WHERE rv.rating = 4) AS rating_4_count,
+                       count(*) FILTER (WHERE rv.rating = 5) AS rating_5_count
+                FROM review rv
+                WHERE rv.company_id = c.id) r
+            WHERE c.id BETWEEN :fromId AND :toId
+            ON CONFLICT (company_id) DO UPDATE SET
+                open_job_count = EXCLUDED.open_job_count,
+                review_count = EXCLUDED.review_count,
+                rating_sum = EXCLUDED.rating_sum,
+                rating_1_count = EXCLUDED.rating_1_count,
+                rating_2_count = EXCLUDED.rating_2_count,
+                rating_3_count = EXCLUDED.rating_3_count,
+                rating_4_count = EXCLUDED.rating_4_count,
+                rating_5_count = EXCLUDED.rating_5_count,
+                updated_at = now()
+            WHERE (company_stats.open_job_count, company_stats.review_count, company_stats.rating_sum,
+                   company_stats.rating_1_count, company_stats.rating_2_count, company_stats.rating_3_count,
+                   company_stats.rating_4_count, company_stats.rating_5_count)
+                IS DISTINCT FROM (EXCLUDED.open_job_count, EXCLUDED.review_count, EXCLUDED.rating_sum,
+                   EXCLUDED.rating_1_count, EXCLUDED.rating_2_count, EXCLUDED.rating_3_count,
+                   EXCLUDED.rating_4_count, EXCLUDED.rating_5_count)
+            """, nativeQuery = true)
+    int reconcileRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Rows left behind by deleted companies
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM company_stats s WHERE NOT EXISTS (SELECT 1 FROM company c WHERE c.id = s.company_id)", nativeQuery = true)
+    int deleteOrphans();
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM company_stats WHERE company_id = :companyId", nativeQuery = true)
+    int deleteByCompanyId(@Param("companyId") Long companyId);
+}
@@ -0,0 +1,30 @@
+package com.MicroServices.JobApp.Repository;
+
+import com.MicroServices.JobApp.Entity.JobAlert;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobAlertRepository extends JpaRepository<JobAlert, Integer> {
+
+    // A user's queue after a position, oldest first (index job_alerts(user_id, id)). Ids come from a pooled
+    // sequence and are not in commit order, so a position only pages through the queue as it is now
+    @Query("select a from JobAlert a where a.userId = :userId and a.id > :after order by a.id")
+    List<JobAlert> findQueuedAfter(@Param("userId") Long userId, @Param("after") long after, Pageable pageable);
+
+    // Acknowledgement by the exact alerts delivered, so an alert that committed late with a lower id stays queued
+    @Modifying
+    @Query("delete from JobAlert a where a.userId = :userId and a.id in :ids")
+    int deleteQueuedByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from JobAlert a where a.savedSearchId = :savedSearchId")
+    int deleteBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+}
@@ -0,0 +1,17 @@
+package com.MicroServices.JobApp.Repository;
+
+import com.MicroServices.JobApp.Constant.JobFacetDimension;
+import com.MicroServices.JobApp.Dto.Job.FacetCount;
+import com.MicroServices.JobApp.Entity.Job;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Grouped counts of the jobs matching a specification.
+ */
+public interface JobFacetRepository {
+
+    // The database cancels the query once timeoutMillis (rounded up to whole seconds) have passed
+    List<FacetCount> countByFacet(Specification<Job> spec, JobFacetDimension dimension, int limit, long timeoutMillis);
+}
@@ -0,0 +1,99 @@
+package com.MicroServices.JobApp.Repository;
+
+import com.MicroServices.JobApp.Constant.JobFacetDimension;
+import com.MicroServices.JobApp.Dto.Job.FacetCount;
+import com.MicroServices.JobApp.Entity.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One {@code SELECT value, count(*) ... GROUP BY value} per dimension, with the filter applied as the WHERE clause.
+ * <p>
+ * Employment type and location are returned by descending count, capped at {@code limit} values. Experience is
+ * grouped by the raw years (a few dozen distinct values at most) and folded into fixed buckets here, which keeps
+ * the SQL a plain column GROUP BY instead of grouping on a parameterised CASE expression.
+ * <p>
+ * Every query carries the JPA query timeout hint, applied as a JDBC statement timeout: the database aborts the
+ * statement itself, since interrupting the calling thread does not stop a running query.
+ */
+public class JobFacetRepositoryImpl implements JobFacetRepository {
+
+    // Lower bounds (inclusive) of the experience buckets
+    private static final int[] EXPERIENCE_BUCKET_FLOORS = {0, 2, 5, 10};
+    private static final String[] EXPERIENCE_BUCKET_LABELS = {"0-1", "2-4", "5-9", "10+"};
+    private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<FacetCount> countByFacet(Specification<Job> spec, JobFacetDimension dimension, int limit, long timeoutMillis) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+        Root<Job> root = criteriaQuery.from(Job.class);
+
+        Expression<?> value = root.get(attributeName(dimension));
+        Expression<Long> count = criteriaBuilder.count(root);
+        criteriaQuery.multiselect(value, count).groupBy(value);
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, criteriaQuery, criteriaBuilder);
+            if (predicate != null) {
+                criteriaQuery.where(predicate);
+            }
+        }
+
+        // JDBC timeouts are whole seconds; rounding up keeps a sub-second budget from becoming "no timeout"
+        long timeoutSeconds = Math.max(1, (timeoutMillis + 999) / 1000);
+        if (dimension == JobFacetDimension.EXPERIENCE) {
+            return toExperienceBuckets(entityManager.createQuery(criteriaQuery)
+                    .setHint(QUERY_TIMEOUT_HINT, timeoutSeconds * 1000)
+                    .getResultList());
+        }
+        criteriaQuery.orderBy(criteriaBuilder.desc(count), criteriaBuilder.asc(value));
+        List<Tuple> rows = entityManager.createQuery(criteriaQuery)
+                .setHint(QUERY_TIMEOUT_HINT, timeoutSeconds * 1000)
+                .setMaxResults(limit)
+                .getResultList();
+        List<FacetCount> facetCounts = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Object facetValue = row.get(0);
+            facetCounts.add(new FacetCount(facetValue == null ? null : facetValue.toString(), row.get(1, Long.class)));
+        }
+        return facetCounts;
+    }
+
+    private static String attributeName(JobFacetDimension dimension) {
+        return switch (dimension) {
+            case EMPLOYMENT_TYPE -> "employmentType";
+            case LOCATION -> "location";
+            case EXPERIENCE -> "experienceRequired";
+        };
+    }
+
+    private static List<FacetCount> toExperienceBuckets(List<Tuple> rows) {
+        long[] counts = new long[EXPERIENCE_BUCKET_FLOORS.length];
+        for (Tuple row : rows) {
+            Integer experience = row.get(0, Integer.class);
+            int bucket = 0;
+            while (experience != null && bucket + 1 < EXPERIENCE_BUCKET_FLOORS.length && experience >= EXPERIENCE_BUCKET_FLOORS[bucket + 1]) {
+                bucket++;
+            }
+            counts[bucket] += row.get(1, Long.class);
+        }
+        List<FacetCount> facetCounts = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            facetCounts.add(new FacetCount(EXPERIENCE_BUCKET_LABELS[i], counts[i]));
+        }
+        return facetCounts;
+    }
+}
@@ -0,0 +1,30 @@
+package com.MicroServices.JobApp.Repository;
+
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import com.MicroServices.JobApp.Dto.Job.JobListingDTO;
+import com.MicroServices.JobApp.Entity.Job;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Projection queries returning {@link JobListingDTO}s, or {@link JobDTO}s with their embedded company, instead of
+ * {@link Job} entities.
+ */
+public interface JobListingRepository {
+
+    Page<JobListingDTO> findListings(Specification<Job> spec, Pageable pageable);
+
+    List<JobListingDTO> findAllListings(Specification<Job> spec, Sort sort);
+
+    Page<JobDTO> findJobDtos(Specification<Job> spec, Pageable pageable);
+
+    // One query for size + 1 rows and no count
+    Slice<JobDTO> findJobDtoSlice(Specification<Job> spec, Pageable pageable);
+
+    List<JobDTO> findAllJobDtos(Specification<Job> spec, Sort sort);
+}
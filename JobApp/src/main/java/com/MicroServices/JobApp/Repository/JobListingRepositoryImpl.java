@@ -0,0 +1,184 @@
+package com.MicroServices.JobApp.Repository;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Company.CompanyDTO;
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import com.MicroServices.JobApp.Dto.Job.JobListingDTO;
+import com.MicroServices.JobApp.Entity.Company;
+import com.MicroServices.JobApp.Entity.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Builds the listing queries with a constructor projection: a single SELECT of the listing
+ * columns joined to the company id and name, with no entity instantiation or ModelMapper pass.
+ * <p>
+ * The {@link JobDTO} queries select the job and company columns as a tuple in the same way and assemble the DTO
+ * with its embedded {@link CompanyDTO} from it, so the job reads skip the entities (and their EAGER company) too.
+ */
+public class JobListingRepositoryImpl implements JobListingRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<JobListingDTO> findListings(Specification<Job> spec, Pageable pageable) {
+        TypedQuery<JobListingDTO> query = createListingQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        // The count query is skipped when the first page is not full
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<JobListingDTO> findAllListings(Specification<Job> spec, Sort sort) {
+        return createListingQuery(spec, sort).getResultList();
+    }
+
+    @Override
+    public Page<JobDTO> findJobDtos(Specification<Job> spec, Pageable pageable) {
+        TypedQuery<Tuple> query = createJobDtoQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(toJobDtos(query.getResultList()), pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<JobDTO> findJobDtoSlice(Specification<Job> spec, Pageable pageable) {
+        List<JobDTO> jobs = toJobDtos(createJobDtoQuery(spec, pageable.getSort())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList());
+        boolean hasNext = jobs.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? jobs.subList(0, pageable.getPageSize()) : jobs, pageable, hasNext);
+    }
+
+    @Override
+    public List<JobDTO> findAllJobDtos(Specification<Job> spec, Sort sort) {
+        return toJobDtos(createJobDtoQuery(spec, sort).getResultList());
+    }
+
+    private TypedQuery<Tuple> createJobDtoQuery(Specification<Job> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+        Root<Job> root = criteriaQuery.from(Job.class);
+        Join<Job, Company> company = root.join("company", JoinType.LEFT);
+
+        criteriaQuery.multiselect(
+                root.get("id"),
+                root.get("version"),
+                root.get("updatedAt"),
+                root.get("title"),
+                root.get("employmentType"),
+                root.get("experienceRequired"),
+                root.get("location"),
+                root.get("postedDate"),
+                root.get("deadline"),
+                root.get("contactName"),
+                root.get("contactEmail"),
+                root.get("isActive"),
+                company.get("id"),
+                company.get("version"),
+                company.get("updatedAt"),
+                company.get("name"),
+                company.get("description"),
+                company.get("websiteUrl"),
+                company.get("email"),
+                company.get("phoneNumber"),
+                company.get("address"),
+                company.get("industry"),
+                company.get("foundedYear"),
+                company.get("employeeCount"),
+                company.get("isActive"));
+        applySpecification(spec, root, criteriaQuery, criteriaBuilder);
+        if (sort != null && sort.isSorted()) {
+            criteriaQuery.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+        return entityManager.createQuery(criteriaQuery);
+    }
+
+    // Positions follow the multiselect above; employment type travels as its enum name, as in the mapped DTOs
+    private static List<JobDTO> toJobDtos(List<Tuple> rows) {
+        return rows.stream().map(row -> {
+            EmploymentType employmentType = row.get(4, EmploymentType.class);
+            CompanyDTO company = row.get(12) == null ? null : new CompanyDTO(row.get(12, Long.class), row.get(13, Long.class),
+                    row.get(14, Instant.class), row.get(15, String.class), row.get(16, String.class), row.get(17, String.class),
+                    row.get(18, String.class), row.get(19, String.class), row.get(20, String.class), row.get(21, String.class),
+                    row.get(22, Integer.class), row.get(23, Integer.class), row.get(24, Boolean.class));
+            JobDTO job = new JobDTO(row.get(0, Long.class), row.get(3, String.class),
+                    employmentType == null ? null : employmentType.name(), row.get(5, Integer.class),
+                    row.get(6, String.class), row.get(7, LocalDate.class), row.get(8, LocalDate.class),
+                    row.get(9, String.class), row.get(10, String.class), row.get(11, Boolean.class), company);
+            job.setVersion(row.get(1, Long.class));
+            job.setUpdatedAt(row.get(2, Instant.class));
+            return job;
+        }).toList();
+    }
+
+    private TypedQuery<JobListingDTO> createListingQuery(Specification<Job> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobListingDTO> criteriaQuery = criteriaBuilder.createQuery(JobListingDTO.class);
+        Root<Job> root = criteriaQuery.from(Job.class);
+        Join<Job, Company> company = root.join("company", JoinType.LEFT);
+
+        criteriaQuery.select(criteriaBuilder.construct(JobListingDTO.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("employmentType"),
+                root.get("experienceRequired"),
+                root.get("location"),
+                root.get("postedDate"),
+                root.get("deadline"),
+                root.get("isActive"),
+                company.get("id"),
+                company.get("name")));
+        applySpecification(spec, root, criteriaQuery, criteriaBuilder);
+        if (sort != null && sort.isSorted()) {
+            criteriaQuery.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+        return entityManager.createQuery(criteriaQuery);
+    }
+
+    private long count(Specification<Job> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
+        Root<Job> root = criteriaQuery.from(Job.class);
+        criteriaQuery.select(criteriaBuilder.count(root));
+        applySpecification(spec, root, criteriaQuery, criteriaBuilder);
+        return entityManager.createQuery(criteriaQuery).getSingleResult();
+    }
+
+    private void applySpecification(Specification<Job> spec, Root<Job> root, CriteriaQuery<?> criteriaQuery, CriteriaBuilder criteriaBuilder) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, criteriaQuery, criteriaBuilder);
+        if (predicate != null) {
+            criteriaQuery.where(predicate);
+        }
+    }
+}
@@ -1,11 +1,85 @@
 package com.MicroServices.JobApp.Repository;
 
+import com.MicroServices.JobApp.Dto.Job.JobDeadline;
 import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Helper.CollectionVersion;
+import com.MicroServices.JobApp.Helper.ResourceVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Integer>, JpaSpecificationExecutor<Job> {
+public interface JobRepository extends JpaRepository<Job, Integer>, JpaSpecificationExecutor<Job>, JobListingRepository, JobFacetRepository {
+
+    // Keyset pagination: newest first, id breaks ties so the order is stable
+    @Query("select j from Job j order by j.postedDate desc, j.id desc")
+    Slice<Job> findFirstSliceByPostedDate(Pageable pageable);
+
+    @Query("select j from Job j where (j.postedDate, j.id) < (:postedDate, :id) order by j.postedDate desc, j.id desc")
+    Slice<Job> findSliceByPostedDateAfter(@Param("postedDate") LocalDate postedDate, @Param("id") Long id, Pageable pageable);
+
+    // Fuzzy "closest matches": the % operator is served by the pg_trgm GIN indexes, then ranked by similarity
+    @Query(value = "SELECT j.* FROM jobs j WHERE j.location % :location ORDER BY similarity(j.location, :location) DESC, j.id LIMIT :limit", nativeQuery = true)
+    List<Job> findClosestByLocation(@Param("location") String location, @Param("limit") int limit);
+
+    @Query(value = "SELECT j.* FROM jobs j WHERE j.description % :title ORDER BY similarity(j.description, :title) DESC, j.id LIMIT :limit", nativeQuery = true)
+    List<Job> findClosestByTitle(@Param("title") String title, @Param("limit") int limit);
+
+    // Batch scans in primary key order, used by index rebuilds
+    Slice<Job> findByIdGreaterThan(Long id, Pageable pageable);
+
+    // Deadlines of active jobs in primary key order, used to rebuild the expiry timing wheel
+    @Query("select new com.MicroServices.JobApp.Dto.Job.JobDeadline(j.id, j.deadline) from Job j "
+            + "where j.isActive = true and j.deadline is not null and j.id > :id order by j.id")
+    List<JobDeadline> findActiveDeadlinesAfterId(@Param("id") Long id, Pageable pageable);
+
+    // Set-based expiry of one batch; re-checks the deadline so a job extended in the meantime stays active, and
+    // returns the ids of exactly the rows it deactivated (not ones that were already inactive)
+    @Query(value = "UPDATE jobs SET is_active = false, version = coalesce(version, 0) + 1, updated_at = :now "
+            + "WHERE id IN (:ids) AND is_active AND deadline < :today RETURNING id", nativeQuery = true)
+    List<Long> deactivateExpired(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today, @Param("now") Instant now);
+
+    // Conditional GET: version of a job and its company without loading either
+    @Query("select new com.MicroServices.JobApp.Helper.ResourceVersion(j.version, j.updatedAt, c.version, c.updatedAt) "
+            + "from Job j left join j.company c where j.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    // Collection ETag: the single row maintained by the V13 triggers, a primary key lookup
+    @Query(value = "SELECT version, CAST(floor(extract(epoch FROM modified_at) * 1000) AS bigint) AS modified "
+            + "FROM job_collection_version WHERE id = 1", nativeQuery = true)
+    CollectionVersionRow findCollectionVersionRow();
+
+    default CollectionVersion findCollectionVersion() {
+        CollectionVersionRow row = findCollectionVersionRow();
+        return new CollectionVersion(row.getVersion(), Instant.ofEpochMilli(row.getModified()));
+    }
+
+    interface CollectionVersionRow {
+        Long getVersion();
+
+        Long getModified();
+    }
+
+    // Delta sync: jobs inserted or updated after the watermark, in change order (idx_jobs_change_seq)
+    @Query("select j from Job j left join fetch j.company where j.changeSeq > :after order by j.changeSeq")
+    List<Job> findChangedAfter(@Param("after") long after, Pageable pageable);
+
+    // Database clock in epoch milliseconds, the clock the change times of jobs and tombstones are taken from
+    @Query(value = "SELECT CAST(floor(extract(epoch FROM clock_timestamp()) * 1000) AS bigint)", nativeQuery = true)
+    long currentDatabaseTimeMillis();
+
+    // Rows for ids resolved elsewhere (e.g. the in-memory snapshot), company fetched in the same query
+    @Query("select j from Job j left join fetch j.company where j.id in :ids")
+    List<Job> findAllWithCompanyByIdIn(@Param("ids") Collection<Long> ids);
 }
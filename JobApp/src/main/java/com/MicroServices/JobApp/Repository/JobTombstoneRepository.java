@@ -0,0 +1,18 @@
+package com.MicroServices.JobApp.Repository;
+
+import com.MicroServices.JobApp.Entity.JobTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobTombstoneRepository extends JpaRepository<JobTombstone, Long> {
+
+    // Delta sync: deletes after the watermark, in change order
+    @Query("select t from JobTombstone t where t.changeSeq > :after order by t.changeSeq")
+    List<JobTombstone> findChangedAfter(@Param("after") long after, Pageable pageable);
+}
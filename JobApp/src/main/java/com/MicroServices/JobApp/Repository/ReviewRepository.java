@@ -1,7 +1,11 @@
 package com.MicroServices.JobApp.Repository;
 
 import com.MicroServices.JobApp.Entity.Review;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +17,27 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
     List<Review> findByCompanyIdAndId(Integer companyId, Integer id);
 
     void deleteByCompanyIdAndId(Integer companyId, Integer reviewId);
+
+    // Keyset pagination of a company's reviews, newest first: a range scan of (company_id, id)
+    @Query("select r from Review r where r.company.id = :companyId order by r.id desc")
+    Slice<Review> findFirstSliceByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
+    @Query("select r from Review r where r.company.id = :companyId and r.id < :id order by r.id desc")
+    Slice<Review> findSliceByCompanyIdAfter(@Param("companyId") Long companyId, @Param("id") Long id, Pageable pageable);
+
+    // By rating, id breaks ties so the order is stable: a range scan of (company_id, rating, id), either direction.
+    // rating is NOT NULL (see V12 migration), so the (rating, id) comparison and the cursor cover every review
+    @Query("select r from Review r where r.company.id = :companyId order by r.rating desc, r.id desc")
+    Slice<Review> findFirstSliceByCompanyIdOrderByRatingDesc(@Param("companyId") Long companyId, Pageable pageable);
+
+    @Query("select r from Review r where r.company.id = :companyId and (r.rating, r.id) < (:rating, :id) order by r.rating desc, r.id desc")
+    Slice<Review> findSliceByCompanyIdOrderByRatingDescAfter(@Param("companyId") Long companyId, @Param("rating") Integer rating,
+                                                             @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from Review r where r.company.id = :companyId order by r.rating asc, r.id asc")
+    Slice<Review> findFirstSliceByCompanyIdOrderByRatingAsc(@Param("companyId") Long companyId, Pageable pageable);
+
+    @Query("select r from Review r where r.company.id = :companyId and (r.rating, r.id) > (:rating, :id) order by r.rating asc, r.id asc")
+    Slice<Review> findSliceByCompanyIdOrderByRatingAscAfter(@Param("companyId") Long companyId, @Param("rating") Integer rating,
+                                                            @Param("id") Long id, Pageable pageable);
 }
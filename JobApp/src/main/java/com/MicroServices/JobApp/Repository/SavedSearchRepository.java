@@ -0,0 +1,28 @@
+package com.MicroServices.JobApp.Repository;
+
+import com.MicroServices.JobApp.Entity.SavedSearch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Integer> {
+
+    @Query("select s from SavedSearch s where s.user.id = :userId order by s.id")
+    List<SavedSearch> findByUserId(@Param("userId") Long userId);
+
+    @Query("select s from SavedSearch s where s.id = :id and s.user.id = :userId")
+    Optional<SavedSearch> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("select count(s) from SavedSearch s where s.user.id = :userId")
+    long countByUserId(@Param("userId") Long userId);
+
+    // Percolator build: keyset batches over all saved searches
+    @Query("select s from SavedSearch s where s.id > :afterId order by s.id")
+    List<SavedSearch> findAfterId(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -1,6 +1,11 @@
 package com.MicroServices.JobApp.Services.Impl.Company;
 
 import com.MicroServices.JobApp.Dto.Company.CompanyDTO;
+import com.MicroServices.JobApp.Dto.Company.CompanyFilter;
+import com.MicroServices.JobApp.Dto.Company.CompanyWithJobsDTO;
+import com.MicroServices.JobApp.Helper.CursorPage;
+import com.MicroServices.JobApp.Helper.ResourceVersion;
+import org.springframework.data.domain.Page;
 
 import java.util.HashMap;
 import java.util.List;
@@ -10,11 +15,21 @@ public interface CompanyServices {
 
     CompanyDTO getCompanyByCompanyId(Integer companyId);
 
+    CompanyWithJobsDTO getCompanyWithJobsByCompanyId(Integer companyId);
+
+    ResourceVersion getCompanyVersion(Integer companyId);
+
     List<CompanyDTO> getAllCompany();
 
-    CompanyDTO updateTheCompanyById(Integer companyId, CompanyDTO companyDTO);
+    List<CompanyWithJobsDTO> getAllCompanyWithJobs();
+
+    CursorPage<CompanyDTO> searchCompanies(CompanyFilter filter);
+
+    Page<CompanyDTO> getCompaniesPage(CompanyFilter filter);
+
+    CompanyDTO updateTheCompanyById(Integer companyId, CompanyDTO companyDTO, Long expectedVersion);
 
-    CompanyDTO partialUpdateCompany(int companyId, HashMap<String, Object> updatedCompanyDetails);
+    CompanyDTO partialUpdateCompany(int companyId, HashMap<String, Object> updatedCompanyDetails, Long expectedVersion);
 
     void deleteCompany(int companyId);
 }
@@ -1,20 +1,37 @@
 package com.MicroServices.JobApp.Services.Impl.Company;
 
 import com.MicroServices.JobApp.Dto.Company.CompanyDTO;
+import com.MicroServices.JobApp.Dto.Company.CompanyFilter;
+import com.MicroServices.JobApp.Dto.Company.CompanyWithJobsDTO;
 import com.MicroServices.JobApp.Entity.Company;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Events.CompanyChangedEvent;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
 import com.MicroServices.JobApp.Exceptions.ResourceNotFoundException;
+import com.MicroServices.JobApp.Helper.CursorPage;
+import com.MicroServices.JobApp.Helper.ResourceVersion;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
 import com.MicroServices.JobApp.Repository.CompanyRepository;
 import com.MicroServices.JobApp.Services.Impl.Job.JobServicesImpl;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.MicroServices.JobApp.Utils.CompanySpecification;
+import com.MicroServices.JobApp.Utils.CursorCodec;
+import com.MicroServices.JobApp.Utils.Patch.EntityPatcher;
+import com.MicroServices.JobApp.Utils.VersionETag;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -22,45 +39,134 @@ public class CompanyServicesImpl implements CompanyServices {
 
     private static final Logger log = LoggerFactory.getLogger(JobServicesImpl.class);
 
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final CompanyRepository companyRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper;
+
+    // Mutable company fields for PATCH; jobs and reviews are managed through their own endpoints
+    private static final EntityPatcher<Company> COMPANY_PATCHER = EntityPatcher.<Company>builder("Company")
+            .stringField("name", Company::getName, Company::setName, true)
+            .stringField("description", Company::getDescription, Company::setDescription, false)
+            .stringField("websiteUrl", Company::getWebsiteUrl, Company::setWebsiteUrl, false)
+            .stringField("email", Company::getEmail, Company::setEmail, true)
+            .stringField("phoneNumber", Company::getPhoneNumber, Company::setPhoneNumber, false)
+            .stringField("address", Company::getAddress, Company::setAddress, false)
+            .stringField("industry", Company::getIndustry, Company::setIndustry, false)
+            .integerField("foundedYear", Company::getFoundedYear, Company::setFoundedYear, false)
+            .integerField("employeeCount", Company::getEmployeeCount, Company::setEmployeeCount, false)
+            .booleanField("isActive", Company::isActive, Company::setActive)
+            .alias("active", "isActive")
+            .build();
+
     @Autowired
-    private ObjectMapper objectMapper;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private Validator validator;
+
+    private final CompanyStatsServices companyStatsServices;
 
     @Autowired
-    public CompanyServicesImpl(CompanyRepository companyRepository) {
+    public CompanyServicesImpl(CompanyRepository companyRepository, CompanyStatsServices companyStatsServices) {
         this.companyRepository = companyRepository;
+        this.companyStatsServices = companyStatsServices;
     }
 
+    @Transactional
     @Override
     public CompanyDTO saveCompany(CompanyDTO companyDTO) {
-        Company company = modelMapper.map(companyDTO, Company.class);
+        Company company = dtoMapper.toCompany(companyDTO);
         companyRepository.save(company);
-        return modelMapper.map(company, CompanyDTO.class);
+        companyStatsServices.initializeCompany(company.getId());
+        return dtoMapper.toCompanyDto(company);
     }
 
     @Override
     public CompanyDTO getCompanyByCompanyId(Integer companyId) {
-        return modelMapper.map(companyRepository.findById(companyId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Company not found with ID: " + companyId)),
-                CompanyDTO.class);
+        return dtoMapper.toCompanyDto(companyRepository.findById(companyId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Company not found with ID: " + companyId)));
+
+    }
 
+    @Override
+    public CompanyWithJobsDTO getCompanyWithJobsByCompanyId(Integer companyId) {
+        return dtoMapper.toCompanyWithJobsDto(companyRepository.findWithJobsById(companyId.longValue())
+                .orElseThrow(() -> new ResourceNotFoundException("Company not found with ID: " + companyId)));
     }
 
+    @Override
+    public ResourceVersion getCompanyVersion(Integer companyId) {
+        return companyRepository.findVersionById(companyId.longValue())
+                .orElseThrow(() -> new ResourceNotFoundException("Company not found with ID: " + companyId));
+    }
+
+    // One projection query, whatever the number of companies
     @Override
     public List<CompanyDTO> getAllCompany() {
-        List<Company> companyList = companyRepository.findAll();
-        return companyList.stream().map(company -> modelMapper.map(company, CompanyDTO.class)).toList();
+        return companyRepository.findAllSummaries();
     }
 
+    // One query joining the jobs (entity graph), instead of one query per company
+    @Override
+    public List<CompanyWithJobsDTO> getAllCompanyWithJobs() {
+        List<Company> companyList = companyRepository.findAllWithJobs();
+        log.info("Fetched {} companies with their jobs", companyList.size());
+        return companyList.stream().map(dtoMapper::toCompanyWithJobsDto).toList();
+    }
+
+    // Keyset pagination in id order: each page is an index range scan from the last id seen, so page 1000 costs
+    // the same as page 1, and one row past the page tells whether another follows without a count
+    @Override
+    public CursorPage<CompanyDTO> searchCompanies(CompanyFilter filter) {
+        int size = searchPageSize(filter);
+        Specification<Company> spec = CompanySpecification.fromFilter(filter);
+        if (filter.getAfter() != null && !filter.getAfter().isBlank()) {
+            String[] cursor = CursorCodec.decode(filter.getAfter(), 1);
+            try {
+                spec = spec.and(CompanySpecification.idGreaterThan(Long.valueOf(cursor[0])));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + filter.getAfter(), e);
+            }
+        }
+
+        List<Company> companyList = companyRepository.findBy(spec, query -> query.sortBy(Sort.by("id")).limit(size + 1).all());
+        boolean hasNext = companyList.size() > size;
+        List<Company> content = hasNext ? companyList.subList(0, size) : companyList;
+        String nextCursor = hasNext ? CursorCodec.encode(content.get(content.size() - 1).getId()) : null;
+        log.info("Company search returned {} companies, hasNext:-{}", content.size(), hasNext);
+        return new CursorPage<>(content.stream().map(dtoMapper::toCompanyDto).toList(), nextCursor, hasNext);
+    }
+
+    @Override
+    public Page<CompanyDTO> getCompaniesPage(CompanyFilter filter) {
+        if (filter.getPage() < 0) {
+            throw new IllegalArgumentException("page must be >= 0");
+        }
+        PageRequest pageRequest = PageRequest.of(filter.getPage(), searchPageSize(filter), Sort.by("id"));
+        return companyRepository.findAll(CompanySpecification.fromFilter(filter), pageRequest).map(dtoMapper::toCompanyDto);
+    }
+
+    private static int searchPageSize(CompanyFilter filter) {
+        int size = filter.getSize() == null ? DEFAULT_SEARCH_PAGE_SIZE : filter.getSize();
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be >= 1");
+        }
+        return Math.min(size, MAX_SEARCH_PAGE_SIZE);
+    }
+
+    // Cached JobDTOs embed their company, so company writes publish a CompanyChangedEvent and the job caches are
+    // dropped once it has committed (JobCacheInvalidator, JobFilterResultCache)
     @Transactional
     @Override
-    public CompanyDTO updateTheCompanyById(Integer companyId, CompanyDTO companyDTO) {
+    public CompanyDTO updateTheCompanyById(Integer companyId, CompanyDTO companyDTO, Long expectedVersion) {
 
         Company existingCompany = companyRepository.findById(companyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found with ID: " + companyId));
+        VersionETag.requireMatch("Company", companyId, existingCompany.getVersion(), expectedVersion);
         existingCompany.setName(companyDTO.getName());
         existingCompany.setDescription(companyDTO.getDescription());
         existingCompany.setWebsiteUrl(companyDTO.getWebsiteUrl());
@@ -73,42 +179,64 @@ public class CompanyServicesImpl implements CompanyServices {
         System.out.println(companyDTO.getAddress() + "-------------");
         existingCompany.setActive(companyDTO.getIsActive());
         System.out.println(existingCompany.isActive() + "-------------");
-        Company updatedCompany = companyRepository.save(existingCompany);
-        return modelMapper.map(updatedCompany, CompanyDTO.class);
+        // Flushed here so the conditional UPDATE runs now and the returned DTO carries the new version
+        Company updatedCompany = companyRepository.saveAndFlush(existingCompany);
+        eventPublisher.publishEvent(new CompanyChangedEvent(CompanyChangedEvent.ChangeType.UPDATED, updatedCompany.getId()));
+        return dtoMapper.toCompanyDto(updatedCompany);
     }
 
+    @Transactional
     @Override
-    public CompanyDTO partialUpdateCompany(int companyId, HashMap<String, Object> updatedCompanyDetails) {
+    public CompanyDTO partialUpdateCompany(int companyId, HashMap<String, Object> updatedCompanyDetails, Long expectedVersion) {
         log.info("Fetching Company based on company id:-{}", companyId);
 
         Company company = companyRepository.findById(companyId).orElseThrow(() ->
                 new ResourceNotFoundException("Company Not Found With ID :-" + companyId)
         );
+        VersionETag.requireMatch("Company", companyId, company.getVersion(), expectedVersion);
 
-        try {
-            log.debug("Applying partial update with data: {}", updatedCompanyDetails);
-            objectMapper.updateValue(company, updatedCompanyDetails);
-        } catch (IllegalArgumentException illegalArgumentException) {
-            log.error("Invalid update data provided for company id{} : {}", companyId, illegalArgumentException.getMessage());
-            throw new IllegalArgumentException("Invalid UpdatedData: " + illegalArgumentException.getMessage(), illegalArgumentException);
-        } catch (Exception e) {
-            log.error("Unexpected error occurred while updating company id {}: {}", companyId, e.getMessage());
-            throw new RuntimeException("Unexpected error occurred during the update operation", e);
+        log.debug("Applying partial update with data: {}", updatedCompanyDetails);
+        List<String> changedFields = COMPANY_PATCHER.apply(company, updatedCompanyDetails);
+        if (changedFields.isEmpty()) {
+            log.info("Partial update for Company Id :-{} changed nothing", companyId);
+            return dtoMapper.toCompanyDto(company);
         }
+        // Checked against the CompanyDTO constraints before the flush; throwing rolls the patched entity back
+        requireValid(dtoMapper.toCompanyDto(company));
 
-        Company updatedCompany = companyRepository.save(company);
-        log.info("Successfully updated Company Id :-{}", companyId);
+        Company updatedCompany = companyRepository.saveAndFlush(company);
+        eventPublisher.publishEvent(new CompanyChangedEvent(CompanyChangedEvent.ChangeType.UPDATED, updatedCompany.getId()));
+        log.info("Successfully updated Company Id :-{}, fields:-{}", companyId, changedFields);
 
-        return modelMapper.map(updatedCompany, CompanyDTO.class);
+        return dtoMapper.toCompanyDto(updatedCompany);
     }
 
+    @Transactional
     @Override
     public void deleteCompany(int companyId) {
 
         Company company = companyRepository.findById(companyId).orElseThrow(() ->
                 new ResourceNotFoundException("Company Not Found With ID :-" + companyId)
         );
+        // Jobs go with the company (orphan removal); the job read models must hear about each of them. The lazy
+        // list is loaded here, inside the transaction
+        List<Job> removedJobs = company.getJobList() == null ? List.of() : List.copyOf(company.getJobList());
         companyRepository.deleteById(companyId);
+        for (Job job : removedJobs) {
+            eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.ChangeType.DELETED, job));
+        }
+        eventPublisher.publishEvent(new CompanyChangedEvent(CompanyChangedEvent.ChangeType.DELETED, (long) companyId));
+        // The job events' stats deltas run after commit and only update existing rows, so this stays removed
+        companyStatsServices.removeCompany((long) companyId);
     }
 
+    private void requireValid(CompanyDTO companyDTO) {
+        String errors = validator.validate(companyDTO).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Validation failed for the following fields: " + errors);
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package com.MicroServices.JobApp.Services.Impl.Company;
+
+import com.MicroServices.JobApp.Dto.Company.CompanyStatsDTO;
+import com.MicroServices.JobApp.Dto.Review.ReviewStatsDTO;
+
+import java.util.List;
+
+public interface CompanyStatsServices {
+    CompanyStatsDTO getCompanyStats(Long companyId);
+
+    List<CompanyStatsDTO> getCompanyStats(List<Long> companyIds);
+
+    ReviewStatsDTO getReviewStats(Long companyId);
+
+    void reviewAdded(Long companyId, int rating);
+
+    void reviewRemoved(Long companyId, int rating);
+
+    void initializeCompany(Long companyId);
+
+    void removeCompany(Long companyId);
+
+    int reconcile();
+}
@@ -0,0 +1,180 @@
+package com.MicroServices.JobApp.Services.Impl.Company;
+
+import com.MicroServices.JobApp.Dto.Company.CompanyStatsDTO;
+import com.MicroServices.JobApp.Dto.Review.ReviewStatsDTO;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import com.MicroServices.JobApp.Exceptions.ResourceNotFoundException;
+import com.MicroServices.JobApp.Repository.CompanyRepository;
+import com.MicroServices.JobApp.Repository.CompanyStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Maintains the {@code company_stats} read model: open job count, review count, rating sum and rating histogram
+ * (reviews per star) per company.
+ * <p>
+ * Every job or review write adds its delta with one atomic statement, so a company card is one primary-key
+ * lookup. Reviews are reported by ReviewServicesImpl inside the review's transaction, so their deltas commit or
+ * roll back with it. Jobs are followed through {@link JobChangedEvent} once the write has committed (or right away
+ * for writes without a transaction, like the bulk and async paths), in a transaction of their own: a rolled-back
+ * job write never counts, and a failing delta is logged without failing the writer. Only real active/inactive
+ * transitions count, so an event for a job that was already inactive changes nothing.
+ * <p>
+ * Deltas that are lost (a failed delta, a crash between commit and delta) or unknowable (manual SQL, an update
+ * whose previous active flag is unknown) are corrected by {@link #reconcile()}, which recomputes the rows
+ * set-based in batches of companies on startup and on a schedule. A write that commits while its company's batch
+ * is being recomputed can be overwritten by the older count; the next run corrects that too.
+ * <p>
+ * Metrics: {@code company.stats.reconciled} (rows found missing or wrong by a reconcile).
+ */
+@Service
+public class CompanyStatsServicesImpl implements CompanyStatsServices {
+
+    private static final Logger log = LoggerFactory.getLogger(CompanyStatsServicesImpl.class);
+    private static final int MAX_BATCH_IDS = 100;
+
+    private final CompanyStatsRepository companyStatsRepository;
+    private final CompanyRepository companyRepository;
+    private final int reconcileBatchSize;
+    private final Counter reconciledCounter;
+    private final TransactionTemplate deltaTransaction;
+
+    public CompanyStatsServicesImpl(CompanyStatsRepository companyStatsRepository, CompanyRepository companyRepository,
+                                    MeterRegistry meterRegistry, PlatformTransactionManager transactionManager,
+                                    @Value("${app.company-stats.reconcile-batch-size:500}") int reconcileBatchSize) {
+        this.companyStatsRepository = companyStatsRepository;
+        this.companyRepository = companyRepository;
+        this.reconcileBatchSize = reconcileBatchSize;
+        // After commit the writer's transaction is still bound to the thread, so the delta needs its own
+        this.deltaTransaction = new TransactionTemplate(transactionManager);
+        this.deltaTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reconciledCounter = Counter.builder("company.stats.reconciled")
+                .description("Company stats rows corrected by the reconcile job")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompanyStatsDTO getCompanyStats(Long companyId) {
+        return companyStatsRepository.findStatsByCompanyId(companyId)
+                .orElseThrow(() -> new ResourceNotFoundException("Company stats not found for company ID: " + companyId));
+    }
+
+    // Companies without stats (unknown ids) are left out of the result
+    @Override
+    public List<CompanyStatsDTO> getCompanyStats(List<Long> companyIds) {
+        if (companyIds == null || companyIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one company id is required");
+        }
+        LinkedHashSet<Long> distinctIds = new LinkedHashSet<>(companyIds);
+        if (distinctIds.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_IDS + " company ids per request");
+        }
+        return companyStatsRepository.findStatsByCompanyIdIn(distinctIds);
+    }
+
+    // One primary-key lookup, however many reviews the company has
+    @Override
+    public ReviewStatsDTO getReviewStats(Long companyId) {
+        return companyStatsRepository.findReviewStatsByCompanyId(companyId)
+                .orElseThrow(() -> new ResourceNotFoundException("Review stats not found for company ID: " + companyId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Job job = event.getJob();
+        if (job.getCompany() == null || job.getCompany().getId() == null) {
+            return;
+        }
+        int openJobDelta = switch (event.getChangeType()) {
+            case CREATED -> job.isActive() ? 1 : 0;
+            case DELETED -> job.isActive() ? -1 : 0;
+            // An unknown previous state is left to the reconcile
+            case UPDATED, EXPIRED -> event.getPreviouslyActive() == null ? 0
+                    : (job.isActive() ? 1 : 0) - (event.getPreviouslyActive() ? 1 : 0);
+        };
+        if (openJobDelta == 0) {
+            return;
+        }
+        Long companyId = job.getCompany().getId();
+        try {
+            deltaTransaction.executeWithoutResult(status -> companyStatsRepository.applyOpenJobDelta(companyId, openJobDelta));
+        } catch (RuntimeException e) {
+            log.error("Company stats delta failed for company Id :-{}, left to the reconcile: {}", companyId, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void reviewAdded(Long companyId, int rating) {
+        companyStatsRepository.applyReviewDelta(companyId, rating, 1);
+    }
+
+    @Override
+    public void reviewRemoved(Long companyId, int rating) {
+        companyStatsRepository.applyReviewDelta(companyId, rating, -1);
+    }
+
+    // A new company gets its (empty) row right away, so its card never has to fall back to the source tables
+    @Override
+    public void initializeCompany(Long companyId) {
+        companyStatsRepository.insertEmpty(companyId);
+    }
+
+    @Override
+    public void removeCompany(Long companyId) {
+        companyStatsRepository.deleteByCompanyId(companyId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Company stats reconcile failed on startup: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Recomputes the stats from the jobs and reviews tables, one batch of companies per statement (and
+     * transaction), so no long transaction holds locks on the stats. Returns the number of rows corrected.
+     */
+    @Scheduled(fixedDelayString = "${app.company-stats.reconcile-interval:PT1H}", initialDelayString = "${app.company-stats.reconcile-interval:PT1H}")
+    @Override
+    public int reconcile() {
+        int corrected = 0;
+        Long lastId = 0L;
+        List<Long> companyIds;
+        do {
+            companyIds = companyRepository.findIdsAfter(lastId, PageRequest.of(0, reconcileBatchSize));
+            if (!companyIds.isEmpty()) {
+                lastId = companyIds.get(companyIds.size() - 1);
+                corrected += companyStatsRepository.reconcileRange(companyIds.get(0), lastId);
+            }
+        } while (companyIds.size() == reconcileBatchSize);
+        int orphans = companyStatsRepository.deleteOrphans();
+
+        reconciledCounter.increment(corrected + orphans);
+        if (corrected + orphans > 0) {
+            log.warn("Company stats reconcile corrected {} row(s) and removed {} orphan(s)", corrected, orphans);
+        } else {
+            log.info("Company stats reconcile found no drift");
+        }
+        return corrected;
+    }
+}
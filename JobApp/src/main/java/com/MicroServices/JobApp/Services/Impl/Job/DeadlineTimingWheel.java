@@ -0,0 +1,138 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel of job ids keyed by the epoch day they fall due.
+ * <p>
+ * Level 0 has one bucket per day for the next 64 days, level 1 one bucket per 64 days (~11 years), level 2 one per
+ * 4096 days (~718 years); anything further waits in an overflow set. Scheduling is O(1), and advancing by a day
+ * only touches the bucket for that day, plus a cascade of one higher-level bucket into the lower levels every 64
+ * (or 4096) days.
+ * <p>
+ * Rescheduling and cancelling do not search the buckets: the authoritative due day of each id is kept in a map, and
+ * bucket entries that no longer match it are dropped when their bucket is reached. Not thread-safe.
+ */
+final class DeadlineTimingWheel {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+
+    private final List<List<Set<Long>>> buckets = new ArrayList<>(LEVELS);
+    private final Map<Long, Long> dueDayById = new HashMap<>();
+    private Set<Long> overflow = new HashSet<>();
+    private Set<Long> due = new HashSet<>();
+    private long currentDay;
+
+    DeadlineTimingWheel(long currentDay) {
+        this.currentDay = currentDay;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Long>> levelBuckets = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                levelBuckets.add(new HashSet<>());
+            }
+            buckets.add(levelBuckets);
+        }
+    }
+
+    long getCurrentDay() {
+        return currentDay;
+    }
+
+    int size() {
+        return dueDayById.size();
+    }
+
+    /**
+     * Schedules (or reschedules) the id for the given epoch day; a day that is not after the current one is due at
+     * the next {@link #advanceTo(long)}.
+     */
+    void schedule(long id, long dueDay) {
+        dueDayById.put(id, dueDay);
+        place(id, dueDay);
+    }
+
+    void cancel(long id) {
+        dueDayById.remove(id);
+    }
+
+    /**
+     * Moves the wheel forward to the given epoch day and returns the ids that are due by then. Returned ids are
+     * no longer scheduled.
+     */
+    List<Long> advanceTo(long day) {
+        while (currentDay < day) {
+            currentDay++;
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                if ((currentDay & ((1L << (BITS * level)) - 1)) == 0) {
+                    if (level == LEVELS - 1) {
+                        Set<Long> waiting = overflow;
+                        overflow = new HashSet<>();
+                        replace(waiting);
+                    }
+                    cascade(level, slotOf(currentDay, level));
+                }
+            }
+            cascade(0, slotOf(currentDay, 0));
+        }
+
+        Set<Long> candidates = due;
+        due = new HashSet<>();
+        List<Long> ready = new ArrayList<>(candidates.size());
+        for (Long id : candidates) {
+            Long dueDay = dueDayById.get(id);
+            if (dueDay == null) {
+                continue;
+            }
+            if (dueDay <= currentDay) {
+                dueDayById.remove(id);
+                ready.add(id);
+            } else {
+                // Rescheduled to a later day after it became due
+                place(id, dueDay);
+            }
+        }
+        return ready;
+    }
+
+    private void cascade(int level, int slot) {
+        Set<Long> ids = buckets.get(level).get(slot);
+        buckets.get(level).set(slot, new HashSet<>());
+        replace(ids);
+    }
+
+    private void replace(Set<Long> ids) {
+        for (Long id : ids) {
+            Long dueDay = dueDayById.get(id);
+            if (dueDay != null) {
+                place(id, dueDay);
+            }
+        }
+    }
+
+    private void place(long id, long dueDay) {
+        long delta = dueDay - currentDay;
+        if (delta <= 0) {
+            due.add(id);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (BITS * (level + 1))) {
+                buckets.get(level).get(slotOf(dueDay, level)).add(id);
+                return;
+            }
+        }
+        overflow.add(id);
+    }
+
+    private static int slotOf(long day, int level) {
+        return (int) ((day >>> (BITS * level)) & MASK);
+    }
+}
@@ -0,0 +1,14 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Dto.Job.BulkJobResponse;
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public interface JobBulkServices {
+    BulkJobResponse saveJobs(List<JobDTO> jobDTOList);
+
+    BulkJobResponse saveJobs(InputStream ndjsonStream) throws IOException;
+}
@@ -0,0 +1,219 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Dto.Job.BulkJobItemResult;
+import com.MicroServices.JobApp.Dto.Job.BulkJobResponse;
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import com.MicroServices.JobApp.Entity.Company;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import com.MicroServices.JobApp.Exceptions.ResourceNotFoundException;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Bulk job ingestion.
+ * <p>
+ * Valid items are persisted in chunks of {@code app.jobs.bulk.batch-size}, one transaction per chunk,
+ * so Hibernate sends each chunk as a single JDBC batch (see {@code HibernateConfig}). The persistence
+ * context is flushed and cleared after every chunk to keep memory flat for large feeds. When a chunk
+ * fails, it is retried row by row so the one bad item is reported without failing its neighbours.
+ * <p>
+ * Chunks commit as they go, so once reading has started nothing fails the request as a whole: an item past
+ * {@code app.jobs.bulk.max-items} or a line of the NDJSON stream that cannot be parsed is reported as a failed
+ * item, and reading stops there. Change events are published only after their chunk has committed, and a failing
+ * listener is logged rather than retried, so a committed row is never inserted twice.
+ */
+@Service
+public class JobBulkServicesImpl implements JobBulkServices {
+
+    private static final Logger log = LoggerFactory.getLogger(JobBulkServicesImpl.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DtoMapper dtoMapper;
+    private final ObjectMapper objectMapper;
+    private final JobValidator jobValidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxItems;
+
+    public JobBulkServicesImpl(DtoMapper dtoMapper, ObjectMapper objectMapper, JobValidator jobValidator,
+                               ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                               @Value("${app.jobs.bulk.batch-size:50}") int batchSize,
+                               @Value("${app.jobs.bulk.max-items:50000}") int maxItems) {
+        this.dtoMapper = dtoMapper;
+        this.objectMapper = objectMapper;
+        this.jobValidator = jobValidator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public BulkJobResponse saveJobs(List<JobDTO> jobDTOList) {
+        if (jobDTOList == null || jobDTOList.isEmpty()) {
+            throw new IllegalArgumentException("At least one job is required");
+        }
+        // A whole array is rejected before anything is written
+        if (jobDTOList.size() > maxItems) {
+            throw new IllegalArgumentException("A bulk request may contain at most " + maxItems + " jobs");
+        }
+        return saveJobs(jobDTOList.iterator());
+    }
+
+    @Override
+    public BulkJobResponse saveJobs(InputStream ndjsonStream) throws IOException {
+        try (MappingIterator<JobDTO> iterator = objectMapper.readerFor(JobDTO.class).readValues(ndjsonStream)) {
+            return saveJobs(iterator);
+        }
+    }
+
+    private BulkJobResponse saveJobs(Iterator<JobDTO> jobDTOs) {
+        List<BulkJobItemResult> results = new ArrayList<>();
+        List<Integer> chunkIndexes = new ArrayList<>(batchSize);
+        List<JobDTO> chunk = new ArrayList<>(batchSize);
+
+        int index = 0;
+        while (true) {
+            JobDTO jobDTO;
+            try {
+                if (!jobDTOs.hasNext()) {
+                    break;
+                }
+                if (index >= maxItems) {
+                    results.add(BulkJobItemResult.failed(index, List.of(
+                            "A bulk request may contain at most " + maxItems + " jobs; this and any later items were not read")));
+                    break;
+                }
+                jobDTO = jobDTOs.next();
+            } catch (RuntimeException e) {
+                // Unparseable NDJSON (RuntimeJsonMappingException): the reader can't resync reliably, so stop here
+                results.add(BulkJobItemResult.failed(index, List.of(
+                        "Unreadable item, this and any later items were not read: " + rootCauseMessage(e))));
+                break;
+            }
+            results.add(null);
+
+            List<String> errors = jobValidator.validate(jobDTO);
+            if (errors.isEmpty()) {
+                chunkIndexes.add(index);
+                chunk.add(jobDTO);
+            } else {
+                results.set(index, BulkJobItemResult.failed(index, errors));
+            }
+            if (chunk.size() == batchSize) {
+                insertChunk(chunkIndexes, chunk, results);
+                chunkIndexes.clear();
+                chunk.clear();
+            }
+            index++;
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunkIndexes, chunk, results);
+        }
+        if (results.isEmpty()) {
+            throw new IllegalArgumentException("At least one job is required");
+        }
+
+        BulkJobResponse response = new BulkJobResponse(results);
+        log.info("Bulk job ingestion finished:- total={}, succeeded={}, failed={}",
+                response.getTotal(), response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    private void insertChunk(List<Integer> chunkIndexes, List<JobDTO> chunk, List<BulkJobItemResult> results) {
+        List<Job> savedJobs;
+        try {
+            savedJobs = transactionTemplate.execute(status -> persistAll(chunk));
+        } catch (RuntimeException e) {
+            log.warn("Bulk chunk of {} jobs failed, retrying row by row:- {}", chunk.size(), e.getMessage());
+            for (int i = 0; i < chunk.size(); i++) {
+                insertSingle(chunkIndexes.get(i), chunk.get(i), results);
+            }
+            return;
+        }
+        // Committed: from here on the rows exist whatever the listeners do
+        for (int i = 0; i < savedJobs.size(); i++) {
+            results.set(chunkIndexes.get(i), BulkJobItemResult.created(chunkIndexes.get(i), savedJobs.get(i).getId()));
+            publishCreated(savedJobs.get(i));
+        }
+    }
+
+    private void insertSingle(int index, JobDTO jobDTO, List<BulkJobItemResult> results) {
+        Job savedJob;
+        try {
+            savedJob = transactionTemplate.execute(status -> persistAll(List.of(jobDTO))).get(0);
+        } catch (RuntimeException e) {
+            log.warn("Bulk job at index {} failed:- {}", index, e.getMessage());
+            results.set(index, BulkJobItemResult.failed(index, List.of(rootCauseMessage(e))));
+            return;
+        }
+        results.set(index, BulkJobItemResult.created(index, savedJob.getId()));
+        publishCreated(savedJob);
+    }
+
+    // The read models reconcile or rebuild on their own, so a failing listener must not fail an item that committed
+    private void publishCreated(Job job) {
+        try {
+            eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.ChangeType.CREATED, job));
+        } catch (RuntimeException e) {
+            log.error("Listener failed for bulk-created job id:-{}:- {}", job.getId(), e.getMessage(), e);
+        }
+    }
+
+    private List<Job> persistAll(List<JobDTO> jobDTOs) {
+        List<Job> jobs = new ArrayList<>(jobDTOs.size());
+        for (JobDTO jobDTO : jobDTOs) {
+            Job job = toEntity(jobDTO);
+            entityManager.persist(job);
+            jobs.add(job);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return jobs;
+    }
+
+    private Job toEntity(JobDTO jobDTO) {
+        Job job = dtoMapper.toJob(jobDTO);
+        job.setId(null);
+        // Resolved through the persistence context, so each company is loaded once per chunk
+        if (jobDTO.getCompany() != null && jobDTO.getCompany().getId() != null) {
+            Long companyId = jobDTO.getCompany().getId();
+            Company company = entityManager.find(Company.class, companyId);
+            if (company == null) {
+                throw new ResourceNotFoundException("Company not found with ID: " + companyId);
+            }
+            job.setCompany(company);
+        } else {
+            job.setCompany(null);
+        }
+        return job;
+    }
+
+    private static String rootCauseMessage(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,43 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Configrations.CacheConfig;
+import com.MicroServices.JobApp.Events.CompanyChangedEvent;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts the cached {@code JobDTO} of a job once a write to that job has committed, and every cached job once a
+ * company write has committed (the DTOs embed their company).
+ * <p>
+ * Evicting before the commit would let a concurrent reader put the pre-commit row (and its old version, the ETag
+ * of conditional requests) straight back into the cache.
+ */
+@Component
+public class JobCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(JobCacheInvalidator.class);
+
+    private final Cache jobByIdCache;
+
+    public JobCacheInvalidator(CacheManager cacheManager) {
+        this.jobByIdCache = cacheManager.getCache(CacheConfig.JOB_BY_ID_CACHE);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        log.debug("Evicting cached job {} after {}", event.getJobId(), event.getChangeType());
+        jobByIdCache.evict(event.getJobId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        log.debug("Clearing cached jobs after company {} was {}", event.getCompanyId(), event.getChangeType());
+        jobByIdCache.clear();
+    }
+}
@@ -0,0 +1,7 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Dto.Job.JobChangePage;
+
+public interface JobChangeServices {
+    JobChangePage getChangesAfter(long after, int limit);
+}
@@ -0,0 +1,100 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Dto.Job.JobChange;
+import com.MicroServices.JobApp.Dto.Job.JobChangePage;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Entity.JobTombstone;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
+import com.MicroServices.JobApp.Repository.JobRepository;
+import com.MicroServices.JobApp.Repository.JobTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental job feed for mirrors: every insert, update and delete after a watermark, in change order.
+ * <p>
+ * Inserts and updates come from {@code jobs.change_seq}, deletes from {@code job_tombstones}; both draw from the
+ * same database sequence, so merging them by sequence gives one ordered feed. A job updated several times between
+ * two polls appears once, with its latest state.
+ * <p>
+ * Sequence values are taken when a row is written but become visible at commit, so a slow transaction could
+ * commit a lower value after a higher one has been served. The feed therefore stops at the first change younger
+ * than {@code app.jobs.changes.settle}; clients simply poll again. Change times ({@code jobs.changed_at},
+ * {@code job_tombstones.deleted_at}) and the cutoff all come from the database clock, so skew between application
+ * nodes and the database can't shrink the window.
+ */
+@Service
+public class JobChangeServicesImpl implements JobChangeServices {
+
+    private static final Logger log = LoggerFactory.getLogger(JobChangeServicesImpl.class);
+
+    private final JobRepository jobRepository;
+    private final JobTombstoneRepository jobTombstoneRepository;
+    private final DtoMapper dtoMapper;
+    private final int maxLimit;
+    private final Duration settle;
+
+    public JobChangeServicesImpl(JobRepository jobRepository, JobTombstoneRepository jobTombstoneRepository, DtoMapper dtoMapper,
+                                 @Value("${app.jobs.changes.max-limit:1000}") int maxLimit,
+                                 @Value("${app.jobs.changes.settle:5s}") Duration settle) {
+        this.jobRepository = jobRepository;
+        this.jobTombstoneRepository = jobTombstoneRepository;
+        this.dtoMapper = dtoMapper;
+        this.maxLimit = maxLimit;
+        this.settle = settle;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public JobChangePage getChangesAfter(long after, int limit) {
+        if (after < 0) {
+            throw new IllegalArgumentException("after must not be negative: " + after);
+        }
+        int pageSize = Math.min(Math.max(limit, 1), maxLimit);
+        // One extra row per source tells whether more changes follow
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+        List<Job> jobs = jobRepository.findChangedAfter(after, fetch);
+        List<JobTombstone> tombstones = jobTombstoneRepository.findChangedAfter(after, fetch);
+        Instant settledBefore = Instant.ofEpochMilli(jobRepository.currentDatabaseTimeMillis()).minus(settle);
+
+        List<JobChange> changes = new ArrayList<>(Math.min(pageSize, jobs.size() + tombstones.size()));
+        long watermark = after;
+        boolean unsettled = false;
+        int jobIndex = 0;
+        int tombstoneIndex = 0;
+        while (changes.size() < pageSize && (jobIndex < jobs.size() || tombstoneIndex < tombstones.size())) {
+            Job job = jobIndex < jobs.size() ? jobs.get(jobIndex) : null;
+            JobTombstone tombstone = tombstoneIndex < tombstones.size() ? tombstones.get(tombstoneIndex) : null;
+            boolean takeJob = tombstone == null || (job != null && job.getChangeSeq() < tombstone.getChangeSeq());
+
+            Instant changedAt = takeJob ? job.getChangedAt() : tombstone.getDeletedAt();
+            if (changedAt != null && changedAt.isAfter(settledBefore)) {
+                unsettled = true;
+                break;
+            }
+            if (takeJob) {
+                changes.add(JobChange.upsert(job.getChangeSeq(), dtoMapper.toJobDto(job)));
+                watermark = job.getChangeSeq();
+                jobIndex++;
+            } else {
+                changes.add(JobChange.delete(tombstone.getChangeSeq(), tombstone.getJobId()));
+                watermark = tombstone.getChangeSeq();
+                tombstoneIndex++;
+            }
+        }
+
+        boolean hasMore = !unsettled && (jobIndex < jobs.size() || tombstoneIndex < tombstones.size());
+        log.info("Job changes after:-{} returned {} change(s), watermark:-{}", after, changes.size(), watermark);
+        return new JobChangePage(changes, watermark, hasMore);
+    }
+}
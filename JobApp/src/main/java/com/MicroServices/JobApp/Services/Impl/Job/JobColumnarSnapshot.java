@@ -0,0 +1,365 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import com.MicroServices.JobApp.Repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory columnar copy of the filterable job columns, used to answer {@link JobFilter} queries without SQL.
+ * <p>
+ * Every job occupies one slot in a set of primitive arrays (experience, posted date, deadline as epoch days).
+ * Employment type and location are dictionary-encoded, with one {@link BitSet} of slots per distinct value, and
+ * {@code isActive} is a bitset too. A query intersects bitsets for the equality/substring criteria, then scans the
+ * surviving slots for the range criteria, and returns the matching job ids in the requested order; the rows
+ * themselves are loaded by id.
+ * <p>
+ * The snapshot is built on startup and then maintained from committed {@link JobChangedEvent}s. Title criteria are
+ * not held here, so such filters (and any filter while the snapshot is still cold) go to the database instead.
+ */
+@Component
+public class JobColumnarSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(JobColumnarSnapshot.class);
+
+    // Missing deadline; sorts after every date like NULL does in PostgreSQL and never satisfies "deadline < x"
+    private static final long NO_DATE = Long.MAX_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final JobRepository jobRepository;
+    private final int buildBatchSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Columns columns = new Columns();
+    private List<JobChangedEvent> pendingDuringBuild;
+
+    private volatile boolean ready;
+
+    public JobColumnarSnapshot(JobRepository jobRepository,
+                               @Value("${app.jobs.snapshot.build-batch-size:1000}") int buildBatchSize) {
+        this.jobRepository = jobRepository;
+        this.buildBatchSize = buildBatchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Job snapshot build failed, filters will use the database: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reloads every job from the database into a fresh snapshot and swaps it in. Writes that arrive while the
+     * rows are being read are queued and replayed on the new snapshot, so none is lost.
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringBuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Columns fresh = new Columns();
+        try {
+            Long lastId = 0L;
+            Slice<Job> batch;
+            do {
+                batch = jobRepository.findByIdGreaterThan(lastId, PageRequest.of(0, buildBatchSize, Sort.Direction.ASC, "id"));
+                for (Job job : batch) {
+                    fresh.upsert(job);
+                    lastId = job.getId();
+                }
+            } while (batch.hasNext());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (JobChangedEvent event : pendingDuringBuild) {
+                fresh.apply(event);
+            }
+            pendingDuringBuild = null;
+            columns = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job snapshot built with {} job(s)", fresh.slotById.size());
+    }
+
+    // Applied before the filter result cache moves to a new generation, see JobFilterResultCache
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            columns.apply(event);
+            if (pendingDuringBuild != null) {
+                pendingDuringBuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the filter can be answered from the snapshot: it must be built and the filter must not use
+     * criteria the snapshot does not hold (title, titleContains).
+     */
+    public boolean canServe(JobFilter filter) {
+        return ready && filter.getTitle() == null && filter.getTitleContains() == null;
+    }
+
+    /**
+     * Ids of all jobs matching the filter, ordered by the sort (postedDate, deadline, experienceRequired, id).
+     */
+    public long[] findIds(JobFilter filter, Sort sort) {
+        lock.readLock().lock();
+        try {
+            return columns.findIds(filter, sort);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Dictionary of the distinct values of one column with the slots holding each value.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> lowerCaseValues = new ArrayList<>();
+        private final List<BitSet> slots = new ArrayList<>();
+
+        private int encode(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = slots.size();
+                codes.put(value, code);
+                lowerCaseValues.add(value.toLowerCase(Locale.ROOT));
+                slots.add(new BitSet());
+            }
+            return code;
+        }
+
+        // Case-insensitive substring, same semantics as the ILIKE '%value%' specification
+        private BitSet slotsContaining(String value) {
+            String needle = value.toLowerCase(Locale.ROOT);
+            BitSet matches = new BitSet();
+            for (int code = 0; code < lowerCaseValues.size(); code++) {
+                if (lowerCaseValues.get(code).contains(needle)) {
+                    matches.or(slots.get(code));
+                }
+            }
+            return matches;
+        }
+    }
+
+    private static final class Columns {
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int[] experience = new int[INITIAL_CAPACITY];
+        private long[] postedDay = new long[INITIAL_CAPACITY];
+        private long[] deadlineDay = new long[INITIAL_CAPACITY];
+        private byte[] employmentTypeCode = new byte[INITIAL_CAPACITY];
+        private int[] locationCode = new int[INITIAL_CAPACITY];
+
+        private final BitSet live = new BitSet();
+        private final BitSet active = new BitSet();
+        // One bitset per EmploymentType code, so a multi-select is an OR over the bits of its mask
+        private final BitSet[] employmentTypes = newEmploymentTypeSlots();
+        private final Dictionary locations = new Dictionary();
+
+        private final Map<Long, Integer> slotById = new HashMap<>();
+        private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+        private int highWaterMark;
+
+        private void apply(JobChangedEvent event) {
+            if (event.getChangeType() == JobChangedEvent.ChangeType.DELETED) {
+                remove(event.getJobId());
+            } else {
+                upsert(event.getJob());
+            }
+        }
+
+        private void upsert(Job job) {
+            Integer slot = slotById.get(job.getId());
+            if (slot == null) {
+                slot = freeSlots.isEmpty() ? highWaterMark++ : freeSlots.poll();
+                ensureCapacity(slot + 1);
+                slotById.put(job.getId(), slot);
+            } else {
+                clearCodes(slot);
+            }
+
+            ids[slot] = job.getId();
+            experience[slot] = job.getExperienceRequired() == null ? 0 : job.getExperienceRequired();
+            postedDay[slot] = job.getPostedDate() == null ? NO_DATE : job.getPostedDate().toEpochDay();
+            deadlineDay[slot] = job.getDeadline() == null ? NO_DATE : job.getDeadline().toEpochDay();
+            employmentTypeCode[slot] = job.getEmploymentType() == null ? -1 : (byte) job.getEmploymentType().getCode();
+            locationCode[slot] = job.getLocation() == null ? -1 : locations.encode(job.getLocation());
+            if (employmentTypeCode[slot] >= 0) {
+                employmentTypes[employmentTypeCode[slot]].set(slot);
+            }
+            if (locationCode[slot] >= 0) {
+                locations.slots.get(locationCode[slot]).set(slot);
+            }
+            active.set(slot, job.isActive());
+            live.set(slot);
+        }
+
+        private void remove(Long jobId) {
+            Integer slot = slotById.remove(jobId);
+            if (slot == null) {
+                return;
+            }
+            clearCodes(slot);
+            active.clear(slot);
+            live.clear(slot);
+            freeSlots.push(slot);
+        }
+
+        private void clearCodes(int slot) {
+            if (employmentTypeCode[slot] >= 0) {
+                employmentTypes[employmentTypeCode[slot]].clear(slot);
+            }
+            if (locationCode[slot] >= 0) {
+                locations.slots.get(locationCode[slot]).clear(slot);
+            }
+        }
+
+        private BitSet slotsMatching(int employmentTypeMask) {
+            BitSet matches = new BitSet();
+            for (int code = 0; code < employmentTypes.length; code++) {
+                if ((employmentTypeMask & (1 << code)) != 0) {
+                    matches.or(employmentTypes[code]);
+                }
+            }
+            return matches;
+        }
+
+        private static BitSet[] newEmploymentTypeSlots() {
+            BitSet[] slots = new BitSet[EmploymentType.values().length];
+            for (EmploymentType type : EmploymentType.values()) {
+                slots[type.getCode()] = new BitSet();
+            }
+            return slots;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= ids.length) {
+                return;
+            }
+            int newCapacity = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, newCapacity);
+            experience = Arrays.copyOf(experience, newCapacity);
+            postedDay = Arrays.copyOf(postedDay, newCapacity);
+            deadlineDay = Arrays.copyOf(deadlineDay, newCapacity);
+            employmentTypeCode = Arrays.copyOf(employmentTypeCode, newCapacity);
+            locationCode = Arrays.copyOf(locationCode, newCapacity);
+        }
+
+        private long[] findIds(JobFilter filter, Sort sort) {
+            BitSet candidates = (BitSet) live.clone();
+            if (filter.getActive() != null) {
+                if (filter.getActive()) {
+                    candidates.and(active);
+                } else {
+                    candidates.andNot(active);
+                }
+            }
+            if (filter.getEmploymentType() != null) {
+                candidates.and(slotsMatching(EmploymentType.toMask(EmploymentType.parseSelection(filter.getEmploymentType()))));
+            }
+            if (filter.getLocation() != null) {
+                candidates.and(locations.slotsContaining(filter.getLocation()));
+            }
+
+            // Range criteria on the surviving slots only
+            int minExperience = filter.getExperienceRequiredGte() == null ? Integer.MIN_VALUE : filter.getExperienceRequiredGte();
+            int maxExperience = filter.getExperienceRequiredLte() == null ? Integer.MAX_VALUE : filter.getExperienceRequiredLte();
+            long minPostedDay = filter.getPostedDateAfter() == null ? Long.MIN_VALUE : filter.getPostedDateAfter().toEpochDay();
+            long deadlineDayBefore = filter.getDeadlineBefore() == null ? NO_DATE : filter.getDeadlineBefore().toEpochDay();
+            boolean checkDeadline = filter.getDeadlineBefore() != null;
+
+            Integer[] matches = new Integer[candidates.cardinality()];
+            int count = 0;
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                if (experience[slot] < minExperience || experience[slot] > maxExperience) {
+                    continue;
+                }
+                if (postedDay[slot] < minPostedDay) {
+                    continue;
+                }
+                if (checkDeadline && deadlineDay[slot] >= deadlineDayBefore) {
+                    continue;
+                }
+                matches[count++] = slot;
+            }
+
+            Comparator<Integer> comparator = comparator(sort);
+            if (comparator != null) {
+                Arrays.sort(matches, 0, count, comparator);
+            }
+            long[] result = new long[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = ids[matches[i]];
+            }
+            return result;
+        }
+
+        private Comparator<Integer> comparator(Sort sort) {
+            Comparator<Integer> comparator = null;
+            for (Sort.Order order : sort) {
+                Comparator<Integer> next = switch (order.getProperty()) {
+                    case "postedDate" -> Comparator.comparingLong(slot -> postedDay[slot]);
+                    case "deadline" -> Comparator.comparingLong(slot -> deadlineDay[slot]);
+                    case "experienceRequired" -> Comparator.comparingInt(slot -> experience[slot]);
+                    case "id" -> Comparator.comparingLong(slot -> ids[slot]);
+                    default -> throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+                };
+                if (order.isDescending()) {
+                    next = next.reversed();
+                }
+                comparator = comparator == null ? next : comparator.thenComparing(next);
+            }
+            return comparator;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Dto.Job.JobDeadline;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import com.MicroServices.JobApp.Repository.JobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deactivates jobs once their deadline has passed (the deadline day itself is still open).
+ * <p>
+ * Upcoming deadlines of active jobs are held in a {@link DeadlineTimingWheel}, built from the database on startup
+ * and kept current from committed {@link JobChangedEvent}s. Each run advances the wheel to today and expires the
+ * due jobs with one set-based UPDATE per batch, then publishes {@link JobChangedEvent.ChangeType#EXPIRED} for them
+ * so the search index, snapshot and caches follow.
+ * <p>
+ * Metrics: {@code jobs.expired} (counter) and {@code jobs.expired.per.run} (distribution of jobs expired per run).
+ */
+@Component
+public class JobExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(JobExpiryScheduler.class);
+
+    private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ZoneId zone;
+    private final int batchSize;
+    private final Counter expiredCounter;
+    private final DistributionSummary expiredPerRun;
+
+    // Guarded by this
+    private DeadlineTimingWheel wheel;
+    private List<JobChangedEvent> pendingDuringBuild;
+
+    public JobExpiryScheduler(JobRepository jobRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.jobs.expiry.zone:}") String zone,
+                              @Value("${app.jobs.expiry.batch-size:500}") int batchSize) {
+        this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        this.batchSize = batchSize;
+        this.expiredCounter = Counter.builder("jobs.expired")
+                .description("Jobs deactivated because their deadline passed")
+                .register(meterRegistry);
+        this.expiredPerRun = DistributionSummary.builder("jobs.expired.per.run")
+                .description("Jobs deactivated per expiry run")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+            expireDueJobs();
+        } catch (RuntimeException e) {
+            log.error("Job expiry wheel build failed, expired jobs stay active until the next rebuild: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reloads the deadlines of all active jobs into a fresh wheel. Writes committed while the rows are being read
+     * are queued and replayed on the new wheel, so none is lost.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            pendingDuringBuild = new ArrayList<>();
+        }
+
+        DeadlineTimingWheel fresh = new DeadlineTimingWheel(today().toEpochDay());
+        try {
+            Long lastId = 0L;
+            List<JobDeadline> batch;
+            do {
+                batch = jobRepository.findActiveDeadlinesAfterId(lastId, PageRequest.of(0, batchSize));
+                for (JobDeadline jobDeadline : batch) {
+                    fresh.schedule(jobDeadline.getId(), dueDay(jobDeadline.getDeadline()));
+                    lastId = jobDeadline.getId();
+                }
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingDuringBuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            for (JobChangedEvent event : pendingDuringBuild) {
+                apply(fresh, event);
+            }
+            pendingDuringBuild = null;
+            wheel = fresh;
+        }
+        log.info("Job expiry wheel built with {} upcoming deadline(s)", fresh.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onJobChanged(JobChangedEvent event) {
+        if (wheel != null) {
+            apply(wheel, event);
+        }
+        if (pendingDuringBuild != null) {
+            pendingDuringBuild.add(event);
+        }
+    }
+
+    /**
+     * Advances the wheel to today and deactivates every job whose deadline has passed. Cheap when nothing is due,
+     * so it runs often enough to catch the day change promptly.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.expiry.interval:PT1M}", initialDelayString = "${app.jobs.expiry.interval:PT1M}")
+    public void expireDueJobs() {
+        List<Long> dueIds;
+        LocalDate today = today();
+        synchronized (this) {
+            if (wheel == null) {
+                return;
+            }
+            dueIds = wheel.advanceTo(today.toEpochDay());
+        }
+        if (dueIds.isEmpty()) {
+            return;
+        }
+
+        int expired = 0;
+        for (int from = 0; from < dueIds.size(); from += batchSize) {
+            List<Long> batch = dueIds.subList(from, Math.min(from + batchSize, dueIds.size()));
+            try {
+                Integer updated = transactionTemplate.execute(status -> expireBatch(batch, today));
+                expired += updated == null ? 0 : updated;
+            } catch (RuntimeException e) {
+                log.error("Failed to expire {} job(s), retrying on the next run: {}", batch.size(), e.getMessage(), e);
+                synchronized (this) {
+                    for (Long id : batch) {
+                        wheel.schedule(id, today.toEpochDay());
+                    }
+                }
+            }
+        }
+
+        expiredCounter.increment(expired);
+        expiredPerRun.record(expired);
+        log.info("Expired {} job(s) past their deadline", expired);
+    }
+
+    private int expireBatch(List<Long> ids, LocalDate today) {
+        List<Long> expiredIds = jobRepository.deactivateExpired(ids, today, Instant.now());
+        if (expiredIds.isEmpty()) {
+            return 0;
+        }
+        // Only the rows this UPDATE changed (active -> inactive); jobs deactivated by someone else are not reported
+        for (Job job : jobRepository.findAllWithCompanyByIdIn(expiredIds)) {
+            eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.ChangeType.EXPIRED, job, true));
+        }
+        return expiredIds.size();
+    }
+
+    private static void apply(DeadlineTimingWheel wheel, JobChangedEvent event) {
+        Job job = event.getJob();
+        if (event.getChangeType() == JobChangedEvent.ChangeType.DELETED || !job.isActive() || job.getDeadline() == null) {
+            wheel.cancel(job.getId());
+        } else {
+            wheel.schedule(job.getId(), dueDay(job.getDeadline()));
+        }
+    }
+
+    // A job is open through its deadline day and expires the day after
+    private static long dueDay(LocalDate deadline) {
+        return deadline.toEpochDay() + 1;
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(zone);
+    }
+}
@@ -0,0 +1,8 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface JobExportServices {
+    long exportAllJobs(OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,125 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Streams every job as NDJSON (one JSON object per line) straight to the response.
+ * <p>
+ * Rows are read through a forward-only JDBC cursor with a bounded fetch size and written
+ * as soon as they arrive, so memory stays flat regardless of the table size. No entities
+ * are hydrated, which also avoids loading the EAGER company/job graph for every row.
+ */
+@Service
+public class JobExportServicesImpl implements JobExportServices {
+
+    private static final Logger log = LoggerFactory.getLogger(JobExportServicesImpl.class);
+
+    private static final String EXPORT_SQL = """
+            SELECT j.id, j.description, j.employment_type, j.experience_required, j.location,
+                   j.posted_date, j.deadline, j.contact_name, j.contact_email, j.is_active,
+                   c.id AS company_id, c.name AS company_name
+            FROM jobs j
+            LEFT JOIN company c ON c.id = j.company_id
+            ORDER BY j.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int flushEvery;
+
+    public JobExportServicesImpl(DataSource dataSource, ObjectMapper objectMapper,
+                                 @Value("${app.jobs.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+        this.flushEvery = fetchSize;
+    }
+
+    // PostgreSQL only honours the fetch size (server side cursor) inside a transaction
+    @Transactional(readOnly = true)
+    @Override
+    public long exportAllJobs(OutputStream outputStream) throws IOException {
+        log.info("Starting NDJSON export of all jobs...");
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long[] rowCount = {0};
+        try {
+            jdbcTemplate.query(EXPORT_SQL, (RowCallbackHandler) resultSet -> {
+                writeJob(generator, resultSet);
+                if (++rowCount[0] % flushEvery == 0) {
+                    flush(generator);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Client went away mid-stream; surface the original IOException
+            throw e.getCause();
+        }
+        generator.flush();
+        log.info("Exported {} job(s)", rowCount[0]);
+        return rowCount[0];
+    }
+
+    private void writeJob(JsonGenerator generator, ResultSet resultSet) throws SQLException {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", resultSet.getLong("id"));
+            generator.writeStringField("title", resultSet.getString("description"));
+            generator.writeStringField("employmentType", EmploymentType.fromCode(resultSet.getShort("employment_type")).name());
+            generator.writeNumberField("experienceRequired", resultSet.getInt("experience_required"));
+            generator.writeStringField("location", resultSet.getString("location"));
+            writeDateField(generator, "postedDate", resultSet.getObject("posted_date", LocalDate.class));
+            writeDateField(generator, "deadline", resultSet.getObject("deadline", LocalDate.class));
+            generator.writeStringField("contactName", resultSet.getString("contact_name"));
+            generator.writeStringField("contactEmail", resultSet.getString("contact_email"));
+            generator.writeBooleanField("isActive", resultSet.getBoolean("is_active"));
+
+            long companyId = resultSet.getLong("company_id");
+            if (resultSet.wasNull()) {
+                generator.writeNullField("company");
+            } else {
+                generator.writeObjectFieldStart("company");
+                generator.writeNumberField("id", companyId);
+                generator.writeStringField("name", resultSet.getString("company_name"));
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeDateField(JsonGenerator generator, String fieldName, LocalDate date) throws IOException {
+        if (date == null) {
+            generator.writeNullField(fieldName);
+        } else {
+            generator.writeStringField(fieldName, date.toString());
+        }
+    }
+
+    private void flush(JsonGenerator generator) {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
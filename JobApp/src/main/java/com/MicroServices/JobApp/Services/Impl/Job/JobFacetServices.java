@@ -0,0 +1,13 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.JobFacetDimension;
+import com.MicroServices.JobApp.Dto.Job.FacetCount;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface JobFacetServices {
+    Map<String, List<FacetCount>> getFacets(JobFilter filter, Set<JobFacetDimension> dimensions, int limit);
+}
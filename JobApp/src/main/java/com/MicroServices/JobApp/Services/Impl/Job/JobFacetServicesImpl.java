@@ -0,0 +1,148 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.JobFacetDimension;
+import com.MicroServices.JobApp.Dto.Job.FacetCount;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Repository.JobRepository;
+import com.MicroServices.JobApp.Utils.JobSpecification;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Facet counts for a job filter.
+ * <p>
+ * Each requested dimension is one GROUP BY query; the queries run concurrently on a small bounded pool
+ * (its own, so facet load cannot starve other async work). When the pool and its queue are full the
+ * dimension is counted on the request thread instead, after the others have been handed to the pool.
+ * <p>
+ * {@code app.jobs.facets.timeout} bounds the whole request: every query is sent with the remaining budget as its
+ * database query timeout, so a query that overruns is aborted by the database rather than left running after
+ * the request has given up, wherever it runs.
+ */
+@Service
+public class JobFacetServicesImpl implements JobFacetServices {
+
+    private static final Logger log = LoggerFactory.getLogger(JobFacetServicesImpl.class);
+    private static final int MAX_FACET_VALUES = 100;
+
+    private final JobRepository jobRepository;
+    private final ThreadPoolExecutor facetExecutor;
+    private final Duration timeout;
+
+    public JobFacetServicesImpl(JobRepository jobRepository,
+                                @Value("${app.jobs.facets.threads:4}") int threads,
+                                @Value("${app.jobs.facets.queue-capacity:64}") int queueCapacity,
+                                @Value("${app.jobs.facets.timeout:5s}") Duration timeout) {
+        this.jobRepository = jobRepository;
+        this.timeout = timeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.facetExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "job-facets-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.facetExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public Map<String, List<FacetCount>> getFacets(JobFilter filter, Set<JobFacetDimension> dimensions, int limit) {
+        if (dimensions == null || dimensions.isEmpty()) {
+            throw new IllegalArgumentException("At least one facet is required");
+        }
+        int maxValues = Math.min(Math.max(limit, 1), MAX_FACET_VALUES);
+        Specification<Job> spec = JobSpecification.fromFilter(filter);
+        log.info("Counting facets:-{}", dimensions);
+
+        List<JobFacetDimension> requested = new ArrayList<>(dimensions);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        // A null future marks a dimension the saturated pool rejected
+        List<CompletableFuture<List<FacetCount>>> futures = new ArrayList<>(requested.size());
+        for (JobFacetDimension dimension : requested) {
+            CompletableFuture<List<FacetCount>> future = null;
+            try {
+                future = CompletableFuture.supplyAsync(
+                        () -> jobRepository.countByFacet(spec, dimension, maxValues, remainingMillis(deadline)), facetExecutor);
+            } catch (RejectedExecutionException e) {
+                log.debug("Facet pool saturated, counting {} on the request thread", dimension);
+            }
+            futures.add(future);
+        }
+
+        Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+        try {
+            for (int i = 0; i < requested.size(); i++) {
+                long remaining = remainingMillis(deadline);
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+                CompletableFuture<List<FacetCount>> future = futures.get(i);
+                List<FacetCount> counts = future == null
+                        ? jobRepository.countByFacet(spec, requested.get(i), maxValues, remaining)
+                        : future.get(remaining, TimeUnit.MILLISECONDS);
+                facets.put(requested.get(i).getParamName(), counts);
+            }
+        } catch (TimeoutException | QueryTimeoutException e) {
+            cancelAll(futures);
+            throw new IllegalStateException("Facet counting timed out after " + timeout.toMillis() + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(futures);
+            throw new IllegalStateException("Facet counting was interrupted", e);
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            if (e.getCause() instanceof QueryTimeoutException) {
+                throw new IllegalStateException("Facet counting timed out after " + timeout.toMillis() + " ms", e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Facet counting failed", e.getCause());
+        } catch (RuntimeException e) {
+            cancelAll(futures);
+            throw e;
+        }
+        return facets;
+    }
+
+    // Queued counts that have not started yet are skipped; running ones end at their database query timeout
+    private static void cancelAll(List<CompletableFuture<List<FacetCount>>> futures) {
+        for (CompletableFuture<List<FacetCount>> future : futures) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static long remainingMillis(long deadline) {
+        return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        facetExecutor.shutdownNow();
+    }
+}
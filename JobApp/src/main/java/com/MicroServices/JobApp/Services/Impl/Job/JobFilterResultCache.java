@@ -0,0 +1,89 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Configrations.CacheConfig;
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Events.CompanyChangedEvent;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of {@code /api/jobs/filter} results.
+ * <p>
+ * Entries are keyed by the current write generation plus the canonical form of the filter. Every job write
+ * advances the generation once it has committed, so entries computed before the write can no longer be looked
+ * up and simply age out; a stale result is never served. Committed company writes advance it too, because the
+ * cached JobDTOs embed their company.
+ */
+@Component
+public class JobFilterResultCache {
+
+    private final Cache cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public JobFilterResultCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.JOB_FILTER_CACHE);
+    }
+
+    public Slice<JobDTO> get(JobFilter filter, Supplier<Slice<JobDTO>> loader) {
+        // Generation is read before the query runs, so a write that commits meanwhile invalidates this entry
+        List<Object> key = canonicalKey(generation.get(), filter);
+        try {
+            return cache.get(key, loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            // Surface the loader's own exception (e.g. IllegalArgumentException -> 400) instead of the cache wrapper
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    // Runs after commit (or immediately outside a transaction) so a reader can't cache pre-commit data under the new
+    // generation, and after the job snapshot has applied the same change
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    // Case-insensitive (ILIKE) criteria are lower-cased so "Remote" and "remote" share an entry, and employment
+    // types are reduced to their selection mask so "Full-Time|CONTRACT" and "CONTRACT|FULL_TIME" do too
+    private static List<Object> canonicalKey(long generation, JobFilter filter) {
+        return Arrays.asList(
+                generation,
+                filter.getTitle(),
+                lowerCase(filter.getTitleContains()),
+                filter.getEmploymentType() == null ? null : EmploymentType.toMask(EmploymentType.parseSelection(filter.getEmploymentType())),
+                lowerCase(filter.getLocation()),
+                filter.getExperienceRequiredGte(),
+                filter.getExperienceRequiredLte(),
+                filter.getPostedDateAfter(),
+                filter.getDeadlineBefore(),
+                filter.getActive(),
+                filter.getSort());
+    }
+
+    private static String lowerCase(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+}
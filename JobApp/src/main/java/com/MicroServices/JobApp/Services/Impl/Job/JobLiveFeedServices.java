@@ -0,0 +1,8 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface JobLiveFeedServices {
+    SseEmitter subscribe(JobFilter filter, String overflow);
+}
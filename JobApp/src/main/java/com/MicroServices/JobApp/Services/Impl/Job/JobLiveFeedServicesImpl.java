@@ -0,0 +1,404 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.FeedOverflowPolicy;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
+import com.MicroServices.JobApp.Utils.JobFilterMatcher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events feed of job writes: {@code created}, {@code updated} and {@code expired} events carrying the
+ * JobDTO, pushed once the write has committed, to every subscriber whose {@link JobFilter} matches the job.
+ * <p>
+ * No thread is held per subscriber. The committing thread only matches the job against each subscriber's filter
+ * (in memory, see {@link JobFilterMatcher}), serializes the DTO once and appends it to the subscribers' bounded
+ * buffers. A shared pool of sender threads drains the buffers, at most one task per subscriber at a time and a
+ * limited batch per task, so a busy subscriber cannot hold a sender for long. The pool grows with the number of
+ * subscribers ({@code app.jobs.feed.subscribers-per-send-thread}, up to {@code app.jobs.feed.max-send-threads}).
+ * When a buffer is full the subscriber's {@link FeedOverflowPolicy} applies: drop the oldest events (and send a
+ * {@code dropped} event with the count) or close the stream. Idle streams get a heartbeat comment so dead
+ * connections are found and removed.
+ * <p>
+ * {@link SseEmitter#send} is a blocking write, so a client that stops reading would hold its sender thread and
+ * keep its buffer full. A watchdog closes any subscriber whose current write has taken longer than
+ * {@code app.jobs.feed.stall-timeout}, or whose buffer has stayed full that long, and interrupts the stuck sender.
+ * <p>
+ * An expired job is sent to subscribers whose filter matches it apart from {@code active}, so clients following
+ * active jobs learn that it closed. Deletes are not pushed; clients that must see them use the change feed.
+ * <p>
+ * Metrics: {@code jobs.feed.subscribers} (gauge), {@code jobs.feed.dropped} (events discarded from full buffers),
+ * {@code jobs.feed.overflow.disconnects} (streams closed because their buffer was full) and
+ * {@code jobs.feed.stalled.disconnects} (streams closed by the watchdog).
+ */
+@Service
+public class JobLiveFeedServicesImpl implements JobLiveFeedServices {
+
+    private static final Logger log = LoggerFactory.getLogger(JobLiveFeedServicesImpl.class);
+    private static final int SEND_BATCH = 64;
+
+    private final DtoMapper dtoMapper;
+    private final ObjectWriter jsonWriter;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final FeedOverflowPolicy defaultOverflow;
+    private final ThreadPoolExecutor sendExecutor;
+    private final int minSendThreads;
+    private final int maxSendThreads;
+    private final int subscribersPerSendThread;
+    private final long stallTimeoutNanos;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final Counter droppedCounter;
+    private final Counter overflowDisconnects;
+    private final Counter stalledDisconnects;
+
+    public JobLiveFeedServicesImpl(DtoMapper dtoMapper, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                   @Value("${app.jobs.feed.buffer-size:256}") int bufferSize,
+                                   @Value("${app.jobs.feed.max-subscribers:1000}") int maxSubscribers,
+                                   @Value("${app.jobs.feed.timeout:30m}") Duration timeout,
+                                   @Value("${app.jobs.feed.overflow:drop}") String defaultOverflow,
+                                   @Value("${app.jobs.feed.send-threads:2}") int sendThreads,
+                                   @Value("${app.jobs.feed.max-send-threads:32}") int maxSendThreads,
+                                   @Value("${app.jobs.feed.subscribers-per-send-thread:16}") int subscribersPerSendThread,
+                                   @Value("${app.jobs.feed.stall-timeout:PT15S}") Duration stallTimeout) {
+        this.dtoMapper = dtoMapper;
+        // SSE data lines must not contain line breaks, so the global pretty printing is switched off here
+        this.jsonWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.defaultOverflow = FeedOverflowPolicy.fromParamName(defaultOverflow);
+        this.minSendThreads = Math.max(1, sendThreads);
+        this.maxSendThreads = Math.max(this.minSendThreads, maxSendThreads);
+        this.subscribersPerSendThread = Math.max(1, subscribersPerSendThread);
+        this.stallTimeoutNanos = stallTimeout.toNanos();
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Each subscriber has at most one queued task, so the queue is bounded by max-subscribers. With an unbounded
+        // queue the pool never grows past its core size, so the core size is what resizeSenders() adjusts
+        this.sendExecutor = new ThreadPoolExecutor(this.minSendThreads, this.maxSendThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "job-feed-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.sendExecutor.allowCoreThreadTimeOut(true);
+        Gauge.builder("jobs.feed.subscribers", subscribers, Set::size)
+                .description("Open live job feed streams")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("jobs.feed.dropped")
+                .description("Live feed events discarded because a subscriber's buffer was full")
+                .register(meterRegistry);
+        this.overflowDisconnects = Counter.builder("jobs.feed.overflow.disconnects")
+                .description("Live feed streams closed because their buffer was full")
+                .register(meterRegistry);
+        this.stalledDisconnects = Counter.builder("jobs.feed.stalled.disconnects")
+                .description("Live feed streams closed because a write or a full buffer stalled")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe(JobFilter filter, String overflow) {
+        // Parsed before anything is registered, so an invalid filter is a plain 400
+        JobFilterMatcher matcher = JobFilterMatcher.of(filter);
+        FeedOverflowPolicy policy = overflow == null || overflow.isBlank() ? defaultOverflow : FeedOverflowPolicy.fromParamName(overflow);
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many live job feed subscribers, try again later");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, matcher, policy);
+        emitter.onCompletion(() -> {
+            subscriber.closed = true;
+            if (subscribers.remove(subscriber)) {
+                resizeSenders();
+            }
+        });
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> close(subscriber));
+        subscribers.add(subscriber);
+        resizeSenders();
+
+        // First write flushes the response headers, so the client sees the stream open straight away
+        subscriber.offer(FeedItem.comment("subscribed"));
+        scheduleSend(subscriber);
+        log.info("Live job feed subscriber added, policy:-{}, subscribers:-{}", policy, subscribers.size());
+        return emitter;
+    }
+
+    // After commit (or immediately outside a transaction) so subscribers never see a write that is rolled back
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        String eventName = switch (event.getChangeType()) {
+            case CREATED -> "created";
+            case UPDATED -> "updated";
+            case EXPIRED -> "expired";
+            case DELETED -> null;
+        };
+        if (eventName == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        Job job = event.getJob();
+        boolean expired = event.getChangeType() == JobChangedEvent.ChangeType.EXPIRED;
+        FeedItem item = null;
+        for (Subscriber subscriber : subscribers) {
+            if (!(expired ? subscriber.matcher.testIgnoringActive(job) : subscriber.matcher.test(job))) {
+                continue;
+            }
+            if (item == null) {
+                item = toFeedItem(eventName, job);
+                if (item == null) {
+                    return;
+                }
+            }
+            if (subscriber.offer(item)) {
+                scheduleSend(subscriber);
+            } else {
+                overflowDisconnects.increment();
+                log.info("Closing live job feed subscriber, buffer of {} event(s) is full", bufferSize);
+                close(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Writes a comment to idle streams. A client that went away is only noticed when a write fails, so without
+     * this a quiet feed would keep dead subscribers until they time out.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.feed.heartbeat:PT25S}", initialDelayString = "${app.jobs.feed.heartbeat:PT25S}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offerIfIdle(FeedItem.comment("heartbeat"))) {
+                scheduleSend(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Closes subscribers that stopped draining: a write blocked for longer than the stall timeout (the client
+     * stopped reading) or a buffer full for that long. The stuck sender is interrupted so it returns to the pool.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.feed.stall-check:PT5S}", initialDelayString = "${app.jobs.feed.stall-check:PT5S}")
+    public void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long sendStarted = subscriber.sendStartedNanos;
+            boolean writeStalled = sendStarted != 0 && now - sendStarted > stallTimeoutNanos;
+            if (writeStalled || subscriber.fullFor(now) > stallTimeoutNanos) {
+                stalledDisconnects.increment();
+                log.info("Closing stalled live job feed subscriber, {}", writeStalled ? "write blocked" : "buffer stayed full");
+                Thread sender = subscriber.sender;
+                close(subscriber);
+                // Only while that same write is still blocked, not once the thread has moved on to another task
+                if (writeStalled && sender != null && subscriber.sender == sender && subscriber.sendStartedNanos == sendStarted) {
+                    sender.interrupt();
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            close(subscriber);
+        }
+        sendExecutor.shutdownNow();
+    }
+
+    private FeedItem toFeedItem(String eventName, Job job) {
+        try {
+            return FeedItem.event(eventIds.incrementAndGet(), eventName, jsonWriter.writeValueAsString(dtoMapper.toJobDto(job)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Failed to prepare live feed event for Job Id :-{}: {}", job.getId(), e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private void scheduleSend(Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            try {
+                sendExecutor.execute(() -> send(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                subscriber.sending.set(false);
+            }
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        subscriber.sender = Thread.currentThread();
+        try {
+            FeedItem item;
+            int sent = 0;
+            while (sent < SEND_BATCH && !subscriber.closed && (item = subscriber.poll()) != null) {
+                subscriber.sendStartedNanos = System.nanoTime();
+                subscriber.emitter.send(item.toEvent());
+                subscriber.sendStartedNanos = 0;
+                sent++;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away, the emitter already completed, or the watchdog interrupted a stalled write
+            log.debug("Live job feed send failed, removing subscriber: {}", e.getMessage());
+            close(subscriber);
+        } finally {
+            subscriber.sendStartedNanos = 0;
+            subscriber.sender = null;
+            // An interrupt from the watchdog must not leak into the next task of this pool thread
+            Thread.interrupted();
+            subscriber.sending.set(false);
+        }
+        // Events offered while the flag was still set, or the rest of a long backlog
+        if (!subscriber.closed && subscriber.hasPending()) {
+            scheduleSend(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (subscribers.remove(subscriber)) {
+            resizeSenders();
+            try {
+                subscriber.emitter.complete();
+            } catch (RuntimeException e) {
+                log.debug("Live job feed emitter already closed: {}", e.getMessage());
+            }
+        }
+    }
+
+    // One sender per subscribers-per-send-thread subscribers, within [send-threads, max-send-threads]
+    private synchronized void resizeSenders() {
+        int wanted = (subscribers.size() + subscribersPerSendThread - 1) / subscribersPerSendThread;
+        int size = Math.min(maxSendThreads, Math.max(minSendThreads, wanted));
+        if (size != sendExecutor.getCorePoolSize()) {
+            sendExecutor.setCorePoolSize(size);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final JobFilterMatcher matcher;
+        private final FeedOverflowPolicy policy;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // Guarded by this
+        private final ArrayDeque<FeedItem> buffer = new ArrayDeque<>();
+        private long dropped;
+        // System.nanoTime() when the buffer last became full, 0 while it is not
+        private long fullSince;
+        private volatile boolean closed;
+        private volatile long sendStartedNanos;
+        private volatile Thread sender;
+
+        private Subscriber(SseEmitter emitter, JobFilterMatcher matcher, FeedOverflowPolicy policy) {
+            this.emitter = emitter;
+            this.matcher = matcher;
+            this.policy = policy;
+        }
+
+        /**
+         * Appends the item, applying the overflow policy when the buffer is full.
+         *
+         * @return false if the subscriber must be disconnected.
+         */
+        private synchronized boolean offer(FeedItem item) {
+            if (buffer.size() >= bufferSize) {
+                if (policy == FeedOverflowPolicy.DISCONNECT) {
+                    return false;
+                }
+                buffer.pollFirst();
+                dropped++;
+                droppedCounter.increment();
+            }
+            buffer.addLast(item);
+            if (buffer.size() >= bufferSize && fullSince == 0) {
+                fullSince = System.nanoTime();
+            }
+            return true;
+        }
+
+        private synchronized long fullFor(long now) {
+            return fullSince == 0 ? 0 : now - fullSince;
+        }
+
+        private synchronized boolean offerIfIdle(FeedItem item) {
+            if (!buffer.isEmpty()) {
+                return false;
+            }
+            buffer.addLast(item);
+            return true;
+        }
+
+        // Reports dropped events before the events that follow the gap
+        private synchronized FeedItem poll() {
+            if (dropped > 0) {
+                FeedItem gap = FeedItem.event(null, "dropped", Long.toString(dropped));
+                dropped = 0;
+                return gap;
+            }
+            FeedItem item = buffer.pollFirst();
+            if (buffer.size() < bufferSize) {
+                fullSince = 0;
+            }
+            return item;
+        }
+
+        private synchronized boolean hasPending() {
+            return dropped > 0 || !buffer.isEmpty();
+        }
+    }
+
+    private record FeedItem(Long id, String name, String data, String comment) {
+
+        static FeedItem event(Long id, String name, String data) {
+            return new FeedItem(id, name, data, null);
+        }
+
+        static FeedItem comment(String comment) {
+            return new FeedItem(null, null, null, comment);
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event();
+            if (comment != null) {
+                return builder.comment(comment);
+            }
+            if (id != null) {
+                builder.id(Long.toString(id));
+            }
+            return builder.name(name).data(data, MediaType.TEXT_PLAIN);
+        }
+    }
+}
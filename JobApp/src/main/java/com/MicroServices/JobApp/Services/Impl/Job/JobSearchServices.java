@@ -0,0 +1,17 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Dto.Job.JobSearchHit;
+import com.MicroServices.JobApp.Entity.Job;
+
+import java.util.List;
+
+public interface JobSearchServices {
+    void indexJob(Job job);
+
+    void removeJob(Long jobId);
+
+    List<JobSearchHit> search(String query, JobFilter filter, int limit);
+
+    long reindex();
+}
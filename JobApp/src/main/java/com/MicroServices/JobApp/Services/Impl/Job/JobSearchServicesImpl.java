@@ -0,0 +1,519 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Dto.Job.JobSearchHit;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import com.MicroServices.JobApp.Repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * In-process Lucene index over the searchable {@link Job} fields.
+ * <p>
+ * The index is kept in sync from committed {@link JobChangedEvent}s and refreshed near-real-time
+ * (no commit needed) after every write, so a saved job is searchable immediately.
+ * It is rebuilt from the database on startup and on demand via {@link #reindex()}. A rebuild fills a new index
+ * generation next to the live one and swaps it in when complete, so searches keep seeing the previous index until
+ * then and never a partially rebuilt one. Writes that arrive during the rebuild go to the live index and are
+ * replayed on the new generation before the swap.
+ */
+@Service
+public class JobSearchServicesImpl implements JobSearchServices {
+
+    private static final Logger log = LoggerFactory.getLogger(JobSearchServicesImpl.class);
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_LOCATION = "location";
+    private static final String FIELD_COMPANY_NAME = "companyName";
+    private static final String FIELD_EMPLOYMENT_TYPE = "employmentType";
+    private static final String FIELD_EXPERIENCE = "experienceRequired";
+    private static final String FIELD_POSTED_DATE = "postedDate";
+    private static final String FIELD_DEADLINE = "deadline";
+    private static final String FIELD_ACTIVE = "isActive";
+
+    private static final String[] QUERY_FIELDS = {FIELD_TITLE, FIELD_COMPANY_NAME, FIELD_LOCATION};
+    private static final Map<String, Float> QUERY_BOOSTS = Map.of(FIELD_TITLE, 3f, FIELD_COMPANY_NAME, 2f, FIELD_LOCATION, 1f);
+
+    private final JobRepository jobRepository;
+    private final int reindexBatchSize;
+    private final Analyzer analyzer;
+    // Parent of the generation directories (one numbered sub-directory each), null for an on-heap index
+    private final Path indexPath;
+    private final Object rebuildLock = new Object();
+    // Generations not closed yet (the live one and any still in use by searches), whose directories must stay
+    private final Set<Long> openGenerations = ConcurrentHashMap.newKeySet();
+
+    // Replaced only under this; searches read it without a lock
+    private volatile IndexGeneration index;
+    // Guarded by this
+    private List<IndexUpdate> pendingDuringBuild;
+
+    public JobSearchServicesImpl(JobRepository jobRepository,
+                                 @Value("${app.search.index-path:}") String indexPath,
+                                 @Value("${app.search.reindex-batch-size:500}") int reindexBatchSize) throws IOException {
+        this.jobRepository = jobRepository;
+        this.reindexBatchSize = reindexBatchSize;
+        this.analyzer = new StandardAnalyzer();
+        // No path configured: keep the index on heap, it is rebuilt on every startup anyway
+        this.indexPath = indexPath.isBlank() ? null : Path.of(indexPath);
+        this.index = openGeneration(latestGeneration());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexOnStartup() {
+        try {
+            reindex();
+        } catch (RuntimeException e) {
+            log.error("Initial job search index build failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // After commit (or immediately outside a transaction), so a rolled-back write never reaches the index
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getChangeType() == JobChangedEvent.ChangeType.DELETED) {
+            removeJob(event.getJobId());
+        } else {
+            indexJob(event.getJob());
+        }
+    }
+
+    @Override
+    public void indexJob(Job job) {
+        Term id = idTerm(job.getId());
+        Document document = toDocument(job);
+        try {
+            apply(writer -> writer.updateDocument(id, document));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index job " + job.getId(), e);
+        }
+    }
+
+    @Override
+    public void removeJob(Long jobId) {
+        Term id = idTerm(jobId);
+        try {
+            apply(writer -> writer.deleteDocuments(id));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove job " + jobId + " from the search index", e);
+        }
+    }
+
+    // Applies a write to the live generation and, while a rebuild is running, queues it for the new one
+    private synchronized void apply(IndexUpdate update) throws IOException {
+        update.applyTo(index.writer);
+        index.searcherManager.maybeRefresh();
+        if (pendingDuringBuild != null) {
+            pendingDuringBuild.add(update);
+        }
+    }
+
+    @Override
+    public List<JobSearchHit> search(String query, JobFilter filter, int limit) {
+        Query luceneQuery = buildQuery(query, filter);
+        int topN = Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT);
+        log.debug("Searching jobs with query: {}", luceneQuery);
+
+        IndexGeneration generation = acquireGeneration();
+        IndexSearcher searcher = null;
+        try {
+            searcher = generation.searcherManager.acquire();
+            // Without free text there is nothing to rank on, so show the newest postings first
+            TopDocs topDocs = (query == null || query.isBlank())
+                    ? searcher.search(luceneQuery, topN, new Sort(new SortField(FIELD_POSTED_DATE, SortField.Type.LONG, true)))
+                    : searcher.search(luceneQuery, topN);
+
+            StoredFields storedFields = searcher.storedFields();
+            List<JobSearchHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                hits.add(toSearchHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+            }
+            return hits;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Job search failed", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    generation.searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("Failed to release index searcher: {}", e.getMessage());
+                }
+            }
+            release(generation);
+        }
+    }
+
+    // The live generation with a reference taken, so a rebuild that swaps it out meanwhile can't close it under us
+    private IndexGeneration acquireGeneration() {
+        while (true) {
+            IndexGeneration generation = index;
+            if (generation.tryIncRef()) {
+                return generation;
+            }
+            // Lost the race against a swap that dropped the last reference; the next read sees the new generation
+        }
+    }
+
+    // Closes the generation once its last reference is gone: the index's own one (dropped on swap) or a search's
+    private void release(IndexGeneration generation) {
+        if (generation.refs.decrementAndGet() == 0) {
+            close(generation);
+        }
+    }
+
+    @Override
+    public long reindex() {
+        synchronized (rebuildLock) {
+            log.info("Rebuilding job search index in batches of {}...", reindexBatchSize);
+            IndexGeneration fresh;
+            try {
+                deleteStaleGenerations();
+                fresh = openGeneration(index.number + 1);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create a new job search index", e);
+            }
+            synchronized (this) {
+                pendingDuringBuild = new ArrayList<>();
+            }
+
+            long indexed = 0;
+            IndexGeneration previous;
+            try {
+                Long lastId = 0L;
+                Slice<Job> batch;
+                do {
+                    batch = jobRepository.findByIdGreaterThan(lastId, PageRequest.of(0, reindexBatchSize, Direction.ASC, FIELD_ID));
+                    for (Job job : batch) {
+                        fresh.writer.updateDocument(idTerm(job.getId()), toDocument(job));
+                        lastId = job.getId();
+                    }
+                    indexed += batch.getNumberOfElements();
+                } while (batch.hasNext());
+                fresh.writer.commit();
+
+                synchronized (this) {
+                    for (IndexUpdate update : pendingDuringBuild) {
+                        update.applyTo(fresh.writer);
+                    }
+                    fresh.searcherManager.maybeRefresh();
+                    pendingDuringBuild = null;
+                    previous = index;
+                    index = fresh;
+                }
+            } catch (IOException | RuntimeException e) {
+                synchronized (this) {
+                    pendingDuringBuild = null;
+                }
+                close(fresh);
+                if (e instanceof IOException ioException) {
+                    throw new UncheckedIOException("Failed to rebuild the job search index", ioException);
+                }
+                throw (RuntimeException) e;
+            }
+            // Searches still holding the previous generation finish on it, the last of them closes it; its files are
+            // removed by the first rebuild after that
+            release(previous);
+            log.info("Job search index rebuilt with {} job(s)", indexed);
+            return indexed;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        release(index);
+    }
+
+    private IndexGeneration openGeneration(long number) throws IOException {
+        Directory directory = indexPath == null
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(indexPath.resolve(String.valueOf(number)));
+        try {
+            IndexGeneration generation = new IndexGeneration(number, directory, analyzer);
+            openGenerations.add(number);
+            return generation;
+        } catch (IOException | RuntimeException e) {
+            directory.close();
+            throw e;
+        }
+    }
+
+    // The newest generation left on disk by a previous run, reopened so search works before the startup rebuild
+    private long latestGeneration() throws IOException {
+        long latest = 1;
+        for (long number : generationsOnDisk()) {
+            latest = Math.max(latest, number);
+        }
+        return latest;
+    }
+
+    private void deleteStaleGenerations() throws IOException {
+        for (long number : generationsOnDisk()) {
+            if (openGenerations.contains(number)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(indexPath.resolve(String.valueOf(number)))) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private List<Long> generationsOnDisk() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        if (indexPath == null || !Files.isDirectory(indexPath)) {
+            return generations;
+        }
+        try (Stream<Path> children = Files.list(indexPath)) {
+            for (Path child : children.toList()) {
+                String name = child.getFileName().toString();
+                if (Files.isDirectory(child) && name.chars().allMatch(Character::isDigit)) {
+                    generations.add(Long.parseLong(name));
+                }
+            }
+        }
+        return generations;
+    }
+
+    private void close(IndexGeneration generation) {
+        openGenerations.remove(generation.number);
+        try {
+            generation.searcherManager.close();
+            generation.writer.close();
+            generation.directory.close();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to close job search index generation {}: {}", generation.number, e.getMessage());
+        }
+    }
+
+    private static Term idTerm(Long jobId) {
+        return new Term(FIELD_ID, String.valueOf(jobId));
+    }
+
+    private Query buildQuery(String query, JobFilter filter) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        if (query == null || query.isBlank()) {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        } else {
+            try {
+                builder.add(new MultiFieldQueryParser(QUERY_FIELDS, analyzer, QUERY_BOOSTS).parse(query), BooleanClause.Occur.MUST);
+            } catch (ParseException e) {
+                throw new IllegalArgumentException("Invalid search query: " + e.getMessage(), e);
+            }
+        }
+        if (filter == null) {
+            return builder.build();
+        }
+
+        // Filters restrict the result set without affecting the score
+        if (filter.getTitle() != null) {
+            addTermFilters(builder, FIELD_TITLE, filter.getTitle());
+        }
+        if (filter.getTitleContains() != null) {
+            addTermFilters(builder, FIELD_TITLE, filter.getTitleContains());
+        }
+        if (filter.getLocation() != null) {
+            addTermFilters(builder, FIELD_LOCATION, filter.getLocation());
+        }
+        if (filter.getEmploymentType() != null) {
+            // Multi-select: any of the selected types matches
+            BooleanQuery.Builder employmentTypes = new BooleanQuery.Builder();
+            for (EmploymentType type : EmploymentType.parseSelection(filter.getEmploymentType())) {
+                employmentTypes.add(new TermQuery(new Term(FIELD_EMPLOYMENT_TYPE, type.name())), BooleanClause.Occur.SHOULD);
+            }
+            builder.add(employmentTypes.build(), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getExperienceRequiredGte() != null || filter.getExperienceRequiredLte() != null) {
+            int lower = filter.getExperienceRequiredGte() != null ? filter.getExperienceRequiredGte() : Integer.MIN_VALUE;
+            int upper = filter.getExperienceRequiredLte() != null ? filter.getExperienceRequiredLte() : Integer.MAX_VALUE;
+            builder.add(IntPoint.newRangeQuery(FIELD_EXPERIENCE, lower, upper), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getPostedDateAfter() != null) {
+            builder.add(LongPoint.newRangeQuery(FIELD_POSTED_DATE, filter.getPostedDateAfter().toEpochDay(), Long.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getDeadlineBefore() != null) {
+            builder.add(LongPoint.newRangeQuery(FIELD_DEADLINE, Long.MIN_VALUE, filter.getDeadlineBefore().toEpochDay() - 1), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getActive() != null) {
+            builder.add(IntPoint.newExactQuery(FIELD_ACTIVE, filter.getActive() ? 1 : 0), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    // Every analyzed token of the value must be present in the field
+    private void addTermFilters(BooleanQuery.Builder builder, String field, String value) {
+        try (TokenStream tokenStream = analyzer.tokenStream(field, value)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                builder.add(new TermQuery(new Term(field, termAttribute.toString())), BooleanClause.Occur.FILTER);
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Document toDocument(Job job) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(job.getId()), Field.Store.YES));
+        addText(document, FIELD_TITLE, job.getTitle());
+        addText(document, FIELD_LOCATION, job.getLocation());
+        if (job.getCompany() != null) {
+            addText(document, FIELD_COMPANY_NAME, job.getCompany().getName());
+        }
+        if (job.getEmploymentType() != null) {
+            document.add(new StringField(FIELD_EMPLOYMENT_TYPE, job.getEmploymentType().name(), Field.Store.YES));
+        }
+        if (job.getExperienceRequired() != null) {
+            document.add(new IntPoint(FIELD_EXPERIENCE, job.getExperienceRequired()));
+            document.add(new StoredField(FIELD_EXPERIENCE, job.getExperienceRequired()));
+        }
+        if (job.getPostedDate() != null) {
+            long postedDate = job.getPostedDate().toEpochDay();
+            document.add(new LongPoint(FIELD_POSTED_DATE, postedDate));
+            document.add(new NumericDocValuesField(FIELD_POSTED_DATE, postedDate));
+            document.add(new StoredField(FIELD_POSTED_DATE, postedDate));
+        }
+        if (job.getDeadline() != null) {
+            long deadline = job.getDeadline().toEpochDay();
+            document.add(new LongPoint(FIELD_DEADLINE, deadline));
+            document.add(new StoredField(FIELD_DEADLINE, deadline));
+        }
+        document.add(new IntPoint(FIELD_ACTIVE, job.isActive() ? 1 : 0));
+        document.add(new StoredField(FIELD_ACTIVE, job.isActive() ? 1 : 0));
+        return document;
+    }
+
+    private void addText(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new TextField(field, value, Field.Store.YES));
+        }
+    }
+
+    private JobSearchHit toSearchHit(Document document, float score) {
+        return new JobSearchHit(
+                Long.valueOf(document.get(FIELD_ID)),
+                score,
+                document.get(FIELD_TITLE),
+                document.get(FIELD_EMPLOYMENT_TYPE),
+                storedInt(document, FIELD_EXPERIENCE),
+                document.get(FIELD_LOCATION),
+                storedDate(document, FIELD_POSTED_DATE),
+                storedDate(document, FIELD_DEADLINE),
+                document.get(FIELD_COMPANY_NAME),
+                Integer.valueOf(1).equals(storedInt(document, FIELD_ACTIVE))
+        );
+    }
+
+    private Integer storedInt(Document document, String field) {
+        return document.getField(field) == null ? null : document.getField(field).numericValue().intValue();
+    }
+
+    private LocalDate storedDate(Document document, String field) {
+        return document.getField(field) == null ? null : LocalDate.ofEpochDay(document.getField(field).numericValue().longValue());
+    }
+
+    /**
+     * A write to an index, kept so it can be replayed on a generation that is being rebuilt.
+     */
+    @FunctionalInterface
+    private interface IndexUpdate {
+        void applyTo(IndexWriter writer) throws IOException;
+    }
+
+    /**
+     * One complete copy of the index: its directory, writer and near-real-time searchers.
+     * <p>
+     * Reference counted: the service holds one reference while the generation is live and every search holds one
+     * while it runs, and the last one released closes it. Once the count has reached zero it can't be taken again.
+     */
+    private static final class IndexGeneration {
+
+        private final long number;
+        private final Directory directory;
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+        private final AtomicInteger refs = new AtomicInteger(1);
+
+        private IndexGeneration(long number, Directory directory, Analyzer analyzer) throws IOException {
+            this.number = number;
+            this.directory = directory;
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        }
+
+        private boolean tryIncRef() {
+            int count;
+            do {
+                count = refs.get();
+                if (count == 0) {
+                    return false;
+                }
+            } while (!refs.compareAndSet(count, count + 1));
+            return true;
+        }
+    }
+}
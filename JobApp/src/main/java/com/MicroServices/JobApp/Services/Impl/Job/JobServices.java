@@ -2,7 +2,12 @@ package com.MicroServices.JobApp.Services.Impl.Job;
 
 import com.MicroServices.JobApp.Dto.Job.JobDTO;
 import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Dto.Job.JobListingDTO;
+import com.MicroServices.JobApp.Helper.CollectionVersion;
+import com.MicroServices.JobApp.Helper.CursorPage;
+import com.MicroServices.JobApp.Helper.ResourceVersion;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.HashMap;
 import java.util.List;
@@ -12,16 +17,35 @@ public interface JobServices {
 
     JobDTO getJobByJobId(int jobId);
 
+    ResourceVersion getJobVersion(int jobId);
+
+    CollectionVersion getJobsVersion();
+
     List<JobDTO> getAllJobs();
 
 
     void deleteJobByJobId(int jobId);
 
-    JobDTO updateJobByJobId(JobDTO jobDTO, int jobId);
+    JobDTO updateJobByJobId(JobDTO jobDTO, int jobId, Long expectedVersion);
 
-    JobDTO partialUpdateJob(int jobId, HashMap<String, Object> updatedJobDetails);
+    JobDTO partialUpdateJob(int jobId, HashMap<String, Object> updatedJobDetails, Long expectedVersion);
 
     Page<JobDTO> getJobs(int pageNo, int pageSize);
 
-    List<JobDTO> getJobsBasedOnFilter(JobFilter filter);
+    CursorPage<JobDTO> getJobsAfter(String after, int pageSize);
+
+    /**
+     * The filtered jobs up to the configured result cap; hasNext() on the slice tells that the result was truncated.
+     */
+    Slice<JobDTO> getJobsBasedOnFilter(JobFilter filter);
+
+    Slice<JobDTO> getJobsPageBasedOnFilter(JobFilter filter);
+
+    List<JobDTO> getClosestMatches(String location, String title, int limit);
+
+    Page<JobListingDTO> getJobListings(int pageNo, int pageSize);
+
+    List<JobListingDTO> getAllJobListings();
+
+    List<JobListingDTO> getJobListingsBasedOnFilter(JobFilter filter);
 }
@@ -1,45 +1,101 @@
 package com.MicroServices.JobApp.Services.Impl.Job;
 
+import com.MicroServices.JobApp.Configrations.CacheConfig;
+import com.MicroServices.JobApp.Constant.EmploymentType;
 import com.MicroServices.JobApp.Dto.Job.JobDTO;
 import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Dto.Job.JobListingDTO;
 import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
 import com.MicroServices.JobApp.Exceptions.ResourceNotFoundException;
+import com.MicroServices.JobApp.Helper.CollectionVersion;
+import com.MicroServices.JobApp.Helper.CursorPage;
+import com.MicroServices.JobApp.Helper.ResourceVersion;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
 import com.MicroServices.JobApp.Repository.JobRepository;
+import com.MicroServices.JobApp.Utils.CursorCodec;
 import com.MicroServices.JobApp.Utils.JobSpecification;
-import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.modelmapper.ModelMapper;
+import com.MicroServices.JobApp.Utils.Patch.EntityPatcher;
+import com.MicroServices.JobApp.Utils.VersionETag;
+import com.MicroServices.JobApp.Utils.Patch.PatchConverters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class JobServicesImpl implements JobServices {
 
     private static final Logger log = LoggerFactory.getLogger(JobServicesImpl.class);
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_CLOSEST_MATCHES = 50;
+    private static final int DEFAULT_FILTER_PAGE_SIZE = 20;
+    private static final Set<String> FILTER_SORT_FIELDS = Set.of("postedDate", "deadline", "experienceRequired");
     private final JobRepository jobRepository;
-    private final ModelMapper modelMapper;
-    private final ObjectMapper objectMapper;
+    private final DtoMapper dtoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobFilterResultCache jobFilterResultCache;
+    private final JobColumnarSnapshot jobSnapshot;
+    private final JobValidator jobValidator;
+    private final int maxFilterResults;
+    private final int maxFilterPageSize;
+
+    // Mutable job fields for PATCH; id and company can only change through their own endpoints
+    private static final EntityPatcher<Job> JOB_PATCHER = EntityPatcher.<Job>builder("Job")
+            .stringField("title", Job::getTitle, Job::setTitle, true)
+            .field("employmentType", Job::getEmploymentType, Job::setEmploymentType,
+                    (name, value) -> EmploymentType.fromLabel(PatchConverters.toStringValue(name, value)), true)
+            .integerField("experienceRequired", Job::getExperienceRequired, Job::setExperienceRequired, true)
+            .stringField("location", Job::getLocation, Job::setLocation, true)
+            .dateField("postedDate", Job::getPostedDate, Job::setPostedDate, true)
+            .dateField("deadline", Job::getDeadline, Job::setDeadline, false)
+            .stringField("contactName", Job::getContactName, Job::setContactName, false)
+            .stringField("contactEmail", Job::getContactEmail, Job::setContactEmail, false)
+            .booleanField("isActive", Job::isActive, Job::setActive)
+            .alias("active", "isActive")
+            .build();
 
     // ✅ Use constructor injection (preferred over @Autowired on fields)
-    public JobServicesImpl(JobRepository jobRepository, ModelMapper modelMapper, ObjectMapper objectMapper) {
+    public JobServicesImpl(JobRepository jobRepository, DtoMapper dtoMapper, ApplicationEventPublisher eventPublisher,
+                           JobFilterResultCache jobFilterResultCache, JobColumnarSnapshot jobSnapshot,
+                           JobValidator jobValidator,
+                           @Value("${app.jobs.filter.max-results:1000}") int maxFilterResults,
+                           @Value("${app.jobs.filter.max-page-size:100}") int maxFilterPageSize) {
         this.jobRepository = jobRepository;
-        this.modelMapper = modelMapper;
-        this.objectMapper = objectMapper;
+        this.dtoMapper = dtoMapper;
+        this.eventPublisher = eventPublisher;
+        this.jobFilterResultCache = jobFilterResultCache;
+        this.jobSnapshot = jobSnapshot;
+        this.jobValidator = jobValidator;
+        this.maxFilterResults = maxFilterResults;
+        this.maxFilterPageSize = maxFilterPageSize;
     }
 
     @Override
     public JobDTO saveJob(JobDTO jobDTO) {
-        Job job = modelMapper.map(jobDTO, Job.class);
+        Job job = dtoMapper.toJob(jobDTO);
         if (log.isDebugEnabled()) {
             log.debug("The data is: {}", job);
         }
@@ -49,37 +105,45 @@ public class JobServicesImpl implements JobServices {
         if (log.isDebugEnabled()) {
             log.debug("The saved data is: {}", savedJob);
         }
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.ChangeType.CREATED, savedJob));
 
-        return modelMapper.map(savedJob, JobDTO.class);
+        return dtoMapper.toJobDto(savedJob);
     }
 
+    // Cached by id; entries are evicted by JobCacheInvalidator whenever the job is written
+    @Cacheable(cacheNames = CacheConfig.JOB_BY_ID_CACHE, key = "#jobId.longValue()")
     @Override
     public JobDTO getJobByJobId(int jobId) {
         log.info("Fetching Job Details for JobId: {}", jobId);
 
-        return modelMapper.map(
+        return dtoMapper.toJobDto(
                 jobRepository.findById(jobId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + jobId)),
-                JobDTO.class
-        );
+                        .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + jobId)));
+    }
+
+    @Override
+    public ResourceVersion getJobVersion(int jobId) {
+        return jobRepository.findVersionById((long) jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + jobId));
+    }
+
+    @Override
+    public CollectionVersion getJobsVersion() {
+        return jobRepository.findCollectionVersion();
     }
 
     @Override
     public List<JobDTO> getAllJobs() {
         log.info("Fetching all jobs...");
 
-        List<Job> jobList = jobRepository.findAll();
+        // Projection of the job and company columns, no entities hydrated
+        List<JobDTO> jobDTOList = jobRepository.findAllJobDtos(null, Sort.by("id"));
 
-        if (jobList.isEmpty()) {
+        if (jobDTOList.isEmpty()) {
             log.warn("No jobs found in the database.");
             return List.of(); // ✅ concise & unmodifiable
         }
 
-        // ✅ Use Java 16+ Stream.toList() for unmodifiable list
-        List<JobDTO> jobDTOList = jobList.stream()
-                .map(job -> modelMapper.map(job, JobDTO.class))
-                .toList();
-
         log.info("Successfully fetched {} job(s)", jobDTOList.size());
         return jobDTOList;
     }
@@ -91,82 +155,219 @@ public class JobServicesImpl implements JobServices {
             throw new ResourceNotFoundException("This jobId Related data is not Found into database :-" + jobId);
         }
         jobRepository.deleteById(jobId);
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.ChangeType.DELETED, job.get()));
     }
 
+    @Transactional
     @Override
-    public JobDTO updateJobByJobId(JobDTO jobDTO, int jobId) {
+    public JobDTO updateJobByJobId(JobDTO jobDTO, int jobId, Long expectedVersion) {
         log.info("Fetching job for jobId :- {}", jobDTO);
         Optional<Job> job = jobRepository.findById(jobId);
         if (job.isEmpty()) {
             throw new ResourceNotFoundException("This jobId Related data is not Found into database :-" + jobId);
         }
         Job updatedJob = job.get();
+        VersionETag.requireMatch("Job", jobId, updatedJob.getVersion(), expectedVersion);
+        boolean previouslyActive = updatedJob.isActive();
         updatedJob.setActive(jobDTO.getIsActive());
         updatedJob.setContactEmail(jobDTO.getContactEmail());
         updatedJob.setDeadline(jobDTO.getDeadline());
         updatedJob.setLocation(jobDTO.getLocation());
-        updatedJob.setEmploymentType(jobDTO.getEmploymentType());
+        updatedJob.setEmploymentType(EmploymentType.fromLabel(jobDTO.getEmploymentType()));
         updatedJob.setExperienceRequired(jobDTO.getExperienceRequired());
         updatedJob.setPostedDate(jobDTO.getPostedDate());
         updatedJob.setTitle(jobDTO.getTitle());
-        jobRepository.save(updatedJob);
-        return modelMapper.map(updatedJob, JobDTO.class);
+        // Flushed here so the UPDATE (where version = ?) runs now and the returned DTO carries the new version
+        jobRepository.saveAndFlush(updatedJob);
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.ChangeType.UPDATED, updatedJob, previouslyActive));
+        return dtoMapper.toJobDto(updatedJob);
     }
 
+    @Transactional
     @Override
-    public JobDTO partialUpdateJob(int jobId, HashMap<String, Object> updatedJobDetails) {
+    public JobDTO partialUpdateJob(int jobId, HashMap<String, Object> updatedJobDetails, Long expectedVersion) {
 
         log.info("Fetching Job based on job id:-{}", jobId);
         Job job = jobRepository.findById(jobId).orElseThrow(() -> new ResourceNotFoundException("Job Not Found With ID :-" + jobId));
-        try {
-            log.debug("Applying partial update with data: {}", updatedJobDetails);
-            objectMapper.updateValue(job, updatedJobDetails);
-        } catch (IllegalArgumentException illegalArgumentException) {
-            log.error("Invalid update data provided for job id{} : {}", jobId, illegalArgumentException.getMessage());
-            throw new IllegalArgumentException("Invalid UpdatedData: " + illegalArgumentException.getMessage(), illegalArgumentException);
-        } catch (JsonMappingException e) {
-            log.error("Failed to map update data to Job Enitity for Id{} :- {}", jobId, e.getMessage());
-            throw new RuntimeException(e);
+        VersionETag.requireMatch("Job", jobId, job.getVersion(), expectedVersion);
+
+        log.debug("Applying partial update with data: {}", updatedJobDetails);
+        boolean previouslyActive = job.isActive();
+        List<String> changedFields = JOB_PATCHER.apply(job, updatedJobDetails);
+        if (changedFields.isEmpty()) {
+            log.info("Partial update for Job Id :-{} changed nothing", jobId);
+            return dtoMapper.toJobDto(job);
         }
-        Job updatedJob = jobRepository.save(job);
-        log.info("Successfully updated Job Id :-{}", jobId);
-        return modelMapper.map(updatedJob, JobDTO.class);
+        // The patched job must pass the same rules as a bulk insert; throwing here rolls the transaction back,
+        // so the dirty entity is never flushed
+        jobValidator.requireValid(dtoMapper.toJobDto(job));
+
+        // Managed entity: an UPDATE of only the changed columns (@DynamicUpdate), conditional on the version read;
+        // flushed now so the returned DTO carries the new version
+        Job updatedJob = jobRepository.saveAndFlush(job);
+        log.info("Successfully updated Job Id :-{}, fields:-{}", jobId, changedFields);
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.ChangeType.UPDATED, updatedJob, previouslyActive));
+        return dtoMapper.toJobDto(updatedJob);
     }
 
     @Override
     public Page<JobDTO> getJobs(int pageNo, int pageSize) {
 
-        Pageable pageable = PageRequest.of(pageNo, pageSize);
-        Page<Job> jobPage = jobRepository.findAll(pageable);
-        return jobPage.map(job -> modelMapper.map(job, JobDTO.class));
+        // Ordered by id so offset pages are stable; projection of the job and company columns
+        Pageable pageable = PageRequest.of(pageNo, pageSize, Sort.by("id"));
+        return jobRepository.findJobDtos(null, pageable);
+    }
+
+    @Override
+    public CursorPage<JobDTO> getJobsAfter(String after, int pageSize) {
+        // Slice instead of Page: fetches pageSize + 1 rows to detect a next page and never runs count(*)
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(pageSize, 1), MAX_CURSOR_PAGE_SIZE));
+        Slice<Job> jobSlice;
+        if (after == null || after.isBlank()) {
+            jobSlice = jobRepository.findFirstSliceByPostedDate(pageable);
+        } else {
+            String[] cursor = CursorCodec.decode(after, 2);
+            try {
+                jobSlice = jobRepository.findSliceByPostedDateAfter(LocalDate.parse(cursor[0]), Long.valueOf(cursor[1]), pageable);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + after, e);
+            }
+        }
+
+        List<JobDTO> jobDTOList = jobSlice.getContent().stream()
+                .map(dtoMapper::toJobDto)
+                .toList();
+
+        String nextCursor = null;
+        if (jobSlice.hasNext()) {
+            Job last = jobSlice.getContent().get(jobSlice.getNumberOfElements() - 1);
+            nextCursor = CursorCodec.encode(last.getPostedDate(), last.getId());
+        }
+        return new CursorPage<>(jobDTOList, nextCursor, jobSlice.hasNext());
+    }
+
+    @Override
+    public Slice<JobDTO> getJobsBasedOnFilter(JobFilter filter) {
+        // Capped rather than rejected: broader filters get the first maxFilterResults jobs in sort order, flagged as
+        // truncated, and the rest is available through the paged variant
+        Pageable firstResults = PageRequest.of(0, maxFilterResults, toFilterSort(filter.getSort()));
+        return jobFilterResultCache.get(filter, () -> {
+            if (jobSnapshot.canServe(filter)) {
+                long[] jobIds = jobSnapshot.findIds(filter, firstResults.getSort());
+                boolean truncated = jobIds.length > maxFilterResults;
+                List<JobDTO> content = findJobsInOrder(truncated ? Arrays.copyOf(jobIds, maxFilterResults) : jobIds);
+                return new SliceImpl<>(content, firstResults, truncated);
+            }
+            log.debug("Filter cache miss, querying jobs for filter");
+            // One row past the cap is enough to know the result is truncated
+            Slice<JobDTO> jobSlice = jobRepository.findJobDtoSlice(JobSpecification.fromFilter(filter), firstResults);
+            if (jobSlice.hasNext()) {
+                log.info("Unpaged filter matches more than {} jobs, returning the first {}", maxFilterResults, maxFilterResults);
+            }
+            return jobSlice;
+        });
     }
 
     @Override
-    public List<JobDTO> getJobsBasedOnFilter(JobFilter filter) {
+    public Slice<JobDTO> getJobsPageBasedOnFilter(JobFilter filter) {
+        int page = filter.getPage() == null ? 0 : filter.getPage();
+        int size = filter.getSize() == null ? DEFAULT_FILTER_PAGE_SIZE : filter.getSize();
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("page must be >= 0 and size must be >= 1");
+        }
+        Pageable pageable = PageRequest.of(page, Math.min(size, maxFilterPageSize), toFilterSort(filter.getSort()));
+        if (jobSnapshot.canServe(filter)) {
+            // The snapshot yields the full ordered id list, so the total comes for free
+            long[] jobIds = jobSnapshot.findIds(filter, pageable.getSort());
+            int from = (int) Math.min(pageable.getOffset(), jobIds.length);
+            int to = Math.min(from + pageable.getPageSize(), jobIds.length);
+            List<JobDTO> content = findJobsInOrder(Arrays.copyOfRange(jobIds, from, to));
+            return Boolean.FALSE.equals(filter.getWithCount())
+                    ? new SliceImpl<>(content, pageable, to < jobIds.length)
+                    : new PageImpl<>(content, pageable, jobIds.length);
+        }
+        Specification<Job> spec = JobSpecification.fromFilter(filter);
 
-        Specification<Job> spec = Specification.where(null);
-        if (filter.getTitle() != null) {
-            spec = spec.and(JobSpecification.hasTitle(filter.getTitle()));
+        // Slice mode skips the count query entirely
+        if (Boolean.FALSE.equals(filter.getWithCount())) {
+            return jobRepository.findJobDtoSlice(spec, pageable);
         }
-        if (filter.getEmploymentType() != null) {
-            spec = spec.and(JobSpecification.hasEmploymentType(filter.getEmploymentType()));
+        return jobRepository.findJobDtos(spec, pageable);
+    }
+
+    // Loads the jobs for ids resolved by the snapshot, keeping the snapshot's order; rows deleted meanwhile are skipped
+    private List<JobDTO> findJobsInOrder(long[] jobIds) {
+        if (jobIds.length == 0) {
+            return List.of();
         }
-        if (filter.getLocation() != null) {
-            spec = spec.and(JobSpecification.hasLocationLike(filter.getLocation()));
+        List<Long> ids = Arrays.stream(jobIds).boxed().toList();
+        Map<Long, JobDTO> jobsById = new HashMap<>();
+        for (JobDTO job : jobRepository.findAllJobDtos((root, query, cb) -> root.get("id").in(ids), null)) {
+            jobsById.put(job.getId(), job);
         }
-        if (filter.getExperienceRequiredGte() != null) {
-            spec = spec.and(JobSpecification.experienceGreaterThanOrEqual(filter.getExperienceRequiredGte()));
+        List<JobDTO> jobDTOList = new ArrayList<>(jobIds.length);
+        for (Long id : ids) {
+            JobDTO job = jobsById.get(id);
+            if (job != null) {
+                jobDTOList.add(job);
+            }
         }
-        if (filter.getExperienceRequiredLte() != null) {
-            spec = spec.and(JobSpecification.experienceLessThanOrEqual(filter.getExperienceRequiredLte()));
+        return jobDTOList;
+    }
+
+    // Parses "field[:asc|desc],..." over the sortable fields; id is always appended so pages are stable
+    private static Sort toFilterSort(String sortParam) {
+        if (sortParam == null || sortParam.isBlank()) {
+            return Sort.by(Sort.Order.desc("postedDate"), Sort.Order.desc("id"));
         }
-        if (filter.getPostedDateAfter() != null) {
-            spec = spec.and(JobSpecification.postedDateAfter(filter.getPostedDateAfter()));
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String part : sortParam.split(",")) {
+            String[] fieldAndDirection = part.trim().split(":");
+            String field = fieldAndDirection[0].trim();
+            if (!FILTER_SORT_FIELDS.contains(field) || fieldAndDirection.length > 2) {
+                throw new IllegalArgumentException("Invalid sort: " + part.trim() + " (sortable fields: postedDate, deadline, experienceRequired)");
+            }
+            Sort.Direction direction = fieldAndDirection.length == 2
+                    ? Sort.Direction.fromOptionalString(fieldAndDirection[1].trim())
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid sort direction: " + part.trim()))
+                    : Sort.Direction.ASC;
+            orders.add(new Sort.Order(direction, field));
         }
-        if (filter.getDeadlineBefore() != null) {
-            spec = spec.and(JobSpecification.deadlineBefore(filter.getDeadlineBefore()));
+        orders.add(Sort.Order.desc("id"));
+        return Sort.by(orders);
+    }
+
+    @Override
+    public List<JobDTO> getClosestMatches(String location, String title, int limit) {
+        if ((location == null) == (title == null)) {
+            throw new IllegalArgumentException("Provide exactly one of location or title");
         }
-        List<Job> jobList = jobRepository.findAll(spec);
-        return jobList.stream().map(job -> modelMapper.map(job, JobDTO.class)).toList();
+        int maxResults = Math.min(Math.max(limit, 1), MAX_CLOSEST_MATCHES);
+        log.info("Fetching closest matches for location:-{} title:-{}", location, title);
+        List<Job> jobList = location != null
+                ? jobRepository.findClosestByLocation(location, maxResults)
+                : jobRepository.findClosestByTitle(title, maxResults);
+        return jobList.stream().map(dtoMapper::toJobDto).toList();
+    }
+
+    // Listing reads below use a single projection query and never hydrate Job/Company entities
+
+    @Override
+    public Page<JobListingDTO> getJobListings(int pageNo, int pageSize) {
+        Pageable pageable = PageRequest.of(pageNo, pageSize, Sort.by("id"));
+        return jobRepository.findListings(null, pageable);
+    }
+
+    @Override
+    public List<JobListingDTO> getAllJobListings() {
+        log.info("Fetching all job listings...");
+        List<JobListingDTO> jobListingDTOList = jobRepository.findAllListings(null, Sort.by("id"));
+        log.info("Successfully fetched {} job listing(s)", jobListingDTOList.size());
+        return jobListingDTOList;
+    }
+
+    @Override
+    public List<JobListingDTO> getJobListingsBasedOnFilter(JobFilter filter) {
+        return jobRepository.findAllListings(JobSpecification.fromFilter(filter), Sort.by("id"));
     }
 }
@@ -0,0 +1,63 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The rules a job must satisfy before it is written: the {@code JobDTO} constraints plus the cross-field checks
+ * bean validation can't express. Shared by bulk ingestion (which reports the errors per item) and PATCH (which
+ * rejects the request), so a field can't be set through one path to a value the other refuses.
+ */
+@Component
+public class JobValidator {
+
+    private final Validator validator;
+
+    public JobValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * @return one {@code "field: message"} entry per broken rule, empty when the job is valid
+     */
+    public List<String> validate(JobDTO jobDTO) {
+        List<String> errors = new ArrayList<>();
+        if (jobDTO == null) {
+            errors.add("Job must not be null");
+            return errors;
+        }
+        Set<ConstraintViolation<JobDTO>> violations = validator.validate(jobDTO);
+        for (ConstraintViolation<JobDTO> violation : violations) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        if (jobDTO.getDeadline() != null && jobDTO.getPostedDate() != null
+                && jobDTO.getDeadline().isBefore(jobDTO.getPostedDate())) {
+            errors.add("deadline: Deadline must not be before the posted date");
+        }
+        if (jobDTO.getEmploymentType() != null && !jobDTO.getEmploymentType().isBlank()) {
+            try {
+                EmploymentType.fromLabel(jobDTO.getEmploymentType());
+            } catch (IllegalArgumentException e) {
+                errors.add("employmentType: " + e.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * @throws IllegalArgumentException listing every broken rule when the job is not valid
+     */
+    public void requireValid(JobDTO jobDTO) {
+        List<String> errors = validate(jobDTO);
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Validation failed for the following fields: " + String.join(", ", errors));
+        }
+    }
+}
@@ -1,17 +1,21 @@
 package com.MicroServices.JobApp.Services.Impl.Review;
 
 import com.MicroServices.JobApp.Dto.Review.ReviewDTO;
+import com.MicroServices.JobApp.Dto.Review.ReviewStatsDTO;
+import com.MicroServices.JobApp.Helper.CursorPage;
 
 import java.util.List;
 
 public interface ReviewServices {
     ReviewDTO addReview(Integer companyId, ReviewDTO reviewDTO);
 
-    List<ReviewDTO> getAllReviewsBasedOnCompanyId(Integer companyId);
+    CursorPage<ReviewDTO> getAllReviewsBasedOnCompanyId(Integer companyId, String after, int pageSize, String sort);
 
     List<ReviewDTO> getAllReviewsBasedOnReviewIdAndCompanyId(Integer companyId, Integer reviewId);
 
     ReviewDTO updateReviewBasedOnCompanyAndReviewId(Integer companyId, Integer reviewId, ReviewDTO reviewDTO);
 
     void deleteByIdAndCompanyId(Integer companyId, Integer reviewId);
+
+    ReviewStatsDTO getReviewStatsBasedOnCompanyId(Integer companyId);
 }
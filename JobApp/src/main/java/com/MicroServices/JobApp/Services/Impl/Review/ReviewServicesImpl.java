@@ -1,13 +1,21 @@
 package com.MicroServices.JobApp.Services.Impl.Review;
 
+import com.MicroServices.JobApp.Constant.ReviewSort;
 import com.MicroServices.JobApp.Dto.Review.ReviewDTO;
+import com.MicroServices.JobApp.Dto.Review.ReviewStatsDTO;
 import com.MicroServices.JobApp.Entity.Company;
 import com.MicroServices.JobApp.Entity.Review;
 import com.MicroServices.JobApp.Exceptions.ResourceNotFoundException;
+import com.MicroServices.JobApp.Helper.CursorPage;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
 import com.MicroServices.JobApp.Repository.CompanyRepository;
 import com.MicroServices.JobApp.Repository.ReviewRepository;
-import org.modelmapper.ModelMapper;
+import com.MicroServices.JobApp.Services.Impl.Company.CompanyStatsServices;
+import com.MicroServices.JobApp.Utils.CursorCodec;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,35 +24,81 @@ import java.util.List;
 @Service
 public class ReviewServicesImpl implements ReviewServices {
 
+    private static final int MIN_RATING = 1;
+    private static final int MAX_RATING = 5;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     @Autowired
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper;
     private final CompanyRepository companyRepository;
     private final ReviewRepository reviewRepository;
+    private final CompanyStatsServices companyStatsServices;
 
-    public ReviewServicesImpl(CompanyRepository companyRepository, ReviewRepository reviewRepository, ModelMapper modelMapper) {
+    public ReviewServicesImpl(CompanyRepository companyRepository, ReviewRepository reviewRepository, DtoMapper dtoMapper,
+                              CompanyStatsServices companyStatsServices) {
         this.companyRepository = companyRepository;
         this.reviewRepository = reviewRepository;
-        this.modelMapper = modelMapper;
+        this.dtoMapper = dtoMapper;
+        this.companyStatsServices = companyStatsServices;
     }
 
+    // Review writes are transactional so the company stats delta commits (or rolls back) with them
+    @Transactional
     @Override
     public ReviewDTO addReview(Integer companyId, ReviewDTO reviewDTO) {
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found with ID: " + companyId));
 
-        Review review = modelMapper.map(reviewDTO, Review.class);
+        requireValidRating(reviewDTO.getRating());
+        Review review = dtoMapper.toReview(reviewDTO);
         review.setCompany(company);
         reviewRepository.save(review);
-        return modelMapper.map(review, ReviewDTO.class);
+        companyStatsServices.reviewAdded(company.getId(), review.getRating());
+        return dtoMapper.toReviewDto(review);
     }
 
+    // Keyset pagination: each page seeks the (company_id, id) or (company_id, rating, id) index from the last review
+    // seen, so a deep page of a company with tens of thousands of reviews costs the same as the first one
     @Override
-    public List<ReviewDTO> getAllReviewsBasedOnCompanyId(Integer companyId) {
-        Company company = companyRepository.findById(companyId)
-                .orElseThrow(() -> new ResourceNotFoundException("Company not found with ID: " + companyId));
-        List<Review> reviewList = reviewRepository.findByCompanyId(companyId);
+    public CursorPage<ReviewDTO> getAllReviewsBasedOnCompanyId(Integer companyId, String after, int pageSize, String sort) {
+        ReviewSort reviewSort = sort == null || sort.isBlank() ? ReviewSort.RECENT : ReviewSort.fromParamName(sort);
+        if (!companyRepository.existsById(companyId)) {
+            throw new ResourceNotFoundException("Company not found with ID: " + companyId);
+        }
+        // Slice: fetches pageSize + 1 rows to detect a next page and never runs count(*)
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(pageSize, 1), MAX_CURSOR_PAGE_SIZE));
+        Long id = companyId.longValue();
+        boolean first = after == null || after.isBlank();
+
+        Slice<Review> reviewSlice;
+        try {
+            if (reviewSort == ReviewSort.RECENT) {
+                reviewSlice = first ? reviewRepository.findFirstSliceByCompanyId(id, pageable)
+                        : reviewRepository.findSliceByCompanyIdAfter(id, Long.valueOf(CursorCodec.decode(after, 1)[0]), pageable);
+            } else if (first) {
+                reviewSlice = reviewSort == ReviewSort.RATING_DESC
+                        ? reviewRepository.findFirstSliceByCompanyIdOrderByRatingDesc(id, pageable)
+                        : reviewRepository.findFirstSliceByCompanyIdOrderByRatingAsc(id, pageable);
+            } else {
+                String[] cursor = CursorCodec.decode(after, 2);
+                Integer rating = Integer.valueOf(cursor[0]);
+                Long reviewId = Long.valueOf(cursor[1]);
+                reviewSlice = reviewSort == ReviewSort.RATING_DESC
+                        ? reviewRepository.findSliceByCompanyIdOrderByRatingDescAfter(id, rating, reviewId, pageable)
+                        : reviewRepository.findSliceByCompanyIdOrderByRatingAscAfter(id, rating, reviewId, pageable);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + after, e);
+        }
 
-        return reviewList.stream().map(review -> modelMapper.map(review, ReviewDTO.class)).toList();
+        List<ReviewDTO> reviewDTOList = reviewSlice.getContent().stream().map(dtoMapper::toReviewDto).toList();
+        String nextCursor = null;
+        if (reviewSlice.hasNext()) {
+            Review last = reviewSlice.getContent().get(reviewSlice.getNumberOfElements() - 1);
+            nextCursor = reviewSort == ReviewSort.RECENT ? CursorCodec.encode(last.getId())
+                    : CursorCodec.encode(last.getRating(), last.getId());
+        }
+        return new CursorPage<>(reviewDTOList, nextCursor, reviewSlice.hasNext());
     }
 
     @Override
@@ -55,16 +109,20 @@ public class ReviewServicesImpl implements ReviewServices {
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found with ID: " + reviewId));
 
         List<Review> reviewList = reviewRepository.findByCompanyIdAndId(companyId, reviewId);
-        return reviewList.stream().map(rev -> modelMapper.map(rev, ReviewDTO.class)).toList();
+        return reviewList.stream().map(dtoMapper::toReviewDto).toList();
     }
 
+    @Transactional
     @Override
     public ReviewDTO updateReviewBasedOnCompanyAndReviewId(Integer companyId, Integer reviewId, ReviewDTO reviewDTO) {
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found with ID: " + companyId));
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found with ID: " + reviewId));
+        requireValidRating(reviewDTO.getRating());
         Review existdReview = reviewRepository.findById(reviewId).get();
+        Long previousCompanyId = existdReview.getCompany().getId();
+        int previousRating = existdReview.getRating();
         existdReview.setCompany(company);
         System.out.println(review.getReviewerName() + "---------");
         existdReview.setReviewerName(reviewDTO.getReviewerName());
@@ -72,7 +130,12 @@ public class ReviewServicesImpl implements ReviewServices {
         existdReview.setComment(reviewDTO.getComment());
         existdReview.setRating(reviewDTO.getRating());
         reviewRepository.save(existdReview);
-        return modelMapper.map(existdReview, ReviewDTO.class);
+        // Moves the review between histogram buckets, and between companies when it was reassigned to another one
+        if (!previousCompanyId.equals(company.getId()) || previousRating != existdReview.getRating()) {
+            companyStatsServices.reviewRemoved(previousCompanyId, previousRating);
+            companyStatsServices.reviewAdded(company.getId(), existdReview.getRating());
+        }
+        return dtoMapper.toReviewDto(existdReview);
     }
     @Transactional
     @Override
@@ -84,5 +147,21 @@ public class ReviewServicesImpl implements ReviewServices {
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found with ID: " + reviewId));
 
         reviewRepository.deleteByCompanyIdAndId(companyId, reviewId);
+        // Nothing is deleted when the review belongs to another company
+        if (review.getCompany().getId().equals(company.getId())) {
+            companyStatsServices.reviewRemoved(company.getId(), review.getRating());
+        }
+    }
+
+    @Override
+    public ReviewStatsDTO getReviewStatsBasedOnCompanyId(Integer companyId) {
+        return companyStatsServices.getReviewStats(companyId.longValue());
+    }
+
+    // The histogram has one bucket per star
+    private static void requireValidRating(Integer rating) {
+        if (rating == null || rating < MIN_RATING || rating > MAX_RATING) {
+            throw new IllegalArgumentException("rating must be between " + MIN_RATING + " and " + MAX_RATING);
+        }
     }
 }
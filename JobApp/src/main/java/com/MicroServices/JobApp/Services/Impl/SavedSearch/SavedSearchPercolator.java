@@ -0,0 +1,307 @@
+package com.MicroServices.JobApp.Services.Impl.SavedSearch;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Entity.JobAlert;
+import com.MicroServices.JobApp.Entity.SavedSearch;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import com.MicroServices.JobApp.Events.SavedSearchChangedEvent;
+import com.MicroServices.JobApp.Repository.JobAlertRepository;
+import com.MicroServices.JobApp.Repository.SavedSearchRepository;
+import com.MicroServices.JobApp.Utils.JobFilterMatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Matches each newly posted job against the saved searches and queues a {@link JobAlert} per match.
+ * <p>
+ * Instead of running every saved filter against the table, the filters themselves are indexed: a grid of buckets
+ * with one row per employment type (plus jobs without one) and one column per year of experience required (0-15,
+ * 16 and more, none). A saved search is registered in every bucket it can match, e.g. "FULL_TIME|CONTRACT, 2-4
+ * years" in 2 x 3 buckets. A job falls into exactly one bucket, so only the searches registered there are checked
+ * against the rest of their criteria ({@link JobFilterMatcher}); searches that differ in type or experience are
+ * never looked at. Buckets are copy-on-write arrays, so matching takes no lock.
+ * <p>
+ * The index is built from the database on startup and kept current from committed {@link SavedSearchChangedEvent}s.
+ * Only active jobs alert. Alerts are written after the job has committed, in their own transaction; if that fails
+ * they are logged and lost, the job itself is unaffected.
+ * <p>
+ * Metrics: {@code saved.searches.indexed} (gauge) and {@code jobs.alerts.queued} (counter).
+ */
+@Component
+public class SavedSearchPercolator {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchPercolator.class);
+
+    // Experience columns: one per year up to 15, then "16 and more", then "not given"
+    private static final int OPEN_EXPERIENCE_SLOT = 16;
+    private static final int NO_EXPERIENCE_SLOT = OPEN_EXPERIENCE_SLOT + 1;
+    private static final int EXPERIENCE_SLOTS = NO_EXPERIENCE_SLOT + 1;
+    private static final int NO_TYPE_SLOT = EmploymentType.values().length;
+    private static final int TYPE_SLOTS = NO_TYPE_SLOT + 1;
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final JobAlertRepository jobAlertRepository;
+    private final TransactionTemplate alertTransaction;
+    private final int batchSize;
+    private final Counter alertsQueued;
+
+    private volatile Index index = new Index();
+
+    // Guarded by this
+    private List<SavedSearchChangedEvent> pendingDuringBuild;
+
+    public SavedSearchPercolator(SavedSearchRepository savedSearchRepository,
+                                 JobAlertRepository jobAlertRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.saved-searches.batch-size:500}") int batchSize) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.jobAlertRepository = jobAlertRepository;
+        // Runs after the job's transaction has committed, so it needs a transaction of its own
+        this.alertTransaction = new TransactionTemplate(transactionManager);
+        this.alertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        Gauge.builder("saved.searches.indexed", this, percolator -> percolator.index.size())
+                .description("Saved searches in the percolator index")
+                .register(meterRegistry);
+        this.alertsQueued = Counter.builder("jobs.alerts.queued")
+                .description("Job alerts queued for saved searches")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Saved search index build failed, new jobs raise no alerts until the next rebuild: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reloads all saved searches into a fresh index. Changes committed while the rows are being read are queued
+     * and replayed on the new index, so none is lost.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            pendingDuringBuild = new ArrayList<>();
+        }
+
+        Index fresh = new Index();
+        try {
+            Long lastId = 0L;
+            List<SavedSearch> batch;
+            do {
+                batch = savedSearchRepository.findAfterId(lastId, PageRequest.of(0, batchSize));
+                for (SavedSearch savedSearch : batch) {
+                    fresh.put(toEntry(savedSearch, savedSearch.getUser().getId()));
+                    lastId = savedSearch.getId();
+                }
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingDuringBuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            for (SavedSearchChangedEvent event : pendingDuringBuild) {
+                apply(fresh, event);
+            }
+            pendingDuringBuild = null;
+            index = fresh;
+        }
+        log.info("Saved search index built with {} search(es)", fresh.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        apply(index, event);
+        if (pendingDuringBuild != null) {
+            pendingDuringBuild.add(event);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Job job = event.getJob();
+        if (event.getChangeType() != JobChangedEvent.ChangeType.CREATED || !job.isActive()) {
+            return;
+        }
+
+        List<JobAlert> alerts = new ArrayList<>();
+        Instant now = Instant.now();
+        for (Entry entry : index.candidates(job)) {
+            if (entry.matcher().test(job)) {
+                alerts.add(new JobAlert(entry.userId(), entry.id(), job.getId(), job.getTitle(), now));
+            }
+        }
+        if (alerts.isEmpty()) {
+            return;
+        }
+
+        try {
+            alertTransaction.executeWithoutResult(status -> jobAlertRepository.saveAll(alerts));
+            alertsQueued.increment(alerts.size());
+            log.debug("Queued {} alert(s) for Job Id :-{}", alerts.size(), job.getId());
+        } catch (RuntimeException e) {
+            log.error("Failed to queue {} alert(s) for Job Id :-{}: {}", alerts.size(), job.getId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The saved search's criteria as a job filter, the form {@link JobFilterMatcher} evaluates.
+     */
+    static JobFilter toFilter(SavedSearch savedSearch) {
+        JobFilter filter = new JobFilter();
+        filter.setTitle(savedSearch.getTitle());
+        filter.setTitleContains(savedSearch.getTitleContains());
+        filter.setEmploymentType(savedSearch.getEmploymentType());
+        filter.setLocation(savedSearch.getLocation());
+        filter.setExperienceRequiredGte(savedSearch.getExperienceRequiredGte());
+        filter.setExperienceRequiredLte(savedSearch.getExperienceRequiredLte());
+        filter.setPostedDateAfter(savedSearch.getPostedDateAfter());
+        filter.setDeadlineBefore(savedSearch.getDeadlineBefore());
+        filter.setActive(savedSearch.getActive());
+        return filter;
+    }
+
+    private static void apply(Index index, SavedSearchChangedEvent event) {
+        if (event.getChangeType() == SavedSearchChangedEvent.ChangeType.DELETED) {
+            index.remove(event.getSavedSearch().getId());
+        } else {
+            index.put(toEntry(event.getSavedSearch(), event.getUserId()));
+        }
+    }
+
+    private static Entry toEntry(SavedSearch savedSearch, Long userId) {
+        return new Entry(savedSearch.getId(), userId, JobFilterMatcher.of(toFilter(savedSearch)), bucketsOf(savedSearch));
+    }
+
+    // Every bucket a job matching the search can fall into
+    private static int[] bucketsOf(SavedSearch savedSearch) {
+        List<Integer> typeSlots = new ArrayList<>();
+        if (savedSearch.getEmploymentType() == null) {
+            for (int slot = 0; slot < TYPE_SLOTS; slot++) {
+                typeSlots.add(slot);
+            }
+        } else {
+            for (EmploymentType type : EmploymentType.parseSelection(savedSearch.getEmploymentType())) {
+                typeSlots.add((int) type.getCode());
+            }
+        }
+
+        Integer gte = savedSearch.getExperienceRequiredGte();
+        Integer lte = savedSearch.getExperienceRequiredLte();
+        List<Integer> experienceSlots = new ArrayList<>();
+        if (gte == null && lte == null) {
+            for (int slot = 0; slot < EXPERIENCE_SLOTS; slot++) {
+                experienceSlots.add(slot);
+            }
+        } else {
+            // A range never matches a job without experience; an empty range registers nowhere
+            int from = gte == null ? 0 : experienceSlot(gte);
+            int to = lte == null ? OPEN_EXPERIENCE_SLOT : experienceSlot(lte);
+            for (int slot = from; slot <= to; slot++) {
+                experienceSlots.add(slot);
+            }
+        }
+
+        int[] buckets = new int[typeSlots.size() * experienceSlots.size()];
+        int i = 0;
+        for (int typeSlot : typeSlots) {
+            for (int experienceSlot : experienceSlots) {
+                buckets[i++] = bucket(typeSlot, experienceSlot);
+            }
+        }
+        return buckets;
+    }
+
+    private static int bucketOf(Job job) {
+        int typeSlot = job.getEmploymentType() == null ? NO_TYPE_SLOT : job.getEmploymentType().getCode();
+        int experienceSlot = job.getExperienceRequired() == null ? NO_EXPERIENCE_SLOT : experienceSlot(job.getExperienceRequired());
+        return bucket(typeSlot, experienceSlot);
+    }
+
+    private static int experienceSlot(int years) {
+        return Math.min(Math.max(years, 0), OPEN_EXPERIENCE_SLOT);
+    }
+
+    private static int bucket(int typeSlot, int experienceSlot) {
+        return typeSlot * EXPERIENCE_SLOTS + experienceSlot;
+    }
+
+    private record Entry(Long id, Long userId, JobFilterMatcher matcher, int[] buckets) {
+    }
+
+    /**
+     * Bucket grid plus the entries by id (to find their buckets again on update or delete). Readers need no lock;
+     * writers are serialized by the percolator.
+     */
+    private static final class Index {
+
+        private final AtomicReferenceArray<Entry[]> buckets = new AtomicReferenceArray<>(TYPE_SLOTS * EXPERIENCE_SLOTS);
+        private final Map<Long, Entry> entriesById = new ConcurrentHashMap<>();
+
+        private Index() {
+            for (int i = 0; i < buckets.length(); i++) {
+                buckets.set(i, NO_ENTRIES);
+            }
+        }
+
+        private Entry[] candidates(Job job) {
+            return buckets.get(bucketOf(job));
+        }
+
+        private int size() {
+            return entriesById.size();
+        }
+
+        private void put(Entry entry) {
+            remove(entry.id());
+            for (int bucket : entry.buckets()) {
+                Entry[] current = buckets.get(bucket);
+                Entry[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = entry;
+                buckets.set(bucket, grown);
+            }
+            entriesById.put(entry.id(), entry);
+        }
+
+        private void remove(Long id) {
+            Entry entry = entriesById.remove(id);
+            if (entry == null) {
+                return;
+            }
+            for (int bucket : entry.buckets()) {
+                Entry[] current = buckets.get(bucket);
+                buckets.set(bucket, Arrays.stream(current).filter(candidate -> candidate != entry).toArray(Entry[]::new));
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.MicroServices.JobApp.Services.Impl.SavedSearch;
+
+import com.MicroServices.JobApp.Dto.SavedSearch.JobAlertDTO;
+import com.MicroServices.JobApp.Dto.SavedSearch.SavedSearchDTO;
+
+import java.util.List;
+
+public interface SavedSearchServices {
+    SavedSearchDTO saveSearch(String username, SavedSearchDTO savedSearchDTO);
+
+    List<SavedSearchDTO> getSavedSearches(String username);
+
+    void deleteSavedSearch(String username, Long savedSearchId);
+
+    List<JobAlertDTO> getAlerts(String username, long after, int limit);
+
+    int acknowledgeAlerts(String username, List<Long> alertIds);
+}
@@ -0,0 +1,127 @@
+package com.MicroServices.JobApp.Services.Impl.SavedSearch;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.SavedSearch.JobAlertDTO;
+import com.MicroServices.JobApp.Dto.SavedSearch.SavedSearchDTO;
+import com.MicroServices.JobApp.Entity.SavedSearch;
+import com.MicroServices.JobApp.Entity.User;
+import com.MicroServices.JobApp.Events.SavedSearchChangedEvent;
+import com.MicroServices.JobApp.Exceptions.ResourceNotFoundException;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
+import com.MicroServices.JobApp.Repository.JobAlertRepository;
+import com.MicroServices.JobApp.Repository.SavedSearchRepository;
+import com.MicroServices.JobApp.Repository.UserRepository;
+import com.MicroServices.JobApp.Utils.JobFilterMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class SavedSearchServicesImpl implements SavedSearchServices {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchServicesImpl.class);
+    private static final int MAX_ALERTS_PER_PAGE = 500;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final JobAlertRepository jobAlertRepository;
+    private final UserRepository userRepository;
+    private final DtoMapper dtoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxPerUser;
+
+    public SavedSearchServicesImpl(SavedSearchRepository savedSearchRepository, JobAlertRepository jobAlertRepository,
+                                   UserRepository userRepository, DtoMapper dtoMapper,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${app.saved-searches.max-per-user:20}") int maxPerUser) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.jobAlertRepository = jobAlertRepository;
+        this.userRepository = userRepository;
+        this.dtoMapper = dtoMapper;
+        this.eventPublisher = eventPublisher;
+        this.maxPerUser = maxPerUser;
+    }
+
+    @Transactional
+    @Override
+    public SavedSearchDTO saveSearch(String username, SavedSearchDTO savedSearchDTO) {
+        User user = findUser(username);
+        if (savedSearchRepository.countByUserId(user.getId()) >= maxPerUser) {
+            throw new IllegalArgumentException("A user can keep at most " + maxPerUser + " saved searches");
+        }
+
+        SavedSearch savedSearch = dtoMapper.toSavedSearch(savedSearchDTO);
+        savedSearch.setId(null);
+        savedSearch.setUser(user);
+        // Canonical form, so the percolator and clients see one spelling; unknown types are rejected here (400)
+        if (savedSearch.getEmploymentType() != null) {
+            savedSearch.setEmploymentType(EmploymentType.parseSelection(savedSearch.getEmploymentType()).stream()
+                    .map(EmploymentType::name)
+                    .collect(Collectors.joining(EmploymentType.SELECTION_SEPARATOR)));
+        }
+        JobFilterMatcher.of(SavedSearchPercolator.toFilter(savedSearch));
+
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(SavedSearchChangedEvent.ChangeType.SAVED, saved, user.getId()));
+        log.info("Saved search Id :-{} for user:-{}", saved.getId(), username);
+        return dtoMapper.toSavedSearchDto(saved);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<SavedSearchDTO> getSavedSearches(String username) {
+        User user = findUser(username);
+        return savedSearchRepository.findByUserId(user.getId()).stream().map(dtoMapper::toSavedSearchDto).toList();
+    }
+
+    @Transactional
+    @Override
+    public void deleteSavedSearch(String username, Long savedSearchId) {
+        User user = findUser(username);
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndUserId(savedSearchId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Saved search not found with ID: " + savedSearchId));
+        int removedAlerts = jobAlertRepository.deleteBySavedSearchId(savedSearchId);
+        savedSearchRepository.delete(savedSearch);
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(SavedSearchChangedEvent.ChangeType.DELETED, savedSearch, user.getId()));
+        log.info("Deleted saved search Id :-{} and {} queued alert(s)", savedSearchId, removedAlerts);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<JobAlertDTO> getAlerts(String username, long after, int limit) {
+        User user = findUser(username);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_ALERTS_PER_PAGE);
+        return jobAlertRepository.findQueuedAfter(user.getId(), after, PageRequest.of(0, pageSize)).stream()
+                .map(dtoMapper::toJobAlertDto)
+                .toList();
+    }
+
+    @Transactional
+    @Override
+    public int acknowledgeAlerts(String username, List<Long> alertIds) {
+        if (alertIds == null || alertIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one alert id is required");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(alertIds);
+        if (distinctIds.size() > MAX_ALERTS_PER_PAGE) {
+            throw new IllegalArgumentException("At most " + MAX_ALERTS_PER_PAGE + " alert ids per request");
+        }
+        User user = findUser(username);
+        int removed = jobAlertRepository.deleteQueuedByIds(user.getId(), distinctIds);
+        log.info("Acknowledged {} of {} alert(s) for user:-{}", removed, distinctIds.size(), username);
+        return removed;
+    }
+
+    private User findUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
+    }
+}
@@ -0,0 +1,87 @@
+package com.MicroServices.JobApp.Utils;
+
+import com.MicroServices.JobApp.Dto.Company.CompanyFilter;
+import com.MicroServices.JobApp.Entity.Company;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+public class CompanySpecification {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    // Combines every criterion set on the filter (AND); an empty filter matches all companies
+    public static Specification<Company> fromFilter(CompanyFilter filter) {
+        Specification<Company> spec = Specification.where(null);
+        if (filter.getIndustry() != null) {
+            spec = spec.and(industryEqualsIgnoreCase(filter.getIndustry()));
+        }
+        if (filter.getNameStartsWith() != null) {
+            spec = spec.and(nameStartsWithIgnoreCase(filter.getNameStartsWith()));
+        }
+        if (filter.getFoundedYearGte() != null) {
+            spec = spec.and(foundedYearGreaterThanOrEqual(filter.getFoundedYearGte()));
+        }
+        if (filter.getFoundedYearLte() != null) {
+            spec = spec.and(foundedYearLessThanOrEqual(filter.getFoundedYearLte()));
+        }
+        if (filter.getEmployeeCountGte() != null) {
+            spec = spec.and(employeeCountGreaterThanOrEqual(filter.getEmployeeCountGte()));
+        }
+        if (filter.getEmployeeCountLte() != null) {
+            spec = spec.and(employeeCountLessThanOrEqual(filter.getEmployeeCountLte()));
+        }
+        if (filter.getActive() != null) {
+            spec = spec.and(isActive(filter.getActive()));
+        }
+        return spec;
+    }
+
+    // Filter by industry, case-insensitive; served by idx_company_lower_industry_id
+    public static Specification<Company> industryEqualsIgnoreCase(String industry) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(criteriaBuilder.lower(root.get("industry")),
+                industry.toLowerCase(Locale.ROOT));
+    }
+
+    // Filter by name prefix, case-insensitive; lower(name) LIKE 'x%' is served by the text_pattern_ops index
+    public static Specification<Company> nameStartsWithIgnoreCase(String prefix) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.like(criteriaBuilder.lower(root.get("name")),
+                prefixPattern(prefix.toLowerCase(Locale.ROOT)), LIKE_ESCAPE);
+    }
+
+    // Filter by foundedYear (greater than or equal)
+    public static Specification<Company> foundedYearGreaterThanOrEqual(Integer year) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(root.get("foundedYear"), year);
+    }
+
+    // Filter by foundedYear (less than or equal)
+    public static Specification<Company> foundedYearLessThanOrEqual(Integer year) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.lessThanOrEqualTo(root.get("foundedYear"), year);
+    }
+
+    // Filter by employeeCount (greater than or equal)
+    public static Specification<Company> employeeCountGreaterThanOrEqual(Integer count) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(root.get("employeeCount"), count);
+    }
+
+    // Filter by employeeCount (less than or equal)
+    public static Specification<Company> employeeCountLessThanOrEqual(Integer count) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.lessThanOrEqualTo(root.get("employeeCount"), count);
+    }
+
+    // Filter by isActive
+    public static Specification<Company> isActive(boolean active) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("isActive"), active);
+    }
+
+    // Keyset pagination: companies after the last id seen
+    public static Specification<Company> idGreaterThan(Long id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(root.get("id"), id);
+    }
+
+    // User input is matched literally, so LIKE wildcards in it are escaped
+    private static String prefixPattern(String value) {
+        String escaped = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return escaped + "%";
+    }
+}
@@ -0,0 +1,22 @@
+package com.MicroServices.JobApp.Utils;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link EmploymentType} as its smallint code rather than its name.
+ */
+@Converter
+public class EmploymentTypeConverter implements AttributeConverter<EmploymentType, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(EmploymentType employmentType) {
+        return employmentType == null ? null : employmentType.getCode();
+    }
+
+    @Override
+    public EmploymentType convertToEntityAttribute(Short code) {
+        return code == null ? null : EmploymentType.fromCode(code);
+    }
+}
@@ -0,0 +1,100 @@
+package com.MicroServices.JobApp.Utils;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Entity.Job;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * In-memory counterpart of {@link JobSpecification#fromFilter(JobFilter)}: evaluates the criteria of a
+ * {@link JobFilter} against a single {@link Job}, for consumers that see jobs one at a time (live feed, alerts).
+ * <p>
+ * The filter is parsed once (employment type selection, lower-cased substrings), so matching is cheap enough
+ * to run for every subscriber on every job write. Paging and sort fields are ignored.
+ */
+public final class JobFilterMatcher implements Predicate<Job> {
+
+    private final String title;
+    private final String titleContains;
+    private final int employmentTypeMask;
+    private final String location;
+    private final Integer experienceRequiredGte;
+    private final Integer experienceRequiredLte;
+    private final LocalDate postedDateAfter;
+    private final LocalDate deadlineBefore;
+    private final Boolean active;
+
+    private JobFilterMatcher(JobFilter filter) {
+        this.title = filter.getTitle();
+        this.titleContains = lowerCase(filter.getTitleContains());
+        this.employmentTypeMask = filter.getEmploymentType() == null ? 0
+                : EmploymentType.toMask(EmploymentType.parseSelection(filter.getEmploymentType()));
+        this.location = lowerCase(filter.getLocation());
+        this.experienceRequiredGte = filter.getExperienceRequiredGte();
+        this.experienceRequiredLte = filter.getExperienceRequiredLte();
+        this.postedDateAfter = filter.getPostedDateAfter();
+        this.deadlineBefore = filter.getDeadlineBefore();
+        this.active = filter.getActive();
+    }
+
+    /**
+     * Parses the filter; invalid criteria (e.g. an unknown employment type) fail here with IllegalArgumentException.
+     */
+    public static JobFilterMatcher of(JobFilter filter) {
+        return new JobFilterMatcher(filter == null ? new JobFilter() : filter);
+    }
+
+    @Override
+    public boolean test(Job job) {
+        return matches(job, true);
+    }
+
+    /**
+     * Matches every criterion except {@code active}, e.g. to tell a subscriber that a job it follows has expired.
+     */
+    public boolean testIgnoringActive(Job job) {
+        return matches(job, false);
+    }
+
+    private boolean matches(Job job, boolean checkActive) {
+        if (title != null && !title.equals(job.getTitle())) {
+            return false;
+        }
+        if (titleContains != null && !containsIgnoreCase(job.getTitle(), titleContains)) {
+            return false;
+        }
+        if (employmentTypeMask != 0
+                && (job.getEmploymentType() == null || (employmentTypeMask & job.getEmploymentType().getMask()) == 0)) {
+            return false;
+        }
+        if (location != null && !containsIgnoreCase(job.getLocation(), location)) {
+            return false;
+        }
+        Integer experience = job.getExperienceRequired();
+        if (experienceRequiredGte != null && (experience == null || experience < experienceRequiredGte)) {
+            return false;
+        }
+        if (experienceRequiredLte != null && (experience == null || experience > experienceRequiredLte)) {
+            return false;
+        }
+        if (postedDateAfter != null && (job.getPostedDate() == null || job.getPostedDate().isBefore(postedDateAfter))) {
+            return false;
+        }
+        // SQL "deadline < x" is never true for a NULL deadline
+        if (deadlineBefore != null && (job.getDeadline() == null || !job.getDeadline().isBefore(deadlineBefore))) {
+            return false;
+        }
+        return !checkActive || active == null || active == job.isActive();
+    }
+
+    private static boolean containsIgnoreCase(String value, String lowerCaseNeedle) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(lowerCaseNeedle);
+    }
+
+    private static String lowerCase(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+}
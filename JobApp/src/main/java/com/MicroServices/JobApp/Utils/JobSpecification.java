@@ -1,26 +1,86 @@
 package com.MicroServices.JobApp.Utils;
 
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
 import com.MicroServices.JobApp.Entity.Job;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.util.Set;
 
 public class JobSpecification {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    // Combines every criterion set on the filter (AND); an empty filter matches all jobs
+    public static Specification<Job> fromFilter(JobFilter filter) {
+        Specification<Job> spec = Specification.where(null);
+        if (filter.getTitle() != null) {
+            spec = spec.and(hasTitle(filter.getTitle()));
+        }
+        if (filter.getTitleContains() != null) {
+            spec = spec.and(titleContainsIgnoreCase(filter.getTitleContains()));
+        }
+        if (filter.getEmploymentType() != null) {
+            spec = spec.and(hasEmploymentTypeIn(EmploymentType.parseSelection(filter.getEmploymentType())));
+        }
+        if (filter.getLocation() != null) {
+            spec = spec.and(locationContainsIgnoreCase(filter.getLocation()));
+        }
+        if (filter.getExperienceRequiredGte() != null) {
+            spec = spec.and(experienceGreaterThanOrEqual(filter.getExperienceRequiredGte()));
+        }
+        if (filter.getExperienceRequiredLte() != null) {
+            spec = spec.and(experienceLessThanOrEqual(filter.getExperienceRequiredLte()));
+        }
+        if (filter.getPostedDateAfter() != null) {
+            spec = spec.and(postedDateAfter(filter.getPostedDateAfter()));
+        }
+        if (filter.getDeadlineBefore() != null) {
+            spec = spec.and(deadlineBefore(filter.getDeadlineBefore()));
+        }
+        if (filter.getActive() != null) {
+            spec = spec.and(isActive(filter.getActive()));
+        }
+        return spec;
+    }
+
     //Filter By title
     public static Specification<Job> hasTitle(String title) {
         return ((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("title"), title));
     }
 
     //Filter by employmentType
-    public static Specification<Job> hasEmploymentType(String employmentType) {
+    public static Specification<Job> hasEmploymentType(EmploymentType employmentType) {
         return ((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("employmentType"), employmentType));
     }
 
+    //Filter by any of the employment types (multi-select); a smallint IN list, served by idx_jobs_employment_type
+    public static Specification<Job> hasEmploymentTypeIn(Set<EmploymentType> employmentTypes) {
+        if (employmentTypes.size() == 1) {
+            return hasEmploymentType(employmentTypes.iterator().next());
+        }
+        return (root, query, criteriaBuilder) -> root.get("employmentType").in(employmentTypes);
+    }
+
     //Filter by location
     public static Specification<Job> hasLocationLike(String location) {
         return ((root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("location"), "%" + location + "%"));
     }
 
+    //Filter by location substring, case-insensitive (ILIKE); served by the pg_trgm GIN index on jobs.location
+    public static Specification<Job> locationContainsIgnoreCase(String location) {
+        return (root, query, criteriaBuilder) -> ((HibernateCriteriaBuilder) criteriaBuilder)
+                .ilike(root.<String>get("location"), containsPattern(location), LIKE_ESCAPE);
+    }
+
+    //Filter by title substring, case-insensitive (ILIKE); served by the pg_trgm GIN index on jobs.description
+    public static Specification<Job> titleContainsIgnoreCase(String title) {
+        return (root, query, criteriaBuilder) -> ((HibernateCriteriaBuilder) criteriaBuilder)
+                .ilike(root.<String>get("title"), containsPattern(title), LIKE_ESCAPE);
+    }
+
     // Filter by experienceRequired (greater than or equal)
     public static Specification<Job> experienceGreaterThanOrEqual(Integer experience) {
         return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(root.get("experienceRequired"), experience);
@@ -40,4 +100,15 @@ public class JobSpecification {
     public static Specification<Job> deadlineBefore(LocalDate date) {
         return (root, query, criteriaBuilder) -> criteriaBuilder.lessThan(root.get("deadline"), date);
     }
+
+    // Filter by isActive
+    public static Specification<Job> isActive(boolean active) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("isActive"), active);
+    }
+
+    // User input is matched literally, so LIKE wildcards in it are escaped
+    private static String containsPattern(String value) {
+        String escaped = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
 }
@@ -0,0 +1,164 @@
+package com.MicroServices.JobApp.Utils.Patch;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Field-level patcher for one entity type, built once from a whitelist of mutable fields.
+ * <p>
+ * {@link #apply} follows JSON Merge Patch (RFC 7396) for flat documents: a member sets the field, a {@code null}
+ * member clears it, and absent members are left untouched. Fields outside the whitelist (ids, relations, ...) and
+ * {@code null} for a required field are rejected with {@link IllegalArgumentException} before anything is written,
+ * so a rejected patch never leaves the entity half updated.
+ * <p>
+ * Values are converted and compared field by field and only setters of changed fields are called; combined with
+ * {@code @DynamicUpdate} on the entity, the UPDATE statement touches only those columns.
+ *
+ * @param <T> the entity type
+ */
+public final class EntityPatcher<T> {
+
+    private final String entityName;
+    private final Map<String, PatchField<T, ?>> fields;
+
+    private EntityPatcher(String entityName, Map<String, PatchField<T, ?>> fields) {
+        this.entityName = entityName;
+        this.fields = fields;
+    }
+
+    public static <T> Builder<T> builder(String entityName) {
+        return new Builder<>(entityName);
+    }
+
+    /**
+     * Applies the patch to the target.
+     *
+     * @param target The entity to patch.
+     * @param patch  The merge patch document.
+     * @return The names of the fields whose value actually changed; empty when the patch was a no-op.
+     */
+    public List<String> apply(T target, Map<String, Object> patch) {
+        if (patch == null || patch.isEmpty()) {
+            throw new IllegalArgumentException("Patch for " + entityName + " must contain at least one field");
+        }
+        // Validate and convert everything first, then write
+        List<PatchField<T, ?>> patchFields = new ArrayList<>(patch.size());
+        List<Object> values = new ArrayList<>(patch.size());
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            PatchField<T, ?> field = fields.get(entry.getKey());
+            if (field == null) {
+                throw new IllegalArgumentException("Field '" + entry.getKey() + "' of " + entityName + " cannot be updated");
+            }
+            patchFields.add(field);
+            values.add(field.convert(entry.getValue()));
+        }
+
+        List<String> changedFields = new ArrayList<>(patchFields.size());
+        for (int i = 0; i < patchFields.size(); i++) {
+            PatchField<T, ?> field = patchFields.get(i);
+            if (field.applyIfChanged(target, values.get(i)) && !changedFields.contains(field.name)) {
+                changedFields.add(field.name);
+            }
+        }
+        return changedFields;
+    }
+
+    private static final class PatchField<T, V> {
+
+        private final String name;
+        private final Function<T, V> getter;
+        private final BiConsumer<T, V> setter;
+        private final BiFunction<String, Object, V> converter;
+        private final boolean required;
+
+        private PatchField(String name, Function<T, V> getter, BiConsumer<T, V> setter,
+                           BiFunction<String, Object, V> converter, boolean required) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+            this.converter = converter;
+            this.required = required;
+        }
+
+        private V convert(Object value) {
+            if (value == null) {
+                if (required) {
+                    throw new IllegalArgumentException("Field '" + name + "' is required and cannot be removed");
+                }
+                return null;
+            }
+            return converter.apply(name, value);
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean applyIfChanged(T target, Object value) {
+            V newValue = (V) value;
+            if (Objects.equals(getter.apply(target), newValue)) {
+                return false;
+            }
+            setter.accept(target, newValue);
+            return true;
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final String entityName;
+        private final Map<String, PatchField<T, ?>> fields = new HashMap<>();
+
+        private Builder(String entityName) {
+            this.entityName = entityName;
+        }
+
+        public <V> Builder<T> field(String name, Function<T, V> getter, BiConsumer<T, V> setter,
+                                    BiFunction<String, Object, V> converter, boolean required) {
+            PatchField<T, V> field = new PatchField<>(name, getter, setter, converter, required);
+            if (fields.putIfAbsent(name, field) != null) {
+                throw new IllegalStateException("Duplicate patch field '" + name + "' for " + entityName);
+            }
+            return this;
+        }
+
+        public Builder<T> stringField(String name, Function<T, String> getter, BiConsumer<T, String> setter, boolean required) {
+            return field(name, getter, setter, PatchConverters::toStringValue, required);
+        }
+
+        public Builder<T> integerField(String name, Function<T, Integer> getter, BiConsumer<T, Integer> setter, boolean required) {
+            return field(name, getter, setter, PatchConverters::toInteger, required);
+        }
+
+        public Builder<T> dateField(String name, Function<T, LocalDate> getter,
+                                    BiConsumer<T, LocalDate> setter, boolean required) {
+            return field(name, getter, setter, PatchConverters::toLocalDate, required);
+        }
+
+        public Builder<T> booleanField(String name, Function<T, Boolean> getter, BiConsumer<T, Boolean> setter) {
+            return field(name, getter, setter, PatchConverters::toBoolean, true);
+        }
+
+        /**
+         * Registers another member name for an existing field, e.g. {@code active} for {@code isActive}.
+         */
+        public Builder<T> alias(String alias, String name) {
+            PatchField<T, ?> field = fields.get(name);
+            if (field == null) {
+                throw new IllegalStateException("Unknown patch field '" + name + "' for " + entityName);
+            }
+            if (fields.putIfAbsent(alias, field) != null) {
+                throw new IllegalStateException("Duplicate patch field '" + alias + "' for " + entityName);
+            }
+            return this;
+        }
+
+        public EntityPatcher<T> build() {
+            return new EntityPatcher<>(entityName, Map.copyOf(fields));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.MicroServices.JobApp.Utils.Patch;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Converters from the loosely typed values Jackson produces for a {@code Map<String, Object>} body
+ * (String, Integer, Long, Double, Boolean, ...) to entity field types.
+ * <p>
+ * Each converter receives a non-null value and throws {@link IllegalArgumentException} for values of the wrong shape.
+ */
+public final class PatchConverters {
+
+    private PatchConverters() {
+    }
+
+    public static String toStringValue(String field, Object value) {
+        if (value instanceof String string) {
+            return string;
+        }
+        throw invalid(field, value, "a string");
+    }
+
+    public static Integer toInteger(String field, Object value) {
+        if (value instanceof Integer integer) {
+            return integer;
+        }
+        if (value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger) {
+            long longValue = ((Number) value).longValue();
+            if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE
+                    && (!(value instanceof BigInteger bigInteger) || bigInteger.bitLength() < 32)) {
+                return (int) longValue;
+            }
+        }
+        if (value instanceof Double || value instanceof Float || value instanceof BigDecimal) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (doubleValue == Math.rint(doubleValue) && doubleValue >= Integer.MIN_VALUE && doubleValue <= Integer.MAX_VALUE) {
+                return (int) doubleValue;
+            }
+        }
+        throw invalid(field, value, "an integer");
+    }
+
+    public static LocalDate toLocalDate(String field, Object value) {
+        if (value instanceof String string) {
+            try {
+                return LocalDate.parse(string);
+            } catch (DateTimeParseException e) {
+                throw invalid(field, value, "a date in yyyy-MM-dd format");
+            }
+        }
+        throw invalid(field, value, "a date in yyyy-MM-dd format");
+    }
+
+    public static Boolean toBoolean(String field, Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        throw invalid(field, value, "a boolean");
+    }
+
+    private static IllegalArgumentException invalid(String field, Object value, String expected) {
+        return new IllegalArgumentException("Field '" + field + "' must be " + expected + " but was: " + value);
+    }
+}
@@ -0,0 +1,72 @@
+package com.MicroServices.JobApp.Utils;
+
+import com.MicroServices.JobApp.Exceptions.PreconditionFailedException;
+
+/**
+ * Maps entity versions to HTTP entity tags and back.
+ * <p>
+ * The ETag of a job or company is its optimistic-locking version as a strong tag ({@code "3"}); a job also carries
+ * the version of its embedded company ({@code "3.7"}) so that a company change invalidates cached job responses.
+ * A client sends the tag back in {@code If-Match} to make a PUT/PATCH conditional on the resource's own (first)
+ * version; a stale tag ends in 412 Precondition Failed. Listings use weak tags, see {@link #weak(Object...)}.
+ */
+public final class VersionETag {
+
+    private VersionETag() {
+    }
+
+    public static String of(Long version) {
+        return of(version, null);
+    }
+
+    public static String of(Long version, Long embeddedVersion) {
+        if (version == null) {
+            return null;
+        }
+        return embeddedVersion == null ? "\"" + version + "\"" : "\"" + version + "." + embeddedVersion + "\"";
+    }
+
+    // Weak tag: the representation is equivalent, not byte-identical, for the same parts
+    public static String weak(Object... parts) {
+        StringBuilder tag = new StringBuilder("W/\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                tag.append('-');
+            }
+            tag.append(parts[i]);
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * Expected version from an If-Match header, or null when the write is unconditional (no header, or "*").
+     * Only a single strong tag is supported; an embedded version suffix ("3.7") is ignored.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a single strong ETag such as \"3\": " + ifMatch);
+        }
+        String versions = tag.substring(1, tag.length() - 1);
+        int embedded = versions.indexOf('.');
+        try {
+            return Long.valueOf(embedded < 0 ? versions : versions.substring(0, embedded));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be a single strong ETag such as \"3\": " + ifMatch, e);
+        }
+    }
+
+    /**
+     * Fails with {@link PreconditionFailedException} unless the current version is the expected one. A null
+     * expectation always passes.
+     */
+    public static void requireMatch(String resource, Object id, Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(resource + " " + id + " has been modified: current version is "
+                    + currentVersion + ", If-Match expected " + expectedVersion);
+        }
+    }
+}
@@ -6,9 +6,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -19,6 +22,10 @@ import java.io.IOException;
  * <p>
  * It checks for the presence of a valid JWT in the Authorization header,
  * validates it, and sets the authentication in the security context.
+ * <p>
+ * The context is also stored as a request attribute. Being once per request, this filter is skipped on the async
+ * dispatch that completes a streaming response (e.g. the NDJSON export), which then loads the same context from
+ * the request instead of running unauthenticated.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -29,6 +36,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
     /**
      * This method intercepts each HTTP request to perform JWT validation and authentication setup.
      *
@@ -74,8 +83,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     // Attach request-specific details (IP, session ID, etc.)
                     authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    // Set the authentication object into the security context
-                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                    // Set the authentication object into the security context, and keep it for the async dispatch
+                    SecurityContext context = SecurityContextHolder.createEmptyContext();
+                    context.setAuthentication(authenticationToken);
+                    SecurityContextHolder.setContext(context);
+                    securityContextRepository.saveContext(context, request, response);
                 }
             }
         }
@@ -0,0 +1,6 @@
+-- Keyset pagination of a company's reviews (ReviewRepository slices): newest first seeks on (company_id, id),
+-- by rating on (company_id, rating, id) read in either direction. The latter also covers the company stats
+-- reconcile, so it replaces the V8 (company_id, rating) index.
+CREATE INDEX IF NOT EXISTS idx_review_company_id_id ON review (company_id, id);
+CREATE INDEX IF NOT EXISTS idx_review_company_id_rating_id ON review (company_id, rating, id);
+DROP INDEX IF EXISTS idx_review_company_id_rating;
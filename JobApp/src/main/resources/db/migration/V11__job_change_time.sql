@@ -0,0 +1,12 @@
+-- Delta sync settle window (JobChangeServicesImpl): the time of a job change is taken from the database clock,
+-- like job_tombstones.deleted_at, at the moment its change_seq is drawn, so both sides of the feed are compared
+-- against the same clock. Rows written before this migration keep a NULL changed_at and count as settled.
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS changed_at timestamp(6) with time zone;
+
+CREATE OR REPLACE FUNCTION jobs_assign_change_seq() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := nextval('job_change_seq');
+    NEW.changed_at := clock_timestamp();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
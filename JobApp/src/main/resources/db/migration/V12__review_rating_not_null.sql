@@ -0,0 +1,6 @@
+-- Rating keyset pagination (ReviewRepository) compares (rating, id) tuples and puts the rating into the cursor,
+-- which only covers every review if rating is never NULL. The entity has always declared the column NOT NULL, so
+-- a table created by Hibernate already has it; this enforces it on tables that were created otherwise.
+-- The range check applies to new and updated rows (NOT VALID), ratings written before validation are kept.
+ALTER TABLE review ALTER COLUMN rating SET NOT NULL;
+ALTER TABLE review ADD CONSTRAINT review_rating_range CHECK (rating BETWEEN 1 AND 5) NOT VALID;
@@ -0,0 +1,41 @@
+-- Collection ETag of GET /api/jobs (CollectionVersion): one row whose version is bumped by every statement that
+-- changes jobs, or the companies embedded in the job responses. Reading it is a primary key lookup, and as the bump
+-- is part of the writing transaction the committed value changes with every commit, whatever the commit order.
+-- Statement-level triggers bump once per statement, and only when the transition table shows a changed row.
+CREATE TABLE IF NOT EXISTS job_collection_version (
+    id          smallint PRIMARY KEY CHECK (id = 1),
+    version     bigint NOT NULL,
+    modified_at timestamp(6) with time zone NOT NULL
+);
+INSERT INTO job_collection_version (id, version, modified_at) VALUES (1, 0, clock_timestamp())
+ON CONFLICT (id) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION job_collection_version_bump() RETURNS trigger AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM changed_rows) THEN
+        UPDATE job_collection_version SET version = version + 1, modified_at = clock_timestamp() WHERE id = 1;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_jobs_collection_version_insert ON jobs;
+CREATE TRIGGER trg_jobs_collection_version_insert
+    AFTER INSERT ON jobs REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION job_collection_version_bump();
+
+DROP TRIGGER IF EXISTS trg_jobs_collection_version_update ON jobs;
+CREATE TRIGGER trg_jobs_collection_version_update
+    AFTER UPDATE ON jobs REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION job_collection_version_bump();
+
+DROP TRIGGER IF EXISTS trg_jobs_collection_version_delete ON jobs;
+CREATE TRIGGER trg_jobs_collection_version_delete
+    AFTER DELETE ON jobs REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION job_collection_version_bump();
+
+-- New companies have no jobs yet; deleted ones take their jobs along, which the jobs triggers already count
+DROP TRIGGER IF EXISTS trg_company_collection_version_update ON company;
+CREATE TRIGGER trg_company_collection_version_update
+    AFTER UPDATE ON company REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION job_collection_version_bump();
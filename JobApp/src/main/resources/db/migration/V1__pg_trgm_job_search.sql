@@ -0,0 +1,8 @@
+-- Trigram indexes so substring (ILIKE '%x%') and similarity (%) searches on jobs
+-- are served from an index instead of a sequential scan.
+-- Job.title is mapped to the "description" column.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_location_trgm ON jobs USING gin (location gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_jobs_description_trgm ON jobs USING gin (description gin_trgm_ops);
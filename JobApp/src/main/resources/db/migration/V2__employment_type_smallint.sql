@@ -0,0 +1,47 @@
+-- Job.employmentType becomes an enum stored as a smallint code (EmploymentType.getCode()).
+-- Existing free-form labels are normalised ("Full-Time", "full time" -> FULL_TIME); a missing label becomes OTHER (0).
+-- A label that maps to no type fails the migration, listing the labels, instead of being rewritten: fix or map those
+-- rows (e.g. set them to 'OTHER') and restart. The original text is kept in employment_type_label until the
+-- conversion has been verified; drop that column by hand afterwards.
+-- Skipped when the column is already smallint (fresh schemas created by Hibernate).
+DO $$
+DECLARE
+    unmapped_count bigint;
+    unmapped_labels text;
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'jobs' AND column_name = 'employment_type' AND data_type <> 'smallint') THEN
+        SELECT count(*), string_agg(DISTINCT quote_literal(employment_type), ', ')
+        INTO unmapped_count, unmapped_labels
+        FROM jobs
+        WHERE employment_type IS NOT NULL
+          AND upper(regexp_replace(trim(employment_type), '[-\s]+', '_', 'g')) NOT IN
+              ('FULL_TIME', 'FULLTIME', 'PART_TIME', 'PARTTIME', 'CONTRACT', 'INTERNSHIP', 'TEMPORARY', 'OTHER');
+        IF unmapped_count > 0 THEN
+            RAISE EXCEPTION 'V2 employment type migration: % job(s) have an unknown employment_type label: %',
+                unmapped_count, unmapped_labels
+                USING HINT = 'Update those rows to one of FULL_TIME, PART_TIME, CONTRACT, INTERNSHIP, TEMPORARY, OTHER and restart';
+        END IF;
+
+        ALTER TABLE jobs ADD COLUMN IF NOT EXISTS employment_type_label text;
+        UPDATE jobs SET employment_type_label = employment_type;
+        COMMENT ON COLUMN jobs.employment_type_label IS
+            'Pre-V2 employment_type text, kept to verify the smallint conversion; drop once verified';
+
+        ALTER TABLE jobs ALTER COLUMN employment_type TYPE smallint USING (
+            CASE upper(regexp_replace(trim(employment_type), '[-\s]+', '_', 'g'))
+                WHEN 'FULL_TIME' THEN 1
+                WHEN 'FULLTIME' THEN 1
+                WHEN 'PART_TIME' THEN 2
+                WHEN 'PARTTIME' THEN 2
+                WHEN 'CONTRACT' THEN 3
+                WHEN 'INTERNSHIP' THEN 4
+                WHEN 'TEMPORARY' THEN 5
+                WHEN 'OTHER' THEN 0
+                -- Only NULL is left here, the check above rejected every other label
+                ELSE 0
+            END);
+    END IF;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_employment_type ON jobs (employment_type);
@@ -0,0 +1,16 @@
+-- Optimistic-locking version column (BaseEntity.version) for every entity table.
+-- Hibernate's schema update adds the column as nullable; rows that existed before get version 0,
+-- and new rows default to 0 even when inserted outside JPA.
+DO $$
+DECLARE
+    entity_table text;
+BEGIN
+    FOREACH entity_table IN ARRAY ARRAY['jobs', 'company', 'review', 'roles', 'user_table'] LOOP
+        IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = entity_table) THEN
+            EXECUTE format('ALTER TABLE %I ADD COLUMN IF NOT EXISTS version bigint', entity_table);
+            EXECUTE format('UPDATE %I SET version = 0 WHERE version IS NULL', entity_table);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN version SET DEFAULT 0', entity_table);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN version SET NOT NULL', entity_table);
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,17 @@
+-- Last update time (BaseEntity.updatedAt) for every entity table, the Last-Modified of conditional GETs.
+-- Rows that existed before get the migration time. The index serves max(updated_at) for the job listing ETag.
+DO $$
+DECLARE
+    entity_table text;
+BEGIN
+    FOREACH entity_table IN ARRAY ARRAY['jobs', 'company', 'review', 'roles', 'user_table'] LOOP
+        IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = entity_table) THEN
+            EXECUTE format('ALTER TABLE %I ADD COLUMN IF NOT EXISTS updated_at timestamp(6) with time zone', entity_table);
+            EXECUTE format('UPDATE %I SET updated_at = now() WHERE updated_at IS NULL', entity_table);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN updated_at SET DEFAULT now()', entity_table);
+        END IF;
+    END LOOP;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_updated_at ON jobs (updated_at);
+CREATE INDEX IF NOT EXISTS idx_company_updated_at ON company (updated_at);
@@ -0,0 +1,42 @@
+-- Change tracking for delta sync (GET /api/jobs/changes).
+-- Every insert and update of a job takes the next value of job_change_seq into jobs.change_seq,
+-- and every delete (including jobs removed with their company) leaves a tombstone with its own value,
+-- so one watermark orders all three kinds of change.
+CREATE SEQUENCE IF NOT EXISTS job_change_seq;
+
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS change_seq bigint;
+UPDATE jobs SET change_seq = nextval('job_change_seq') WHERE change_seq IS NULL;
+CREATE INDEX IF NOT EXISTS idx_jobs_change_seq ON jobs (change_seq);
+
+CREATE TABLE IF NOT EXISTS job_tombstones (
+    job_id     bigint PRIMARY KEY,
+    change_seq bigint NOT NULL,
+    deleted_at timestamp(6) with time zone NOT NULL DEFAULT clock_timestamp()
+);
+CREATE INDEX IF NOT EXISTS idx_job_tombstones_change_seq ON job_tombstones (change_seq);
+
+CREATE OR REPLACE FUNCTION jobs_assign_change_seq() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := nextval('job_change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_jobs_change_seq ON jobs;
+CREATE TRIGGER trg_jobs_change_seq
+    BEFORE INSERT OR UPDATE ON jobs
+    FOR EACH ROW EXECUTE FUNCTION jobs_assign_change_seq();
+
+CREATE OR REPLACE FUNCTION jobs_record_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO job_tombstones (job_id, change_seq, deleted_at)
+    VALUES (OLD.id, nextval('job_change_seq'), clock_timestamp())
+    ON CONFLICT (job_id) DO UPDATE SET change_seq = EXCLUDED.change_seq, deleted_at = EXCLUDED.deleted_at;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_jobs_tombstone ON jobs;
+CREATE TRIGGER trg_jobs_tombstone
+    AFTER DELETE ON jobs
+    FOR EACH ROW EXECUTE FUNCTION jobs_record_tombstone();
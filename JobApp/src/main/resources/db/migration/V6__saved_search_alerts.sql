@@ -0,0 +1,5 @@
+-- Saved searches are looked up per owner; the alert queue is read and acknowledged per user in id order, and
+-- cleared per saved search when one is deleted.
+CREATE INDEX IF NOT EXISTS idx_saved_searches_user_id ON saved_searches (user_id);
+CREATE INDEX IF NOT EXISTS idx_job_alerts_user_id_id ON job_alerts (user_id, id);
+CREATE INDEX IF NOT EXISTS idx_job_alerts_saved_search_id ON job_alerts (saved_search_id);
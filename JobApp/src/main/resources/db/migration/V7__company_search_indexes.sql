@@ -0,0 +1,8 @@
+-- Company directory search (CompanySpecification), keyset paged in id order.
+-- Name prefix: lower(name) LIKE 'x%' can only use a btree with text_pattern_ops under a non-C collation.
+-- Industry and active lead composite indexes ending in id, so a filtered page is one index range scan in page order.
+CREATE INDEX IF NOT EXISTS idx_company_lower_name_pattern ON company (lower(name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_company_lower_industry_id ON company (lower(industry), id);
+CREATE INDEX IF NOT EXISTS idx_company_active_id ON company (is_active, id);
+CREATE INDEX IF NOT EXISTS idx_company_founded_year ON company (founded_year);
+CREATE INDEX IF NOT EXISTS idx_company_employee_count ON company (employee_count);
@@ -0,0 +1,4 @@
+-- Company stats reconcile (CompanyStatsRepository.reconcileRange) counts per company: open jobs and review
+-- count / rating sum, both answered from these indexes alone.
+CREATE INDEX IF NOT EXISTS idx_jobs_company_id_active ON jobs (company_id, is_active);
+CREATE INDEX IF NOT EXISTS idx_review_company_id_rating ON review (company_id, rating);
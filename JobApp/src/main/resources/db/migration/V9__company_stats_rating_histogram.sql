@@ -0,0 +1,23 @@
+-- Rating histogram (reviews per star) in company_stats, kept by CompanyStatsRepository.applyReviewDelta.
+-- Existing rows are backfilled from the review table; the V8 index (company_id, rating) serves the counts.
+ALTER TABLE company_stats ADD COLUMN IF NOT EXISTS rating_1_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE company_stats ADD COLUMN IF NOT EXISTS rating_2_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE company_stats ADD COLUMN IF NOT EXISTS rating_3_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE company_stats ADD COLUMN IF NOT EXISTS rating_4_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE company_stats ADD COLUMN IF NOT EXISTS rating_5_count bigint NOT NULL DEFAULT 0;
+
+UPDATE company_stats s
+SET rating_1_count = h.rating_1_count,
+    rating_2_count = h.rating_2_count,
+    rating_3_count = h.rating_3_count,
+    rating_4_count = h.rating_4_count,
+    rating_5_count = h.rating_5_count
+FROM (SELECT company_id,
+             count(*) FILTER (WHERE rating = 1) AS rating_1_count,
+             count(*) FILTER (WHERE rating = 2) AS rating_2_count,
+             count(*) FILTER (WHERE rating = 3) AS rating_3_count,
+             count(*) FILTER (WHERE rating = 4) AS rating_4_count,
+             count(*) FILTER (WHERE rating = 5) AS rating_5_count
+      FROM review
+      GROUP BY company_id) h
+WHERE s.company_id = h.company_id;
@@ -0,0 +1,120 @@
+package com.MicroServices.JobApp.Benchmark;
+
+import com.MicroServices.JobApp.Configrations.AppConfig;
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Company.CompanyDTO;
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import com.MicroServices.JobApp.Entity.Company;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Mapper.EntityDtoMapper;
+import com.MicroServices.JobApp.Mapper.EntityDtoMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the generated {@link EntityDtoMapper} against {@link ModelMapper} for the hot mappings.
+ * <p>
+ * The company fixture has {@code jobsPerCompany} jobs pointing back to it, the same shape Hibernate loads.
+ * Run after {@code mvn test-compile} with the test classpath, e.g.
+ * {@code java -cp target/test-classes:target/classes:<test classpath> com.MicroServices.JobApp.Benchmark.MapperBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"1", "20"})
+    private int jobsPerCompany;
+
+    private ModelMapper modelMapper;
+    private EntityDtoMapper generatedMapper;
+    private Job job;
+    private Company company;
+    private JobDTO jobDTO;
+
+    @Setup
+    public void setUp() {
+        // The application's ModelMapper, with its EmploymentType converters, not a bare instance
+        modelMapper = new AppConfig().modelMapper();
+        generatedMapper = new EntityDtoMapperImpl();
+
+        company = new Company("Acme", "Tooling", "https://acme.example", "jobs@acme.example", "+10000000000",
+                "1 Main Street", "Software", 1999, 250, true, null);
+        company.setId(1L);
+        List<Job> jobs = new ArrayList<>(jobsPerCompany);
+        for (int i = 0; i < jobsPerCompany; i++) {
+            Job companyJob = new Job("Backend Engineer " + i, EmploymentType.FULL_TIME, 3, "Berlin", LocalDate.of(2025, 1, 1),
+                    LocalDate.of(2025, 3, 1), "Jane Doe", "jane@acme.example", true, company);
+            companyJob.setId((long) i + 1);
+            jobs.add(companyJob);
+        }
+        company.setJobList(jobs);
+        job = jobs.get(0);
+        jobDTO = generatedMapper.toJobDto(job);
+
+        // Both engines must produce the same result, or the comparison measures different work
+        if (!modelMapper.map(job, JobDTO.class).getEmploymentType().equals(jobDTO.getEmploymentType())
+                || modelMapper.map(jobDTO, Job.class).getEmploymentType() != job.getEmploymentType()) {
+            throw new IllegalStateException("ModelMapper baseline does not map the employment type like the generated mapper");
+        }
+    }
+
+    @Benchmark
+    public JobDTO jobToDtoModelMapper() {
+        return modelMapper.map(job, JobDTO.class);
+    }
+
+    @Benchmark
+    public JobDTO jobToDtoGenerated() {
+        return generatedMapper.toJobDto(job);
+    }
+
+    @Benchmark
+    public Job dtoToJobModelMapper() {
+        return modelMapper.map(jobDTO, Job.class);
+    }
+
+    @Benchmark
+    public Job dtoToJobGenerated() {
+        return generatedMapper.toJob(jobDTO);
+    }
+
+    @Benchmark
+    public CompanyDTO companyToDtoModelMapper() {
+        return modelMapper.map(company, CompanyDTO.class);
+    }
+
+    @Benchmark
+    public CompanyDTO companyToDtoGenerated() {
+        return generatedMapper.toCompanyDto(company);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
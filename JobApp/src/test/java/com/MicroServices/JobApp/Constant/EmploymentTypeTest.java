@@ -0,0 +1,88 @@
+package com.MicroServices.JobApp.Constant;
+
+import com.MicroServices.JobApp.Utils.EmploymentTypeConverter;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmploymentTypeTest {
+
+    @Test
+    void labelsAreNormalised() {
+        for (String label : new String[]{"FULL_TIME", "full_time", "Full-Time", "full time", "  FULL - TIME ", "fulltime"}) {
+            assertEquals(EmploymentType.FULL_TIME, EmploymentType.fromLabel(label), label);
+        }
+        assertEquals(EmploymentType.PART_TIME, EmploymentType.fromLabel("Part time"));
+        assertEquals(EmploymentType.INTERNSHIP, EmploymentType.fromLabel("internship"));
+        assertEquals(EmploymentType.OTHER, EmploymentType.fromLabel("Other"));
+        for (EmploymentType type : EmploymentType.values()) {
+            assertEquals(type, EmploymentType.fromLabel(type.name()));
+        }
+    }
+
+    @Test
+    void unknownOrMissingLabelsAreRejected() {
+        for (String label : new String[]{null, "", "   ", "freelance", "full", "FULL_TIME|CONTRACT"}) {
+            assertThrows(IllegalArgumentException.class, () -> EmploymentType.fromLabel(label), String.valueOf(label));
+        }
+    }
+
+    @Test
+    void selectionParsesSingleAndMultipleTypes() {
+        assertEquals(EnumSet.of(EmploymentType.CONTRACT), EmploymentType.parseSelection("contract"));
+        assertEquals(EnumSet.of(EmploymentType.FULL_TIME, EmploymentType.CONTRACT),
+                EmploymentType.parseSelection("Full-Time|CONTRACT"));
+        // Duplicates and spelling variants collapse
+        assertEquals(EnumSet.of(EmploymentType.PART_TIME), EmploymentType.parseSelection("PART_TIME|part time|parttime"));
+
+        assertThrows(IllegalArgumentException.class, () -> EmploymentType.parseSelection("FULL_TIME|"));
+        assertThrows(IllegalArgumentException.class, () -> EmploymentType.parseSelection("FULL_TIME|freelance"));
+    }
+
+    @Test
+    void masksHaveOneDistinctBitPerType() {
+        Set<Integer> masks = new HashSet<>();
+        for (EmploymentType type : EmploymentType.values()) {
+            assertEquals(1, Integer.bitCount(type.getMask()), type.name());
+            assertTrue(masks.add(type.getMask()), type.name());
+            assertEquals(type.getMask(), EmploymentType.toMask(EnumSet.of(type)));
+        }
+        assertEquals(0, EmploymentType.toMask(EnumSet.noneOf(EmploymentType.class)));
+
+        int mask = EmploymentType.toMask(EmploymentType.parseSelection("FULL_TIME|CONTRACT"));
+        for (EmploymentType type : EmploymentType.values()) {
+            boolean selected = type == EmploymentType.FULL_TIME || type == EmploymentType.CONTRACT;
+            assertEquals(selected, (mask & type.getMask()) != 0, type.name());
+        }
+    }
+
+    @Test
+    void persistedCodesNeverChange() {
+        // Stored in jobs.employment_type (see V2__employment_type_smallint.sql); changing one corrupts existing rows
+        assertEquals(0, EmploymentType.OTHER.getCode());
+        assertEquals(1, EmploymentType.FULL_TIME.getCode());
+        assertEquals(2, EmploymentType.PART_TIME.getCode());
+        assertEquals(3, EmploymentType.CONTRACT.getCode());
+        assertEquals(4, EmploymentType.INTERNSHIP.getCode());
+        assertEquals(5, EmploymentType.TEMPORARY.getCode());
+    }
+
+    @Test
+    void converterRoundTripsEveryCode() {
+        EmploymentTypeConverter converter = new EmploymentTypeConverter();
+        for (EmploymentType type : EmploymentType.values()) {
+            assertEquals(type, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(type)));
+        }
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+        assertThrows(IllegalArgumentException.class, () -> EmploymentType.fromCode((short) 6));
+        assertThrows(IllegalArgumentException.class, () -> EmploymentType.fromCode((short) -1));
+    }
+}
@@ -0,0 +1,99 @@
+package com.MicroServices.JobApp.Controller.Job;
+
+import com.MicroServices.JobApp.Configrations.SecurityConfig;
+import com.MicroServices.JobApp.Services.Impl.Job.JobBulkServices;
+import com.MicroServices.JobApp.Services.Impl.Job.JobChangeServices;
+import com.MicroServices.JobApp.Services.Impl.Job.JobExportServices;
+import com.MicroServices.JobApp.Services.Impl.Job.JobFacetServices;
+import com.MicroServices.JobApp.Services.Impl.Job.JobLiveFeedServices;
+import com.MicroServices.JobApp.Services.Impl.Job.JobSearchServices;
+import com.MicroServices.JobApp.Services.Impl.Job.JobServicesImpl;
+import com.MicroServices.JobApp.security.CustomUserDetailsService;
+import com.MicroServices.JobApp.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The NDJSON export finishes on an async dispatch, which must run with the caller's authentication rather than
+ * being let through unauthenticated.
+ */
+@WebMvcTest(JobController.class)
+@Import(SecurityConfig.class)
+class JobExportSecurityTest {
+
+    private static final String TOKEN = "user-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+    @MockitoBean
+    private CustomUserDetailsService userDetailsService;
+
+    @MockitoBean
+    private JobServicesImpl jobServices;
+    @MockitoBean
+    private JobExportServices jobExportServices;
+    @MockitoBean
+    private JobSearchServices jobSearchServices;
+    @MockitoBean
+    private JobBulkServices jobBulkServices;
+    @MockitoBean
+    private JobFacetServices jobFacetServices;
+    @MockitoBean
+    private JobChangeServices jobChangeServices;
+    @MockitoBean
+    private JobLiveFeedServices jobLiveFeedServices;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(jwtTokenProvider.getUsernameFromToken(TOKEN)).thenReturn("alice");
+        when(jwtTokenProvider.validateToken(TOKEN)).thenReturn(true);
+        when(userDetailsService.loadUserByUsername("alice"))
+                .thenReturn(new User("alice", "", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        when(jobExportServices.exportAllJobs(any())).thenAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+    }
+
+    @Test
+    void authenticatedExportCompletesOnTheAsyncDispatch() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/jobs/export").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void anonymousExportIsRejectedBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/api/jobs/export"))
+                .andExpect(status().isForbidden())
+                .andExpect(request().asyncNotStarted());
+    }
+}
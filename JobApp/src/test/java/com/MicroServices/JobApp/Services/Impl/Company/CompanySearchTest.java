@@ -0,0 +1,206 @@
+package com.MicroServices.JobApp.Services.Impl.Company;
+
+import com.MicroServices.JobApp.Dto.Company.CompanyDTO;
+import com.MicroServices.JobApp.Dto.Company.CompanyFilter;
+import com.MicroServices.JobApp.Entity.Company;
+import com.MicroServices.JobApp.Helper.CursorPage;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
+import com.MicroServices.JobApp.Mapper.EntityDtoMapperImpl;
+import com.MicroServices.JobApp.Repository.CompanyRepository;
+import com.MicroServices.JobApp.Utils.CursorCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The company directory must return exactly the companies matching every criterion, in id order, whether read
+ * through the keyset cursor or by page number.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:companies;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CompanySearchTest {
+
+    private static final String[] NAMES = {"Acme", "acme labs", "Apex", "Beta_Soft", "Beta Systems", "100% Tools", "Zeta"};
+    private static final String[] INDUSTRIES = {"Software", "software", "Finance", "Retail"};
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CompanyServicesImpl companyServices;
+    private final List<Company> companies = new ArrayList<>();
+    private final Random random = new Random(3);
+
+    @BeforeEach
+    void setUp() {
+        companyServices = new CompanyServicesImpl(companyRepository, mock(CompanyStatsServices.class));
+        ReflectionTestUtils.setField(companyServices, "dtoMapper",
+                new DtoMapper(new EntityDtoMapperImpl(), new ModelMapper(), "generated"));
+
+        for (int i = 0; i < 120; i++) {
+            Company company = new Company(NAMES[random.nextInt(NAMES.length)] + " " + i, null, null,
+                    "hr" + i + "@example.com", null, null,
+                    random.nextInt(6) == 0 ? null : INDUSTRIES[random.nextInt(INDUSTRIES.length)],
+                    random.nextInt(6) == 0 ? null : 1950 + random.nextInt(70),
+                    random.nextInt(6) == 0 ? null : 1 + random.nextInt(5000),
+                    random.nextBoolean(), null);
+            companies.add(entityManager.persist(company));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        companies.sort(Comparator.comparing(Company::getId));
+    }
+
+    @Test
+    void randomFiltersMatchEveryCriterion() {
+        for (int i = 0; i < 80; i++) {
+            CompanyFilter filter = randomFilter();
+            List<Long> expected = companies.stream().filter(matches(filter)).map(Company::getId).toList();
+
+            filter.setSize(1 + random.nextInt(15));
+            List<Long> scrolled = new ArrayList<>();
+            String cursor = null;
+            CursorPage<CompanyDTO> page;
+            do {
+                filter.setAfter(cursor);
+                page = companyServices.searchCompanies(filter);
+                page.getContent().forEach(company -> scrolled.add(company.getId()));
+                cursor = page.getNextCursor();
+                assertTrue(scrolled.size() <= expected.size(), "cursor revisits companies");
+            } while (page.isHasNext());
+            assertEquals(expected, scrolled, describe(filter));
+
+            filter.setAfter(null);
+            List<Long> paged = new ArrayList<>();
+            for (int pageNo = 0; ; pageNo++) {
+                filter.setPage(pageNo);
+                Page<CompanyDTO> result = companyServices.getCompaniesPage(filter);
+                result.getContent().forEach(company -> paged.add(company.getId()));
+                assertEquals(expected.size(), result.getTotalElements(), describe(filter));
+                if (!result.hasNext()) {
+                    break;
+                }
+            }
+            assertEquals(expected, paged, describe(filter));
+        }
+    }
+
+    @Test
+    void namePrefixMatchesWildcardsLiterally() {
+        CompanyFilter underscore = new CompanyFilter();
+        underscore.setNameStartsWith("beta_");
+        List<Long> expected = companies.stream().filter(company -> company.getName().startsWith("Beta_Soft"))
+                .map(Company::getId).toList();
+        assertEquals(expected, ids(underscore));
+
+        CompanyFilter percent = new CompanyFilter();
+        percent.setNameStartsWith("100%");
+        assertEquals(companies.stream().filter(company -> company.getName().startsWith("100%"))
+                .map(Company::getId).toList(), ids(percent));
+
+        CompanyFilter bare = new CompanyFilter();
+        bare.setNameStartsWith("%");
+        assertTrue(ids(bare).isEmpty());
+    }
+
+    @Test
+    void sizeIsCappedAndInvalidArgumentsAreRejected() {
+        CompanyFilter filter = new CompanyFilter();
+        filter.setSize(1000);
+        assertEquals(100, companyServices.searchCompanies(filter).getSize());
+
+        filter.setSize(0);
+        assertThrows(IllegalArgumentException.class, () -> companyServices.searchCompanies(filter));
+
+        CompanyFilter badCursor = new CompanyFilter();
+        badCursor.setAfter(CursorCodec.encode("abc"));
+        assertThrows(IllegalArgumentException.class, () -> companyServices.searchCompanies(badCursor));
+
+        CompanyFilter badPage = new CompanyFilter();
+        badPage.setPage(-1);
+        assertThrows(IllegalArgumentException.class, () -> companyServices.getCompaniesPage(badPage));
+    }
+
+    private List<Long> ids(CompanyFilter filter) {
+        filter.setSize(100);
+        return companyServices.searchCompanies(filter).getContent().stream().map(CompanyDTO::getId).toList();
+    }
+
+    private CompanyFilter randomFilter() {
+        CompanyFilter filter = new CompanyFilter();
+        if (random.nextInt(3) == 0) {
+            filter.setIndustry(INDUSTRIES[random.nextInt(INDUSTRIES.length)].toUpperCase(Locale.ROOT));
+        }
+        if (random.nextInt(3) == 0) {
+            String name = NAMES[random.nextInt(NAMES.length)];
+            filter.setNameStartsWith(name.substring(0, 1 + random.nextInt(name.length())));
+        }
+        if (random.nextInt(3) == 0) {
+            filter.setFoundedYearGte(1950 + random.nextInt(70));
+        }
+        if (random.nextInt(3) == 0) {
+            filter.setFoundedYearLte(1950 + random.nextInt(70));
+        }
+        if (random.nextInt(3) == 0) {
+            filter.setEmployeeCountGte(random.nextInt(5000));
+        }
+        if (random.nextInt(3) == 0) {
+            filter.setEmployeeCountLte(random.nextInt(5000));
+        }
+        if (random.nextInt(3) == 0) {
+            filter.setActive(random.nextBoolean());
+        }
+        return filter;
+    }
+
+    // Reference semantics: a criterion on a column that is null never matches
+    private static Predicate<Company> matches(CompanyFilter filter) {
+        return company -> (filter.getIndustry() == null || (company.getIndustry() != null
+                        && company.getIndustry().equalsIgnoreCase(filter.getIndustry())))
+                && (filter.getNameStartsWith() == null || company.getName().toLowerCase(Locale.ROOT)
+                        .startsWith(filter.getNameStartsWith().toLowerCase(Locale.ROOT)))
+                && (filter.getFoundedYearGte() == null || (company.getFoundedYear() != null
+                        && company.getFoundedYear() >= filter.getFoundedYearGte()))
+                && (filter.getFoundedYearLte() == null || (company.getFoundedYear() != null
+                        && company.getFoundedYear() <= filter.getFoundedYearLte()))
+                && (filter.getEmployeeCountGte() == null || (company.getEmployeeCount() != null
+                        && company.getEmployeeCount() >= filter.getEmployeeCountGte()))
+                && (filter.getEmployeeCountLte() == null || (company.getEmployeeCount() != null
+                        && company.getEmployeeCount() <= filter.getEmployeeCountLte()))
+                && (filter.getActive() == null || company.isActive() == filter.getActive());
+    }
+
+    private static String describe(CompanyFilter filter) {
+        return "industry=" + filter.getIndustry() + ", nameStartsWith=" + filter.getNameStartsWith()
+                + ", foundedYear=[" + filter.getFoundedYearGte() + ", " + filter.getFoundedYearLte() + "]"
+                + ", employeeCount=[" + filter.getEmployeeCountGte() + ", " + filter.getEmployeeCountLte() + "]"
+                + ", active=" + filter.getActive() + ", size=" + filter.getSize();
+    }
+}
@@ -0,0 +1,157 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineTimingWheelTest {
+
+    // Not aligned to a 64- or 4096-day boundary, so the cascades happen mid-run
+    private static final long START = 20_000;
+
+    @Test
+    void returnsAnIdOnItsDueDayAndNotBefore() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(START);
+        wheel.schedule(1, START + 5);
+
+        assertTrue(wheel.advanceTo(START + 4).isEmpty());
+        assertEquals(List.of(1L), wheel.advanceTo(START + 5));
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.advanceTo(START + 100).isEmpty());
+    }
+
+    @Test
+    void dayNotAfterTheCurrentOneIsDueOnTheNextAdvance() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(START);
+        wheel.schedule(1, START);
+        wheel.schedule(2, START - 30);
+
+        assertEquals(Set.of(1L, 2L), new HashSet<>(wheel.advanceTo(START)));
+    }
+
+    @Test
+    void rescheduleToALaterDayMovesTheId() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(START);
+        wheel.schedule(1, START + 3);
+        wheel.schedule(1, START + 10);
+
+        assertTrue(wheel.advanceTo(START + 9).isEmpty());
+        assertEquals(List.of(1L), wheel.advanceTo(START + 10));
+    }
+
+    @Test
+    void rescheduleToAnEarlierDayIsReturnedOnce() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(START);
+        wheel.schedule(1, START + 5_000);
+        wheel.schedule(1, START + 5);
+
+        assertEquals(List.of(1L), wheel.advanceTo(START + 5));
+        assertTrue(wheel.advanceTo(START + 10_000).isEmpty());
+    }
+
+    @Test
+    void rescheduleAfterBecomingDueButBeforeTheAdvanceWaitsForTheNewDay() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(START);
+        wheel.schedule(1, START);
+        wheel.schedule(1, START + 2);
+
+        assertTrue(wheel.advanceTo(START + 1).isEmpty());
+        assertEquals(List.of(1L), wheel.advanceTo(START + 2));
+    }
+
+    @Test
+    void cancelledIdIsNeverReturned() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(START);
+        wheel.schedule(1, START + 1);
+        wheel.schedule(2, START + 200);
+        wheel.schedule(3, START + 400_000);
+        wheel.cancel(1);
+        wheel.cancel(2);
+        wheel.cancel(3);
+
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.advanceTo(START + 500_000).isEmpty());
+    }
+
+    @Test
+    void idsOnEveryLevelAndInOverflowAreReturnedOnTheirExactDay() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(START);
+        // Level 0 (< 64 days), level 1 across the 64-day wrap, level 2 across the 4096-day wrap, overflow
+        long[] offsets = {1, 63, 64, 65, 100, 4_095, 4_096, 4_097, 5_000, 262_143, 262_144, 300_000};
+        Map<Long, Long> expectedDay = new HashMap<>();
+        for (int i = 0; i < offsets.length; i++) {
+            wheel.schedule(i, START + offsets[i]);
+            expectedDay.put((long) i, START + offsets[i]);
+        }
+
+        Map<Long, Long> returnedDay = new HashMap<>();
+        for (long day = START + 1; day <= START + 300_001; day++) {
+            for (Long id : wheel.advanceTo(day)) {
+                assertNull(returnedDay.put(id, day), "id " + id + " returned twice");
+            }
+        }
+        assertEquals(expectedDay, returnedDay);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advanceAcrossManyDaysAtOnceReturnsEverythingDueByThen() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(START);
+        wheel.schedule(1, START + 10);
+        wheel.schedule(2, START + 3_000);
+        wheel.schedule(3, START + 70_000);
+        wheel.schedule(4, START + 70_001);
+        wheel.schedule(5, START + 400_000);
+
+        assertEquals(Set.of(1L, 2L, 3L), new HashSet<>(wheel.advanceTo(START + 70_000)));
+        assertEquals(START + 70_000, wheel.getCurrentDay());
+        assertEquals(List.of(4L), wheel.advanceTo(START + 70_001));
+        assertEquals(List.of(5L), wheel.advanceTo(START + 400_000));
+    }
+
+    @Test
+    void matchesAReferenceScheduleUnderRandomOperations() {
+        Random random = new Random(42);
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(START);
+        Map<Long, Long> reference = new HashMap<>();
+        long today = START;
+
+        for (int step = 0; step < 5_000; step++) {
+            int operation = random.nextInt(10);
+            long id = random.nextInt(300);
+            if (operation < 6) {
+                // Mostly near days, sometimes far ones and past ones
+                long offset = random.nextInt(4) == 0 ? random.nextInt(400_000) : random.nextInt(200) - 20;
+                wheel.schedule(id, today + offset);
+                reference.put(id, today + offset);
+            } else if (operation < 8) {
+                wheel.cancel(id);
+                reference.remove(id);
+            } else {
+                today += random.nextInt(4) == 0 ? random.nextInt(20_000) : random.nextInt(5);
+                List<Long> expected = new ArrayList<>();
+                for (Map.Entry<Long, Long> entry : reference.entrySet()) {
+                    if (entry.getValue() <= today) {
+                        expected.add(entry.getKey());
+                    }
+                }
+                expected.forEach(reference::remove);
+
+                List<Long> actual = wheel.advanceTo(today);
+                assertEquals(new HashSet<>(expected), new HashSet<>(actual), "due ids on day " + today);
+                assertEquals(actual.size(), new HashSet<>(actual).size(), "duplicate ids on day " + today);
+                assertEquals(reference.size(), wheel.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobChange;
+import com.MicroServices.JobApp.Dto.Job.JobChangePage;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Entity.JobTombstone;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
+import com.MicroServices.JobApp.Mapper.EntityDtoMapperImpl;
+import com.MicroServices.JobApp.Repository.JobRepository;
+import com.MicroServices.JobApp.Repository.JobTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The change feed merges job rows and tombstones by their shared sequence, pages by watermark, and holds back
+ * changes younger than the settle window. The repositories are faked in memory since change_seq, changed_at and
+ * the tombstones are written by PostgreSQL triggers.
+ */
+class JobChangeServicesTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T12:00:00Z");
+    private static final Duration SETTLE = Duration.ofSeconds(5);
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobTombstoneRepository jobTombstoneRepository = mock(JobTombstoneRepository.class);
+    private final List<Job> jobs = new ArrayList<>();
+    private final List<JobTombstone> tombstones = new ArrayList<>();
+    private JobChangeServicesImpl jobChangeServices;
+
+    @BeforeEach
+    void setUp() {
+        jobChangeServices = new JobChangeServicesImpl(jobRepository, jobTombstoneRepository,
+                new DtoMapper(new EntityDtoMapperImpl(), new ModelMapper(), "generated"), 100, SETTLE);
+        when(jobRepository.currentDatabaseTimeMillis()).thenReturn(NOW.toEpochMilli());
+        when(jobRepository.findChangedAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return jobs.stream().filter(job -> job.getChangeSeq() > after)
+                    .sorted((a, b) -> Long.compare(a.getChangeSeq(), b.getChangeSeq()))
+                    .limit(pageable.getPageSize()).toList();
+        });
+        when(jobTombstoneRepository.findChangedAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return tombstones.stream().filter(tombstone -> tombstone.getChangeSeq() > after)
+                    .sorted((a, b) -> Long.compare(a.getChangeSeq(), b.getChangeSeq()))
+                    .limit(pageable.getPageSize()).toList();
+        });
+    }
+
+    @Test
+    void upsertsAndDeletesAreMergedInSequenceOrder() {
+        job(1, 2);
+        tombstone(9, 3);
+        job(2, 5);
+        tombstone(8, 6);
+        job(3, 7);
+
+        JobChangePage page = jobChangeServices.getChangesAfter(0, 10);
+
+        assertEquals(List.of(2L, 3L, 5L, 6L, 7L), page.getChanges().stream().map(JobChange::getChangeSeq).toList());
+        assertEquals(List.of(JobChange.Type.UPSERT, JobChange.Type.DELETE, JobChange.Type.UPSERT, JobChange.Type.DELETE,
+                JobChange.Type.UPSERT), page.getChanges().stream().map(JobChange::getType).toList());
+        assertEquals(List.of(1L, 9L, 2L, 8L, 3L), page.getChanges().stream().map(JobChange::getJobId).toList());
+        assertEquals("Job 2", page.getChanges().get(2).getJob().getTitle());
+        assertEquals(7, page.getWatermark());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void pollingFromTheWatermarkReplaysEveryChangeOnce() {
+        long seq = 0;
+        for (int i = 1; i <= 40; i++) {
+            if (i % 4 == 0) {
+                tombstone(1000 + i, ++seq);
+            } else {
+                job(i, ++seq);
+            }
+        }
+
+        for (int limit : new int[]{1, 3, 7, 40, 100}) {
+            Map<Long, JobChange.Type> mirror = new HashMap<>();
+            List<Long> sequence = new ArrayList<>();
+            long watermark = 0;
+            JobChangePage page;
+            do {
+                page = jobChangeServices.getChangesAfter(watermark, limit);
+                assertTrue(page.getChanges().size() <= limit);
+                page.getChanges().forEach(change -> {
+                    sequence.add(change.getChangeSeq());
+                    mirror.put(change.getJobId(), change.getType());
+                });
+                assertTrue(page.getWatermark() > watermark || !page.isHasMore(), "watermark must advance");
+                watermark = page.getWatermark();
+            } while (page.isHasMore());
+
+            assertEquals(40, sequence.size(), "limit " + limit);
+            for (int i = 0; i < sequence.size(); i++) {
+                assertEquals(i + 1, sequence.get(i), "limit " + limit);
+            }
+            assertEquals(30, mirror.values().stream().filter(JobChange.Type.UPSERT::equals).count());
+            assertEquals(40, watermark);
+        }
+    }
+
+    @Test
+    void feedStopsAtTheFirstUnsettledChange() {
+        job(1, 1);
+        tombstone(7, 2);
+        // Written within the settle window: its transaction may not be the last one below this sequence
+        ReflectionTestUtils.setField(job(2, 3), "changedAt", NOW.minusSeconds(1));
+        job(3, 4);
+
+        JobChangePage page = jobChangeServices.getChangesAfter(0, 10);
+
+        assertEquals(List.of(1L, 2L), page.getChanges().stream().map(JobChange::getChangeSeq).toList());
+        assertEquals(2, page.getWatermark());
+        assertFalse(page.isHasMore());
+
+        // Nothing settled yet: the watermark stays where the client is
+        JobChangePage next = jobChangeServices.getChangesAfter(2, 10);
+        assertTrue(next.getChanges().isEmpty());
+        assertEquals(2, next.getWatermark());
+    }
+
+    @Test
+    void invalidArgumentsAreRejectedOrClamped() {
+        assertThrows(IllegalArgumentException.class, () -> jobChangeServices.getChangesAfter(-1, 10));
+
+        for (int i = 1; i <= 150; i++) {
+            job(i, i);
+        }
+        assertEquals(1, jobChangeServices.getChangesAfter(0, 0).getChanges().size());
+        JobChangePage capped = jobChangeServices.getChangesAfter(0, 10_000);
+        assertEquals(100, capped.getChanges().size());
+        assertTrue(capped.isHasMore());
+    }
+
+    private Job job(long id, long changeSeq) {
+        Job job = JobColumnarSnapshotTest.job(id, EmploymentType.CONTRACT, 1, "Remote", LocalDate.of(2025, 2, 1), null, true);
+        ReflectionTestUtils.setField(job, "changeSeq", changeSeq);
+        ReflectionTestUtils.setField(job, "changedAt", NOW.minus(SETTLE).minusSeconds(60));
+        jobs.add(job);
+        return job;
+    }
+
+    private void tombstone(long jobId, long changeSeq) {
+        JobTombstone tombstone = new JobTombstone();
+        ReflectionTestUtils.setField(tombstone, "jobId", jobId);
+        ReflectionTestUtils.setField(tombstone, "changeSeq", changeSeq);
+        ReflectionTestUtils.setField(tombstone, "deletedAt", NOW.minus(SETTLE).minusSeconds(60));
+        tombstones.add(tombstone);
+    }
+}
@@ -0,0 +1,62 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Repository.JobRepository;
+import com.MicroServices.JobApp.Utils.JobSpecification;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Runs the same filters through the snapshot and through {@link JobSpecification} on a database, and expects the
+ * same ids in the same order. H2 runs in PostgreSQL mode with NULLs sorting high, as they do in PostgreSQL.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jobs;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobColumnarSnapshotSpecificationTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Test
+    void snapshotReturnsWhatTheSpecificationReturns() {
+        Random random = new Random(11);
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            Job job = JobColumnarSnapshotTest.randomJob(random, 0);
+            job.setId(null);
+            jobs.add(job);
+        }
+        jobRepository.saveAll(jobs);
+
+        // Built from the database, in batches that don't divide the row count
+        JobColumnarSnapshot snapshot = new JobColumnarSnapshot(jobRepository, 37);
+        snapshot.rebuild();
+
+        for (int i = 0; i < 300; i++) {
+            JobFilter filter = JobColumnarSnapshotTest.randomFilter(random);
+            Sort sort = JobColumnarSnapshotTest.randomSort(random);
+            long[] expected = jobRepository.findAll(JobSpecification.fromFilter(filter), sort).stream()
+                    .mapToLong(Job::getId)
+                    .toArray();
+            assertArrayEquals(expected, snapshot.findIds(filter, sort),
+                    "filter " + JobColumnarSnapshotTest.describe(filter) + " sorted by " + sort);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import com.MicroServices.JobApp.Repository.JobRepository;
+import com.MicroServices.JobApp.Utils.JobFilterMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobColumnarSnapshotTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+    private static final Sort BY_ID = Sort.by("id");
+    private static final String[] LOCATIONS = {"Remote", "remote - EU", "New York", "new york city", "Berlin",
+            "100%_Remote", "100% Remote", "Pune"};
+
+    // Rows "in the database", served to the snapshot build page by page
+    private final Map<Long, Job> table = new LinkedHashMap<>();
+    private JobColumnarSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        JobRepository jobRepository = mock(JobRepository.class);
+        when(jobRepository.findByIdGreaterThan(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            Long after = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            List<Job> rest = table.values().stream()
+                    .filter(job -> job.getId() > after)
+                    .sorted(Comparator.comparing(Job::getId))
+                    .toList();
+            List<Job> content = rest.subList(0, Math.min(pageable.getPageSize(), rest.size()));
+            return new SliceImpl<>(content, pageable, rest.size() > content.size());
+        });
+        // Small batches so the build has to page
+        snapshot = new JobColumnarSnapshot(jobRepository, 3);
+    }
+
+    @Test
+    void isNotServingUntilBuilt() {
+        assertFalse(snapshot.canServe(new JobFilter()));
+        snapshot.rebuild();
+        assertTrue(snapshot.canServe(new JobFilter()));
+    }
+
+    @Test
+    void titleCriteriaAreLeftToTheDatabase() {
+        snapshot.rebuild();
+        JobFilter byTitle = new JobFilter();
+        byTitle.setTitle("Java Developer");
+        JobFilter byTitleContains = new JobFilter();
+        byTitleContains.setTitleContains("java");
+
+        assertFalse(snapshot.canServe(byTitle));
+        assertFalse(snapshot.canServe(byTitleContains));
+    }
+
+    @Test
+    void rebuildLoadsEveryPage() {
+        for (long id = 1; id <= 10; id++) {
+            save(job(id, EmploymentType.FULL_TIME, 2, "Remote", TODAY, null, true));
+        }
+        snapshot.rebuild();
+
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, snapshot.findIds(new JobFilter(), BY_ID));
+    }
+
+    @Test
+    void locationIsACaseInsensitiveLiteralSubstring() {
+        save(job(1, EmploymentType.FULL_TIME, 2, "Remote", TODAY, null, true));
+        save(job(2, EmploymentType.FULL_TIME, 2, "remote - EU", TODAY, null, true));
+        save(job(3, EmploymentType.FULL_TIME, 2, "Berlin", TODAY, null, true));
+        save(job(4, EmploymentType.FULL_TIME, 2, "100%_Remote", TODAY, null, true));
+        save(job(5, EmploymentType.FULL_TIME, 2, "100% Remote", TODAY, null, true));
+        snapshot.rebuild();
+
+        assertArrayEquals(new long[]{1, 2, 4, 5}, snapshot.findIds(location("REMOTE"), BY_ID));
+        // LIKE wildcards in the input are matched literally, as the escaped ILIKE does
+        assertArrayEquals(new long[]{4}, snapshot.findIds(location("%_"), BY_ID));
+        assertArrayEquals(new long[]{4, 5}, snapshot.findIds(location("%"), BY_ID));
+        assertArrayEquals(new long[]{}, snapshot.findIds(location("Paris"), BY_ID));
+    }
+
+    @Test
+    void employmentTypeSelectionMatchesAnyOfItsTypes() {
+        save(job(1, EmploymentType.FULL_TIME, 2, "Remote", TODAY, null, true));
+        save(job(2, EmploymentType.CONTRACT, 2, "Remote", TODAY, null, true));
+        save(job(3, EmploymentType.INTERNSHIP, 2, "Remote", TODAY, null, true));
+        snapshot.rebuild();
+
+        JobFilter filter = new JobFilter();
+        filter.setEmploymentType("Full-Time|contract");
+        assertArrayEquals(new long[]{1, 2}, snapshot.findIds(filter, BY_ID));
+
+        filter.setEmploymentType("OTHER");
+        assertArrayEquals(new long[]{}, snapshot.findIds(filter, BY_ID));
+
+        filter.setEmploymentType("FREELANCE");
+        assertThrows(IllegalArgumentException.class, () -> snapshot.findIds(filter, BY_ID));
+    }
+
+    @Test
+    void rangeBoundsFollowTheSpecification() {
+        save(job(1, EmploymentType.FULL_TIME, 1, "Remote", TODAY.minusDays(10), TODAY.plusDays(5), true));
+        save(job(2, EmploymentType.FULL_TIME, 3, "Remote", TODAY.minusDays(5), TODAY.plusDays(10), true));
+        save(job(3, EmploymentType.FULL_TIME, 5, "Remote", TODAY, null, true));
+        snapshot.rebuild();
+
+        // Experience bounds are inclusive
+        JobFilter experience = new JobFilter();
+        experience.setExperienceRequiredGte(1);
+        experience.setExperienceRequiredLte(3);
+        assertArrayEquals(new long[]{1, 2}, snapshot.findIds(experience, BY_ID));
+
+        // postedDateAfter is inclusive (>=)
+        JobFilter posted = new JobFilter();
+        posted.setPostedDateAfter(TODAY.minusDays(5));
+        assertArrayEquals(new long[]{2, 3}, snapshot.findIds(posted, BY_ID));
+
+        // deadlineBefore is exclusive (<) and never matches a job without a deadline
+        JobFilter deadline = new JobFilter();
+        deadline.setDeadlineBefore(TODAY.plusDays(10));
+        assertArrayEquals(new long[]{1}, snapshot.findIds(deadline, BY_ID));
+        deadline.setDeadlineBefore(TODAY.plusYears(100));
+        assertArrayEquals(new long[]{1, 2}, snapshot.findIds(deadline, BY_ID));
+    }
+
+    @Test
+    void activeFilterIsTriState() {
+        save(job(1, EmploymentType.FULL_TIME, 2, "Remote", TODAY, null, true));
+        save(job(2, EmploymentType.FULL_TIME, 2, "Remote", TODAY, null, false));
+        snapshot.rebuild();
+
+        JobFilter filter = new JobFilter();
+        assertArrayEquals(new long[]{1, 2}, snapshot.findIds(filter, BY_ID));
+        filter.setActive(true);
+        assertArrayEquals(new long[]{1}, snapshot.findIds(filter, BY_ID));
+        filter.setActive(false);
+        assertArrayEquals(new long[]{2}, snapshot.findIds(filter, BY_ID));
+    }
+
+    @Test
+    void missingDeadlineSortsLastAscendingAndFirstDescending() {
+        save(job(1, EmploymentType.FULL_TIME, 2, "Remote", TODAY, TODAY.plusDays(3), true));
+        save(job(2, EmploymentType.FULL_TIME, 2, "Remote", TODAY, null, true));
+        save(job(3, EmploymentType.FULL_TIME, 2, "Remote", TODAY, TODAY.plusDays(1), true));
+        save(job(4, EmploymentType.FULL_TIME, 2, "Remote", TODAY, TODAY.plusDays(3), true));
+        snapshot.rebuild();
+
+        assertArrayEquals(new long[]{3, 4, 1, 2},
+                snapshot.findIds(new JobFilter(), Sort.by(Sort.Order.asc("deadline"), Sort.Order.desc("id"))));
+        assertArrayEquals(new long[]{2, 1, 4, 3},
+                snapshot.findIds(new JobFilter(), Sort.by(Sort.Order.desc("deadline"), Sort.Order.asc("id"))));
+    }
+
+    @Test
+    void unknownSortPropertyIsRejected() {
+        snapshot.rebuild();
+        assertThrows(IllegalArgumentException.class, () -> snapshot.findIds(new JobFilter(), Sort.by("title")));
+    }
+
+    @Test
+    void updatesMoveAJobBetweenValuesAndDeletesFreeItsSlot() {
+        Job job = save(job(1, EmploymentType.FULL_TIME, 2, "Berlin", TODAY, null, true));
+        snapshot.rebuild();
+
+        job.setLocation("Remote");
+        job.setEmploymentType(EmploymentType.CONTRACT);
+        snapshot.onJobChanged(new JobChangedEvent(JobChangedEvent.ChangeType.UPDATED, job, true));
+        assertArrayEquals(new long[]{}, snapshot.findIds(location("berlin"), BY_ID));
+        assertArrayEquals(new long[]{1}, snapshot.findIds(location("remote"), BY_ID));
+        JobFilter fullTime = new JobFilter();
+        fullTime.setEmploymentType("FULL_TIME");
+        assertArrayEquals(new long[]{}, snapshot.findIds(fullTime, BY_ID));
+
+        snapshot.onJobChanged(new JobChangedEvent(JobChangedEvent.ChangeType.DELETED, job));
+        assertArrayEquals(new long[]{}, snapshot.findIds(new JobFilter(), BY_ID));
+
+        // The freed slot is reused without carrying over anything of the deleted job
+        Job next = job(2, EmploymentType.INTERNSHIP, 0, "Pune", TODAY, null, false);
+        snapshot.onJobChanged(new JobChangedEvent(JobChangedEvent.ChangeType.CREATED, next));
+        assertArrayEquals(new long[]{2}, snapshot.findIds(new JobFilter(), BY_ID));
+        assertArrayEquals(new long[]{}, snapshot.findIds(location("remote"), BY_ID));
+    }
+
+    @Test
+    void matchesTheFilterMatcherUnderRandomWritesAndFilters() {
+        Random random = new Random(7);
+        for (long id = 1; id <= 300; id++) {
+            save(randomJob(random, id));
+        }
+        snapshot.rebuild();
+
+        long nextId = 301;
+        for (int step = 0; step < 2_000; step++) {
+            int operation = random.nextInt(10);
+            List<Long> ids = new ArrayList<>(table.keySet());
+            if (operation < 2 || ids.isEmpty()) {
+                Job created = save(randomJob(random, nextId++));
+                snapshot.onJobChanged(new JobChangedEvent(JobChangedEvent.ChangeType.CREATED, created));
+            } else if (operation < 5) {
+                Job updated = save(randomJob(random, ids.get(random.nextInt(ids.size()))));
+                snapshot.onJobChanged(new JobChangedEvent(JobChangedEvent.ChangeType.UPDATED, updated));
+            } else if (operation < 6) {
+                Job deleted = table.remove(ids.get(random.nextInt(ids.size())));
+                snapshot.onJobChanged(new JobChangedEvent(JobChangedEvent.ChangeType.DELETED, deleted));
+            } else {
+                JobFilter filter = randomFilter(random);
+                Sort sort = randomSort(random);
+                assertArrayEquals(expectedIds(filter, sort), snapshot.findIds(filter, sort),
+                        "filter " + describe(filter) + " sorted by " + sort);
+            }
+        }
+
+        // A rebuild from the table ends up in the same state as the events did
+        for (int i = 0; i < 200; i++) {
+            JobFilter filter = randomFilter(random);
+            Sort sort = randomSort(random);
+            long[] beforeRebuild = snapshot.findIds(filter, sort);
+            snapshot.rebuild();
+            assertArrayEquals(beforeRebuild, snapshot.findIds(filter, sort));
+        }
+    }
+
+    private Job save(Job job) {
+        table.put(job.getId(), job);
+        return job;
+    }
+
+    private long[] expectedIds(JobFilter filter, Sort sort) {
+        JobFilterMatcher matcher = JobFilterMatcher.of(filter);
+        return table.values().stream()
+                .filter(matcher)
+                .sorted(comparator(sort))
+                .mapToLong(Job::getId)
+                .toArray();
+    }
+
+    // Reference order with PostgreSQL's NULL placement: last ascending, first descending
+    static Comparator<Job> comparator(Sort sort) {
+        Comparator<Job> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Job> next = switch (order.getProperty()) {
+                case "postedDate" -> Comparator.comparing(Job::getPostedDate);
+                case "deadline" -> Comparator.comparing(Job::getDeadline, Comparator.nullsLast(Comparator.naturalOrder()));
+                case "experienceRequired" -> Comparator.comparing(Job::getExperienceRequired);
+                case "id" -> Comparator.comparing(Job::getId);
+                default -> throw new IllegalArgumentException(order.getProperty());
+            };
+            comparator = comparator.thenComparing(order.isDescending() ? next.reversed() : next);
+        }
+        return comparator;
+    }
+
+    static Job job(long id, EmploymentType employmentType, int experienceRequired, String location,
+                   LocalDate postedDate, LocalDate deadline, boolean active) {
+        Job job = new Job("Job " + id, employmentType, experienceRequired, location, postedDate, deadline,
+                null, null, active, null);
+        job.setId(id);
+        return job;
+    }
+
+    static Job randomJob(Random random, long id) {
+        EmploymentType[] types = EmploymentType.values();
+        LocalDate deadline = random.nextInt(4) == 0 ? null : TODAY.plusDays(random.nextInt(60) - 10);
+        return job(id, types[random.nextInt(types.length)], random.nextInt(12), LOCATIONS[random.nextInt(LOCATIONS.length)],
+                TODAY.minusDays(random.nextInt(30)), deadline, random.nextInt(5) != 0);
+    }
+
+    static JobFilter randomFilter(Random random) {
+        String[] needles = {"remote", "REM", "york", "new york", "%", "_", "%_", "0% r", "", "paris"};
+        String[] typeSelections = {"FULL_TIME", "contract", "Full-Time|CONTRACT", "INTERNSHIP|TEMPORARY|OTHER", "PART_TIME"};
+        JobFilter filter = new JobFilter();
+        if (random.nextInt(3) == 0) {
+            filter.setLocation(needles[random.nextInt(needles.length)]);
+        }
+        if (random.nextInt(3) == 0) {
+            filter.setEmploymentType(typeSelections[random.nextInt(typeSelections.length)]);
+        }
+        if (random.nextInt(3) == 0) {
+            filter.setExperienceRequiredGte(random.nextInt(14) - 1);
+        }
+        if (random.nextInt(3) == 0) {
+            filter.setExperienceRequiredLte(random.nextInt(14) - 1);
+        }
+        if (random.nextInt(3) == 0) {
+            filter.setPostedDateAfter(TODAY.minusDays(random.nextInt(35)));
+        }
+        if (random.nextInt(3) == 0) {
+            filter.setDeadlineBefore(TODAY.plusDays(random.nextInt(70) - 15));
+        }
+        if (random.nextInt(3) == 0) {
+            filter.setActive(random.nextBoolean());
+        }
+        return filter;
+    }
+
+    // The sorts the filter endpoints produce: up to two sortable fields, always ending on id
+    static Sort randomSort(Random random) {
+        String[] fields = {"postedDate", "deadline", "experienceRequired"};
+        List<Sort.Order> orders = new ArrayList<>();
+        int fieldCount = random.nextInt(3);
+        for (int i = 0; i < fieldCount; i++) {
+            String field = fields[random.nextInt(fields.length)];
+            orders.add(random.nextBoolean() ? Sort.Order.asc(field) : Sort.Order.desc(field));
+        }
+        orders.add(random.nextBoolean() ? Sort.Order.asc("id") : Sort.Order.desc("id"));
+        return Sort.by(orders);
+    }
+
+    static String describe(JobFilter filter) {
+        return "{employmentType=" + filter.getEmploymentType() + ", location=" + filter.getLocation()
+                + ", experience=" + filter.getExperienceRequiredGte() + ".." + filter.getExperienceRequiredLte()
+                + ", postedDateAfter=" + filter.getPostedDateAfter() + ", deadlineBefore=" + filter.getDeadlineBefore()
+                + ", active=" + filter.getActive() + "}";
+    }
+
+    private static JobFilter location(String location) {
+        JobFilter filter = new JobFilter();
+        filter.setLocation(location);
+        return filter;
+    }
+}
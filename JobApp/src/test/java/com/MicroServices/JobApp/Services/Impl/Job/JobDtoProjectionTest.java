@@ -0,0 +1,124 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Entity.Company;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Mapper.EntityDtoMapper;
+import com.MicroServices.JobApp.Mapper.EntityDtoMapperImpl;
+import com.MicroServices.JobApp.Repository.JobRepository;
+import com.MicroServices.JobApp.Utils.JobSpecification;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The JobDTO projections must produce exactly what mapping the loaded entities produces, compared as the JSON the
+ * endpoints send.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:listings;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobDtoProjectionTest {
+
+    private final EntityDtoMapper mapper = new EntityDtoMapperImpl();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final Random random = new Random(5);
+
+    @BeforeEach
+    void setUp() {
+        Company[] companies = new Company[3];
+        for (int i = 0; i < companies.length; i++) {
+            companies[i] = entityManager.persist(new Company("Company " + i, i == 0 ? null : "Builds things", "https://c" + i + ".example",
+                    "jobs@c" + i + ".example", "+10000000000", "Street " + i, "Software", 1990 + i, 10 * (i + 1), i != 2, null));
+        }
+        for (int i = 0; i < 150; i++) {
+            Job job = JobColumnarSnapshotTest.randomJob(random, 0);
+            job.setId(null);
+            job.setContactEmail(random.nextBoolean() ? null : "hr" + i + "@example.com");
+            // Some jobs have no company, which the left join has to keep
+            job.setCompany(random.nextInt(5) == 0 ? null : companies[random.nextInt(companies.length)]);
+            entityManager.persist(job);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void allJobDtosMatchTheMappedEntities() {
+        for (int i = 0; i < 60; i++) {
+            JobFilter filter = JobColumnarSnapshotTest.randomFilter(random);
+            Specification<Job> spec = JobSpecification.fromFilter(filter);
+            Sort sort = JobColumnarSnapshotTest.randomSort(random);
+
+            assertEquals(json(mapped(jobRepository.findAll(spec, sort))), json(jobRepository.findAllJobDtos(spec, sort)),
+                    "filter " + JobColumnarSnapshotTest.describe(filter) + " sorted by " + sort);
+        }
+    }
+
+    @Test
+    void pagesAndSlicesMatchTheMappedEntities() {
+        Sort sort = Sort.by("id");
+        List<Job> all = jobRepository.findAll(sort);
+        int size = 7;
+        for (int page = 0; page * size < all.size() + size; page++) {
+            PageRequest pageable = PageRequest.of(page, size, sort);
+            List<Job> expected = all.subList(Math.min(page * size, all.size()), Math.min((page + 1) * size, all.size()));
+
+            Page<JobDTO> jobPage = jobRepository.findJobDtos(null, pageable);
+            assertEquals(json(mapped(expected)), json(jobPage.getContent()));
+            assertEquals(all.size(), jobPage.getTotalElements());
+
+            Slice<JobDTO> jobSlice = jobRepository.findJobDtoSlice(null, pageable);
+            assertEquals(json(mapped(expected)), json(jobSlice.getContent()));
+            assertEquals((page + 1) * size < all.size(), jobSlice.hasNext());
+        }
+    }
+
+    @Test
+    void jobWithoutCompanyHasNoEmbeddedCompany() {
+        List<JobDTO> jobs = jobRepository.findAllJobDtos(null, Sort.by("id"));
+
+        assertTrue(jobs.stream().anyMatch(job -> job.getCompany() == null));
+        assertFalse(jobs.stream().anyMatch(job -> job.getCompany() != null && job.getCompany().getId() == null));
+    }
+
+    private List<JobDTO> mapped(List<Job> jobs) {
+        return jobs.stream().map(mapper::toJobDto).toList();
+    }
+
+    private JsonNode json(List<JobDTO> jobs) {
+        return objectMapper.valueToTree(jobs);
+    }
+}
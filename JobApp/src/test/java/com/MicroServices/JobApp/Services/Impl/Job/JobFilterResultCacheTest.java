@@ -0,0 +1,137 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import com.MicroServices.JobApp.Dto.Job.JobFilter;
+import com.MicroServices.JobApp.Events.CompanyChangedEvent;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JobFilterResultCacheTest {
+
+    private JobFilterResultCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<Slice<JobDTO>> loader = () -> {
+        loads.incrementAndGet();
+        return new SliceImpl<>(List.of(new JobDTO()));
+    };
+
+    @BeforeEach
+    void setUp() {
+        cache = new JobFilterResultCache(new ConcurrentMapCacheManager());
+    }
+
+    @Test
+    void sameFilterIsLoadedOnce() {
+        Slice<JobDTO> first = cache.get(filter("Remote", "FULL_TIME"), loader);
+        Slice<JobDTO> second = cache.get(filter("Remote", "FULL_TIME"), loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void caseInsensitiveCriteriaAndEquivalentTypeSelectionsShareAnEntry() {
+        cache.get(filter("Remote", "Full-Time|CONTRACT"), loader);
+        cache.get(filter("REMOTE", "contract|FULL_TIME"), loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void everyCriterionIsPartOfTheKey() {
+        cache.get(new JobFilter(), loader);
+
+        JobFilter title = new JobFilter();
+        title.setTitle("Java Developer");
+        cache.get(title, loader);
+        // Exact title match is case-sensitive in SQL, so it must not be folded
+        JobFilter otherCaseTitle = new JobFilter();
+        otherCaseTitle.setTitle("java developer");
+        cache.get(otherCaseTitle, loader);
+
+        JobFilter experience = new JobFilter();
+        experience.setExperienceRequiredGte(2);
+        cache.get(experience, loader);
+        JobFilter experienceUpperBound = new JobFilter();
+        experienceUpperBound.setExperienceRequiredLte(2);
+        cache.get(experienceUpperBound, loader);
+
+        JobFilter deadline = new JobFilter();
+        deadline.setDeadlineBefore(LocalDate.of(2025, 1, 1));
+        cache.get(deadline, loader);
+
+        JobFilter active = new JobFilter();
+        active.setActive(true);
+        cache.get(active, loader);
+        JobFilter inactive = new JobFilter();
+        inactive.setActive(false);
+        cache.get(inactive, loader);
+
+        JobFilter sorted = new JobFilter();
+        sorted.setSort("deadline");
+        cache.get(sorted, loader);
+
+        assertEquals(9, loads.get());
+    }
+
+    @Test
+    void jobWriteInvalidatesEveryEntry() {
+        cache.get(filter("Remote", null), loader);
+        cache.get(filter(null, "CONTRACT"), loader);
+
+        cache.onJobChanged(new JobChangedEvent(JobChangedEvent.ChangeType.UPDATED,
+                JobColumnarSnapshotTest.job(1, EmploymentType.CONTRACT, 1, "Remote", LocalDate.now(), null, true)));
+        cache.get(filter("Remote", null), loader);
+        cache.get(filter(null, "CONTRACT"), loader);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void companyWriteInvalidatesEveryEntry() {
+        cache.get(filter("Remote", null), loader);
+
+        cache.onCompanyChanged(new CompanyChangedEvent(CompanyChangedEvent.ChangeType.UPDATED, 1L));
+        cache.get(filter("Remote", null), loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void loaderExceptionIsRethrownUnwrappedAndNotCached() {
+        JobFilter filter = filter("Remote", null);
+        assertThrows(IllegalArgumentException.class, () -> cache.get(filter, () -> {
+            throw new IllegalArgumentException("Invalid sort field");
+        }));
+
+        cache.get(filter, loader);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidEmploymentTypeIsRejectedBeforeLoading() {
+        assertThrows(IllegalArgumentException.class, () -> cache.get(filter(null, "FREELANCE"), loader));
+        assertEquals(0, loads.get());
+    }
+
+    private static JobFilter filter(String location, String employmentType) {
+        JobFilter filter = new JobFilter();
+        filter.setLocation(location);
+        filter.setEmploymentType(employmentType);
+        return filter;
+    }
+}
@@ -0,0 +1,142 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Helper.CursorPage;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
+import com.MicroServices.JobApp.Mapper.EntityDtoMapperImpl;
+import com.MicroServices.JobApp.Repository.JobRepository;
+import com.MicroServices.JobApp.Utils.CursorCodec;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Walking {@code getJobsAfter} cursor by cursor must visit every job exactly once, newest first, even when many
+ * jobs share a posted date and rows are inserted between pages.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:keyset;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobKeysetPaginationTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private JobServicesImpl jobServices;
+    private final Random random = new Random(11);
+
+    @BeforeEach
+    void setUp() {
+        jobServices = new JobServicesImpl(jobRepository, new DtoMapper(new EntityDtoMapperImpl(), new ModelMapper(), "generated"),
+                mock(ApplicationEventPublisher.class), mock(JobFilterResultCache.class), mock(JobColumnarSnapshot.class),
+                new JobValidator(Validation.buildDefaultValidatorFactory().getValidator()), 1000, 100);
+        // Few distinct dates, so most page boundaries fall inside a run of equal posted dates
+        for (int i = 0; i < 95; i++) {
+            persist(TODAY.minusDays(random.nextInt(6)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void cursorsVisitEveryJobOnceNewestFirst() {
+        List<Job> expected = new ArrayList<>(jobRepository.findAll());
+        expected.sort(Comparator.comparing(Job::getPostedDate).thenComparing(Job::getId).reversed());
+
+        for (int pageSize : new int[]{1, 7, 10, 95, 100}) {
+            List<Long> seen = new ArrayList<>();
+            String cursor = null;
+            CursorPage<JobDTO> page;
+            do {
+                page = jobServices.getJobsAfter(cursor, pageSize);
+                page.getContent().forEach(job -> seen.add(job.getId()));
+                cursor = page.getNextCursor();
+                assertEquals(page.isHasNext(), cursor != null);
+                // A cursor that doesn't advance would page forever
+                assertTrue(seen.size() <= expected.size(), "page size " + pageSize + " revisits jobs");
+            } while (page.isHasNext());
+
+            assertEquals(expected.stream().map(Job::getId).toList(), seen, "page size " + pageSize);
+        }
+    }
+
+    @Test
+    void jobsPostedAfterTheFirstPageDoNotShiftTheRest() {
+        CursorPage<JobDTO> first = jobServices.getJobsAfter(null, 20);
+        JobDTO lastSeen = first.getContent().get(19);
+
+        // Newer than anything listed, and an older one that belongs in a later page
+        persist(TODAY.plusDays(1));
+        Job older = persist(TODAY.minusDays(30));
+        entityManager.flush();
+
+        List<Long> rest = new ArrayList<>();
+        String cursor = first.getNextCursor();
+        CursorPage<JobDTO> page;
+        do {
+            page = jobServices.getJobsAfter(cursor, 20);
+            page.getContent().forEach(job -> rest.add(job.getId()));
+            cursor = page.getNextCursor();
+            assertTrue(rest.size() <= 96, "cursor revisits jobs");
+        } while (page.isHasNext());
+
+        assertEquals(95 - 20 + 1, rest.size());
+        assertEquals(older.getId(), rest.get(rest.size() - 1));
+        assertFalse(rest.contains(lastSeen.getId()));
+    }
+
+    @Test
+    void pageSizeIsClampedAndTheLastPageHasNoCursor() {
+        CursorPage<JobDTO> all = jobServices.getJobsAfter(null, 1000);
+        assertEquals(95, all.getSize());
+        assertFalse(all.isHasNext());
+        assertNull(all.getNextCursor());
+
+        assertEquals(1, jobServices.getJobsAfter("", 0).getSize());
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        for (String cursor : new String[]{"%%%", CursorCodec.encode("2025-03-01"), CursorCodec.encode("yesterday", 4),
+                CursorCodec.encode("2025-03-01", "four")}) {
+            assertThrows(IllegalArgumentException.class, () -> jobServices.getJobsAfter(cursor, 10), cursor);
+        }
+    }
+
+    private Job persist(LocalDate postedDate) {
+        return entityManager.persist(new Job("Engineer", EmploymentType.FULL_TIME, 2, "Remote", postedDate,
+                null, null, null, true, null));
+    }
+}
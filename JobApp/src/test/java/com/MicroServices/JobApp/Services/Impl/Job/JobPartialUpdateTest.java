@@ -0,0 +1,137 @@
+package com.MicroServices.JobApp.Services.Impl.Job;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Dto.Job.JobDTO;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
+import com.MicroServices.JobApp.Mapper.EntityDtoMapperImpl;
+import com.MicroServices.JobApp.Repository.JobRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.MicroServices.JobApp.Services.Impl.Job.JobColumnarSnapshotTest.job;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PATCH only writes whitelisted fields, and the patched job has to pass the same {@link JobValidator} rules as
+ * a bulk insert before anything is saved.
+ */
+class JobPartialUpdateTest {
+
+    private static final LocalDate POSTED = LocalDate.of(2025, 3, 1);
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private JobServicesImpl jobServices;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        DtoMapper dtoMapper = new DtoMapper(new EntityDtoMapperImpl(), new ModelMapper(), "generated");
+        JobValidator jobValidator = new JobValidator(Validation.buildDefaultValidatorFactory().getValidator());
+        jobServices = new JobServicesImpl(jobRepository, dtoMapper, eventPublisher, mock(JobFilterResultCache.class),
+                mock(JobColumnarSnapshot.class), jobValidator, 1000, 100);
+
+        job = job(7, EmploymentType.FULL_TIME, 3, "Remote", POSTED, POSTED.plusDays(30), true);
+        job.setVersion(4L);
+        when(jobRepository.findById(7)).thenReturn(Optional.of(job));
+        when(jobRepository.saveAndFlush(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void validPatchWritesOnlyTheGivenFields() {
+        JobDTO updated = jobServices.partialUpdateJob(7, patch(Map.of(
+                "location", "Berlin", "employmentType", "part-time", "active", false)), 4L);
+
+        assertEquals("Berlin", updated.getLocation());
+        assertEquals("PART_TIME", updated.getEmploymentType());
+        assertEquals(false, updated.getIsActive());
+        assertEquals("Job 7", updated.getTitle());
+        assertEquals(POSTED.plusDays(30), updated.getDeadline());
+        verify(jobRepository).saveAndFlush(job);
+        verify(eventPublisher).publishEvent(any(JobChangedEvent.class));
+    }
+
+    @Test
+    void patchThatChangesNothingIsNotSaved() {
+        jobServices.partialUpdateJob(7, patch(Map.of("location", "Remote")), 4L);
+
+        verify(jobRepository, never()).saveAndFlush(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void fieldsOutsideTheWhitelistAreRejected() {
+        for (String field : new String[]{"id", "version", "company", "salary"}) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> jobServices.partialUpdateJob(7, patch(Map.of(field, 1)), 4L));
+            assertTrue(e.getMessage().contains("'" + field + "'"), e.getMessage());
+        }
+        assertEquals("Remote", job.getLocation());
+        verify(jobRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void rejectedPatchLeavesTheEntityUntouched() {
+        HashMap<String, Object> patch = new HashMap<>();
+        patch.put("location", "Berlin");
+        patch.put("title", null);
+
+        assertThrows(IllegalArgumentException.class, () -> jobServices.partialUpdateJob(7, patch, 4L));
+        assertEquals("Remote", job.getLocation());
+        assertEquals("Job 7", job.getTitle());
+    }
+
+    @Test
+    void invalidContactEmailIsRejectedBeforeSaving() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> jobServices.partialUpdateJob(7, patch(Map.of("contactEmail", "not-an-email")), 4L));
+
+        assertTrue(e.getMessage().contains("contactEmail"), e.getMessage());
+        verify(jobRepository, never()).saveAndFlush(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void deadlineBeforeThePostedDateIsRejectedBeforeSaving() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> jobServices.partialUpdateJob(7, patch(Map.of("deadline", POSTED.minusDays(1).toString())), 4L));
+
+        assertTrue(e.getMessage().contains("deadline"), e.getMessage());
+        verify(jobRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void postedDateMovedPastTheDeadlineIsRejectedToo() {
+        assertThrows(IllegalArgumentException.class,
+                () -> jobServices.partialUpdateJob(7, patch(Map.of("postedDate", POSTED.plusDays(31).toString())), 4L));
+        verify(jobRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void negativeExperienceIsRejectedBeforeSaving() {
+        assertThrows(IllegalArgumentException.class,
+                () -> jobServices.partialUpdateJob(7, patch(Map.of("experienceRequired", -1)), 4L));
+        verify(jobRepository, never()).saveAndFlush(any());
+    }
+
+    private static HashMap<String, Object> patch(Map<String, Object> fields) {
+        return new HashMap<>(fields);
+    }
+}
@@ -0,0 +1,131 @@
+package com.MicroServices.JobApp.Services.Impl.Review;
+
+import com.MicroServices.JobApp.Dto.Review.ReviewDTO;
+import com.MicroServices.JobApp.Entity.Company;
+import com.MicroServices.JobApp.Entity.Review;
+import com.MicroServices.JobApp.Exceptions.ResourceNotFoundException;
+import com.MicroServices.JobApp.Helper.CursorPage;
+import com.MicroServices.JobApp.Mapper.DtoMapper;
+import com.MicroServices.JobApp.Mapper.EntityDtoMapperImpl;
+import com.MicroServices.JobApp.Repository.CompanyRepository;
+import com.MicroServices.JobApp.Repository.ReviewRepository;
+import com.MicroServices.JobApp.Services.Impl.Company.CompanyStatsServices;
+import com.MicroServices.JobApp.Utils.CursorCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Walking a company's reviews cursor by cursor, in any of the review sorts, must visit each of its reviews exactly
+ * once in the documented order and never a review of another company.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reviews;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ReviewKeysetPaginationTest {
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ReviewServicesImpl reviewServices;
+    private Company company;
+    private final List<Review> reviews = new ArrayList<>();
+    private final Random random = new Random(17);
+
+    @BeforeEach
+    void setUp() {
+        reviewServices = new ReviewServicesImpl(companyRepository, reviewRepository,
+                new DtoMapper(new EntityDtoMapperImpl(), new ModelMapper(), "generated"), mock(CompanyStatsServices.class));
+
+        company = entityManager.persist(company("Reviewed"));
+        Company other = entityManager.persist(company("Other"));
+        // Interleaved with another company's reviews, and only five ratings, so most rating pages end inside a tie
+        for (int i = 0; i < 140; i++) {
+            boolean own = random.nextInt(3) != 0;
+            Review review = entityManager.persist(
+                    new Review("Reviewer " + i, 1 + random.nextInt(5), null, own ? company : other));
+            if (own) {
+                reviews.add(review);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void everySortVisitsEachReviewOnceInOrder() {
+        Comparator<Review> byId = Comparator.comparing(Review::getId);
+        Comparator<Review> byRating = Comparator.comparing(Review::getRating);
+        assertSorted("recent", byId.reversed());
+        assertSorted("rating_desc", byRating.thenComparing(byId).reversed());
+        assertSorted("rating_asc", byRating.thenComparing(byId));
+        // Default order and the enum names are accepted too
+        assertSorted(null, byId.reversed());
+        assertSorted("RATING_DESC", byRating.thenComparing(byId).reversed());
+    }
+
+    @Test
+    void cursorsOfTheWrongShapeAreRejected() {
+        String recentCursor = CursorCodec.encode(5);
+        String ratingCursor = CursorCodec.encode(4, 5);
+        int companyId = company.getId().intValue();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> reviewServices.getAllReviewsBasedOnCompanyId(companyId, ratingCursor, 10, "recent"));
+        assertThrows(IllegalArgumentException.class,
+                () -> reviewServices.getAllReviewsBasedOnCompanyId(companyId, recentCursor, 10, "rating_desc"));
+        assertThrows(IllegalArgumentException.class,
+                () -> reviewServices.getAllReviewsBasedOnCompanyId(companyId, CursorCodec.encode("x", 5), 10, "rating_asc"));
+        assertThrows(IllegalArgumentException.class,
+                () -> reviewServices.getAllReviewsBasedOnCompanyId(companyId, null, 10, "best"));
+        assertThrows(ResourceNotFoundException.class,
+                () -> reviewServices.getAllReviewsBasedOnCompanyId(999_999, null, 10, null));
+    }
+
+    private void assertSorted(String sort, Comparator<Review> order) {
+        List<Long> expected = reviews.stream().sorted(order).map(Review::getId).toList();
+        for (int pageSize : new int[]{1, 4, 9, 100}) {
+            List<Long> seen = new ArrayList<>();
+            String cursor = null;
+            CursorPage<ReviewDTO> page;
+            do {
+                page = reviewServices.getAllReviewsBasedOnCompanyId(company.getId().intValue(), cursor, pageSize, sort);
+                page.getContent().forEach(review -> seen.add(review.getId()));
+                cursor = page.getNextCursor();
+                assertTrue(seen.size() <= expected.size(), sort + " revisits reviews at page size " + pageSize);
+            } while (page.isHasNext());
+            assertEquals(expected, seen, sort + ", page size " + pageSize);
+        }
+    }
+
+    private static Company company(String name) {
+        return new Company(name, null, null, name.toLowerCase() + "@example.com", null, null, "Software", 2000, 10,
+                true, null);
+    }
+}
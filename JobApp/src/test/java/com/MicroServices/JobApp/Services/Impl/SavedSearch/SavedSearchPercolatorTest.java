@@ -0,0 +1,226 @@
+package com.MicroServices.JobApp.Services.Impl.SavedSearch;
+
+import com.MicroServices.JobApp.Constant.EmploymentType;
+import com.MicroServices.JobApp.Entity.Job;
+import com.MicroServices.JobApp.Entity.JobAlert;
+import com.MicroServices.JobApp.Entity.SavedSearch;
+import com.MicroServices.JobApp.Events.JobChangedEvent;
+import com.MicroServices.JobApp.Events.SavedSearchChangedEvent;
+import com.MicroServices.JobApp.Repository.JobAlertRepository;
+import com.MicroServices.JobApp.Repository.SavedSearchRepository;
+import com.MicroServices.JobApp.Utils.JobFilterMatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SavedSearchPercolatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+    private static final long USER_ID = 7;
+
+    private final List<JobAlert> queued = new ArrayList<>();
+    private JobAlertRepository jobAlertRepository;
+    private SavedSearchPercolator percolator;
+    private long nextJobId = 1;
+
+    @BeforeEach
+    void setUp() {
+        jobAlertRepository = mock(JobAlertRepository.class);
+        when(jobAlertRepository.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<JobAlert> alerts = invocation.getArgument(0);
+            alerts.forEach(queued::add);
+            return queued;
+        });
+        percolator = new SavedSearchPercolator(mock(SavedSearchRepository.class), jobAlertRepository,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 500);
+    }
+
+    @Test
+    void searchMatchesOnlyItsTypesAndExperienceRange() {
+        save(search(1, "FULL_TIME|CONTRACT", 2, 4));
+
+        assertEquals(Set.of(1L), matches(job(EmploymentType.FULL_TIME, 2)));
+        assertEquals(Set.of(1L), matches(job(EmploymentType.CONTRACT, 4)));
+        assertEquals(Set.of(), matches(job(EmploymentType.PART_TIME, 3)));
+        assertEquals(Set.of(), matches(job(EmploymentType.FULL_TIME, 1)));
+        assertEquals(Set.of(), matches(job(EmploymentType.FULL_TIME, 5)));
+    }
+
+    @Test
+    void searchWithoutTypeOrExperienceMatchesEveryJob() {
+        save(search(1, null, null, null));
+
+        for (EmploymentType type : EmploymentType.values()) {
+            assertEquals(Set.of(1L), matches(job(type, 0)));
+            assertEquals(Set.of(1L), matches(job(type, 15)));
+            assertEquals(Set.of(1L), matches(job(type, 40)));
+        }
+    }
+
+    @Test
+    void openEndedRangesReachPastTheLastExperienceColumn() {
+        save(search(1, null, 10, null));
+        save(search(2, null, 20, 25));
+        save(search(3, null, null, 3));
+
+        assertEquals(Set.of(1L), matches(job(EmploymentType.OTHER, 10)));
+        assertEquals(Set.of(1L), matches(job(EmploymentType.OTHER, 16)));
+        assertEquals(Set.of(1L, 2L), matches(job(EmploymentType.OTHER, 22)));
+        assertEquals(Set.of(1L), matches(job(EmploymentType.OTHER, 30)));
+        assertEquals(Set.of(3L), matches(job(EmploymentType.OTHER, 0)));
+        assertEquals(Set.of(), matches(job(EmploymentType.OTHER, 9)));
+    }
+
+    @Test
+    void emptyRangeMatchesNothing() {
+        save(search(1, null, 5, 3));
+
+        for (int experience = 0; experience < 20; experience++) {
+            assertEquals(Set.of(), matches(job(EmploymentType.FULL_TIME, experience)));
+        }
+    }
+
+    @Test
+    void criteriaOutsideTheBucketAreStillChecked() {
+        SavedSearch remote = search(1, "FULL_TIME", null, null);
+        remote.setLocation("remote");
+        save(remote);
+
+        Job inBerlin = job(EmploymentType.FULL_TIME, 2);
+        inBerlin.setLocation("Berlin");
+        assertEquals(Set.of(), matches(inBerlin));
+        assertEquals(Set.of(1L), matches(job(EmploymentType.FULL_TIME, 2)));
+    }
+
+    @Test
+    void updatedSearchLeavesItsOldBucketsAndDeletedSearchLeavesAll() {
+        SavedSearch savedSearch = save(search(1, "FULL_TIME", 2, 2));
+        savedSearch.setEmploymentType("CONTRACT");
+        save(savedSearch);
+
+        assertEquals(Set.of(), matches(job(EmploymentType.FULL_TIME, 2)));
+        assertEquals(Set.of(1L), matches(job(EmploymentType.CONTRACT, 2)));
+
+        percolator.onSavedSearchChanged(new SavedSearchChangedEvent(SavedSearchChangedEvent.ChangeType.DELETED, savedSearch, USER_ID));
+        assertEquals(Set.of(), matches(job(EmploymentType.CONTRACT, 2)));
+    }
+
+    @Test
+    void onlyNewActiveJobsAlert() {
+        save(search(1, null, null, null));
+
+        Job inactive = job(EmploymentType.FULL_TIME, 2);
+        inactive.setActive(false);
+        percolator.onJobChanged(new JobChangedEvent(JobChangedEvent.ChangeType.CREATED, inactive));
+        percolator.onJobChanged(new JobChangedEvent(JobChangedEvent.ChangeType.UPDATED, job(EmploymentType.FULL_TIME, 2), false));
+
+        assertEquals(List.of(), queued);
+    }
+
+    @Test
+    void failedAlertWriteDoesNotFailTheJobEvent() {
+        save(search(1, null, null, null));
+        doThrow(new IllegalStateException("database down")).when(jobAlertRepository).saveAll(any());
+
+        assertDoesNotThrow(() -> percolator.onJobChanged(
+                new JobChangedEvent(JobChangedEvent.ChangeType.CREATED, job(EmploymentType.FULL_TIME, 2))));
+    }
+
+    @Test
+    void matchesEverySearchTheMatcherMatches() {
+        Random random = new Random(3);
+        String[] typeSelections = {null, "FULL_TIME", "CONTRACT|PART_TIME", "INTERNSHIP|TEMPORARY|OTHER", "FULL_TIME|OTHER"};
+        String[] locations = {null, "remote", "york", "berlin"};
+        Map<Long, SavedSearch> searches = new HashMap<>();
+        for (long id = 1; id <= 400; id++) {
+            SavedSearch savedSearch = search(id, typeSelections[random.nextInt(typeSelections.length)],
+                    random.nextInt(3) == 0 ? null : random.nextInt(22) - 1,
+                    random.nextInt(3) == 0 ? null : random.nextInt(22) - 1);
+            savedSearch.setLocation(locations[random.nextInt(locations.length)]);
+            if (random.nextInt(4) == 0) {
+                savedSearch.setDeadlineBefore(TODAY.plusDays(random.nextInt(30)));
+            }
+            searches.put(id, save(savedSearch));
+        }
+        // Some of them change or go away again
+        for (int i = 0; i < 100; i++) {
+            List<Long> ids = new ArrayList<>(searches.keySet());
+            SavedSearch savedSearch = searches.get(ids.get(random.nextInt(ids.size())));
+            if (random.nextBoolean()) {
+                savedSearch.setExperienceRequiredGte(random.nextInt(22) - 1);
+                save(savedSearch);
+            } else {
+                percolator.onSavedSearchChanged(new SavedSearchChangedEvent(SavedSearchChangedEvent.ChangeType.DELETED, savedSearch, USER_ID));
+                searches.remove(savedSearch.getId());
+            }
+        }
+
+        String[] jobLocations = {"Remote", "New York", "Berlin", "Pune"};
+        EmploymentType[] types = EmploymentType.values();
+        for (int i = 0; i < 500; i++) {
+            Job job = job(types[random.nextInt(types.length)], random.nextInt(25));
+            job.setLocation(jobLocations[random.nextInt(jobLocations.length)]);
+            job.setDeadline(random.nextBoolean() ? null : TODAY.plusDays(random.nextInt(40)));
+
+            Set<Long> expected = new HashSet<>();
+            for (SavedSearch savedSearch : searches.values()) {
+                if (JobFilterMatcher.of(SavedSearchPercolator.toFilter(savedSearch)).test(job)) {
+                    expected.add(savedSearch.getId());
+                }
+            }
+            assertEquals(expected, matches(job), "job " + job);
+        }
+    }
+
+    private SavedSearch save(SavedSearch savedSearch) {
+        percolator.onSavedSearchChanged(new SavedSearchChangedEvent(SavedSearchChangedEvent.ChangeType.SAVED, savedSearch, USER_ID));
+        return savedSearch;
+    }
+
+    // Ids of the saved searches the job raised an alert for
+    private Set<Long> matches(Job job) {
+        queued.clear();
+        percolator.onJobChanged(new JobChangedEvent(JobChangedEvent.ChangeType.CREATED, job));
+        Set<Long> savedSearchIds = new HashSet<>();
+        for (JobAlert alert : queued) {
+            assertEquals(job.getId(), alert.getJobId());
+            assertEquals(USER_ID, alert.getUserId());
+            savedSearchIds.add(alert.getSavedSearchId());
+        }
+        assertEquals(queued.size(), savedSearchIds.size(), "one alert per saved search");
+        return savedSearchIds;
+    }
+
+    private static SavedSearch search(long id, String employmentType, Integer experienceGte, Integer experienceLte) {
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setId(id);
+        savedSearch.setName("Search " + id);
+        savedSearch.setEmploymentType(employmentType);
+        savedSearch.setExperienceRequiredGte(experienceGte);
+        savedSearch.setExperienceRequiredLte(experienceLte);
+        return savedSearch;
+    }
+
+    private Job job(EmploymentType employmentType, int experienceRequired) {
+        Job job = new Job("Job", employmentType, experienceRequired, "Remote", TODAY, null, null, null, true, null);
+        job.setId(nextJobId++);
+        return job;
+    }
+}